@@ -0,0 +1,180 @@
+package edu.ncsu.csc216.get_outdoors.model;
+
+import edu.ncsu.csc216.get_outdoors.util.BenchmarkHarness;
+
+/**
+ * Times ActivityList.addActivity, get2DArray, getChangesSince, valueAt and indexOfID
+ * on a list that already holds n activities. Results are written by BenchmarkHarness, so
+ * the same run can be repeated on another commit and the CSV files compared.
+ *
+ * Activities are named so that their names sort in numeric order. ActivityList has
+ * no way to remove an activity, so each addActivity batch builds a fresh list of n
+ * activities without timing it, then times up to 1000 adds: above the last name in
+ * increasing order (ascending), below the first name in decreasing order
+ * (descending), or spread over the list (random). indexOfID looks up IDs in
+ * ascending, descending or random order; since it scans the list, batches at the
+ * larger sizes are shorter. get2DArray does not depend on order and is timed per
+ * call. getChangesSince is timed after one edit, which is what a list pane reads
+ * after each change instead of calling get2DArray. valueAt is timed reading every
+ * cell of one screen of rows from the middle of the list, which is what a table
+ * over the live list reads to paint.
+ *
+ * Run with: java edu.ncsu.csc216.get_outdoors.model.ActivityListBenchmark
+ * [-n 1000,100000,1000000] [-o results.csv] [-f indexOfID]
+ *
+ * @author Noah Benveniste
+ */
+public class ActivityListBenchmark {
+
+	/** Most operations performed by one batch */
+	private static final int MAX_BATCH = 1000;
+	/** Number of rows a table shows at once */
+	private static final int SCREEN_ROWS = 40;
+	/** Number of activities scanned by one batch of indexOfID lookups */
+	private static final int SCAN_BUDGET = 1000000;
+
+	/**
+	 * Runs every benchmark at every size and order and writes the results.
+	 *
+	 * @param args harness options, as described in BenchmarkHarness
+	 */
+	public static void main(String[] args) {
+		BenchmarkHarness harness = new BenchmarkHarness("activity-list-results.csv", args);
+		for (int n : harness.sizes()) {
+			int m = Math.min(MAX_BATCH, n);
+			for (String order : BenchmarkHarness.orders()) {
+				measureAdd(harness, n, m, order);
+				measureIndexOfID(harness, n, order);
+			}
+			ActivityList list = build(n, m);
+			harness.run("ActivityList.get2DArray", n, "-", 1, () -> {
+				long start = System.nanoTime();
+				Object[][] table = list.get2DArray();
+				long time = System.nanoTime() - start;
+				harness.consume(table);
+				return time;
+			});
+			int[] edits = new int[1];
+			harness.run("ActivityList.getChangesSince", n, "-", 1, () -> {
+				long since = list.getVersion();
+				list.getActivityAt(n / 2).setSnowBoundary(edits[0]++ % 50);
+				long start = System.nanoTime();
+				TableDelta delta = list.getChangesSince(since);
+				long time = System.nanoTime() - start;
+				harness.consume(delta);
+				return time;
+			});
+			int top = Math.max(0, n / 2 - SCREEN_ROWS / 2);
+			int bottom = Math.min(n, top + SCREEN_ROWS);
+			harness.run("ActivityList.valueAt", n, "-", 1, () -> {
+				long hash = 0;
+				long start = System.nanoTime();
+				for (int row = top; row < bottom; row++) {
+					for (int col = 0; col < list.columnCount(); col++) {
+						hash += list.valueAt(row, col).hashCode();
+					}
+				}
+				long time = System.nanoTime() - start;
+				harness.consume(hash);
+				return time;
+			});
+		}
+		harness.writeResults();
+	}
+
+	/**
+	 * Times addActivity on a list of n activities.
+	 *
+	 * @param harness the harness to run it with
+	 * @param n the number of activities in the list
+	 * @param m the number of adds per batch
+	 * @param order the order of the added names
+	 */
+	private static void measureAdd(BenchmarkHarness harness, int n, int m, String order) {
+		if (!harness.selected("ActivityList.addActivity")) {
+			return;
+		}
+		int[] keys = BenchmarkHarness.keys(n, order);
+		String[] names = new String[m];
+		for (int i = 0; i < m; i++) {
+			switch (order) {
+			case "ascending":
+				names[i] = name(2 * (n + m + i));
+				break;
+			case "descending":
+				names[i] = name(2 * (m - 1 - i));
+				break;
+			default:
+				names[i] = name(2 * (keys[i] + m) + 1);
+			}
+		}
+		harness.run("ActivityList.addActivity", n, order, m, () -> {
+			ActivityList list = build(n, m);
+			long start = System.nanoTime();
+			for (int i = 0; i < m; i++) {
+				list.addActivity(names[i], "Benchmark activity", false, 0);
+			}
+			return System.nanoTime() - start;
+		});
+	}
+
+	/**
+	 * Times indexOfID on a list of n activities.
+	 *
+	 * @param harness the harness to run it with
+	 * @param n the number of activities in the list
+	 * @param order the order the IDs are looked up in
+	 */
+	private static void measureIndexOfID(BenchmarkHarness harness, int n, String order) {
+		if (!harness.selected("ActivityList.indexOfID")) {
+			return;
+		}
+		ActivityList list = build(n, Math.min(MAX_BATCH, n));
+		int[] keys = BenchmarkHarness.keys(n, order);
+		String[] ids = new String[n];
+		for (int i = 0; i < n; i++) {
+			ids[i] = "act-" + keys[i];
+		}
+		int m = Math.max(1, Math.min(MAX_BATCH, SCAN_BUDGET / n));
+		int[] next = new int[1];
+		harness.run("ActivityList.indexOfID", n, order, m, () -> {
+			int from = next[0];
+			long found = 0;
+			long start = System.nanoTime();
+			for (int i = 0; i < m; i++) {
+				found += list.indexOfID(ids[(from + i) % n]);
+			}
+			long time = System.nanoTime() - start;
+			next[0] = (from + m) % n;
+			harness.consume(found);
+			return time;
+		});
+	}
+
+	/**
+	 * Builds a list of n activities in name order, leaving room below the first name
+	 * for m descending adds. The activity with ID act-i is at index i.
+	 *
+	 * @param n the number of activities
+	 * @param m the number of names to leave free below the first
+	 * @return the list
+	 */
+	private static ActivityList build(int n, int m) {
+		ActivityList list = new ActivityList();
+		for (int i = 0; i < n; i++) {
+			list.addActivity(name(2 * (i + m)), "Benchmark activity", i % 2 == 0, i % 50);
+		}
+		return list;
+	}
+
+	/**
+	 * Returns an activity name that sorts in the same order as its number.
+	 *
+	 * @param k the number
+	 * @return the name
+	 */
+	private static String name(int k) {
+		return String.format("Activity %08d", k);
+	}
+
+}
@@ -0,0 +1,333 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * A small harness for timing operations the way JMH's average-time mode does,
+ * for use by the plain main() benchmarks in this source set, since the project has
+ * no build file to pull JMH in.
+ *
+ * Each benchmark is run for a number of warmup iterations, which are discarded,
+ * followed by measured iterations. An iteration calls the benchmark's batch
+ * repeatedly until the iteration time has passed, and each batch reports how long
+ * its measured part took, so set-up and clean-up inside a batch are not timed. The
+ * result of each benchmark is the mean time per operation over the measured
+ * iterations, with its standard deviation and the fastest iteration.
+ *
+ * Every run prints a table and writes a CSV file with one row per benchmark, so
+ * that runs against different commits or implementations can be compared.
+ *
+ * Options understood by {@link #BenchmarkHarness(String, String[])}:
+ * <ul>
+ * <li>-n 1000,100000: the sizes to run at</li>
+ * <li>-o file.csv: where to write the results</li>
+ * <li>-f text: only run benchmarks whose name contains the text</li>
+ * <li>-wi 3: the number of warmup iterations</li>
+ * <li>-i 5: the number of measured iterations</li>
+ * <li>-t 200: the length of each iteration in milliseconds</li>
+ * </ul>
+ *
+ * @author Noah Benveniste
+ */
+public final class BenchmarkHarness {
+
+	/** Sizes measured by default */
+	private static final int[] DEFAULT_SIZES = { 1000, 100000, 1000000 };
+	/** Default number of warmup iterations */
+	private static final int DEFAULT_WARMUPS = 3;
+	/** Default number of measured iterations */
+	private static final int DEFAULT_ITERATIONS = 5;
+	/** Default length of an iteration in milliseconds */
+	private static final long DEFAULT_ITERATION_MILLIS = 200;
+
+	/** The sizes to run at */
+	private final int[] sizes;
+	/** The file the results are written to */
+	private final String output;
+	/** Only benchmarks whose name contains this are run */
+	private final String filter;
+	/** Number of warmup iterations */
+	private final int warmups;
+	/** Number of measured iterations */
+	private final int iterations;
+	/** Length of an iteration in nanoseconds */
+	private final long iterationNanos;
+	/** Results measured so far */
+	private final List<Result> results = new ArrayList<Result>();
+	/** Sink for values returned by benchmarks, so the JIT cannot discard their work */
+	private volatile long sink;
+
+	/**
+	 * Creates a harness configured from command-line options.
+	 *
+	 * @param defaultOutput the file to write results to if -o is not given
+	 * @param args the command-line options
+	 * @throws IllegalArgumentException if an option is not recognized or has no value
+	 */
+	public BenchmarkHarness(String defaultOutput, String[] args) {
+		int[] sizes = DEFAULT_SIZES;
+		String output = defaultOutput;
+		String filter = "";
+		int warmups = DEFAULT_WARMUPS;
+		int iterations = DEFAULT_ITERATIONS;
+		long millis = DEFAULT_ITERATION_MILLIS;
+		for (int i = 0; i < args.length; i += 2) {
+			if (i + 1 >= args.length) {
+				throw new IllegalArgumentException("Option " + args[i] + " has no value");
+			}
+			String value = args[i + 1];
+			switch (args[i]) {
+			case "-n":
+				String[] parts = value.split(",");
+				sizes = new int[parts.length];
+				for (int j = 0; j < parts.length; j++) {
+					sizes[j] = Integer.parseInt(parts[j].trim());
+				}
+				break;
+			case "-o":
+				output = value;
+				break;
+			case "-f":
+				filter = value;
+				break;
+			case "-wi":
+				warmups = Integer.parseInt(value);
+				break;
+			case "-i":
+				iterations = Integer.parseInt(value);
+				break;
+			case "-t":
+				millis = Long.parseLong(value);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown option " + args[i]);
+			}
+		}
+		if (iterations < 1 || warmups < 0 || millis < 1) {
+			throw new IllegalArgumentException("Iterations and iteration time must be positive");
+		}
+		this.sizes = sizes;
+		this.output = output;
+		this.filter = filter;
+		this.warmups = warmups;
+		this.iterations = iterations;
+		this.iterationNanos = millis * 1000000L;
+	}
+
+	/**
+	 * Returns the sizes to run at.
+	 *
+	 * @return the sizes
+	 */
+	public int[] sizes() {
+		return sizes.clone();
+	}
+
+	/**
+	 * Returns true if the benchmark with the given name should be run.
+	 *
+	 * @param name the name of the benchmark
+	 * @return true if the name passes the -f filter
+	 */
+	public boolean selected(String name) {
+		return name.contains(filter);
+	}
+
+	/**
+	 * Keeps a value returned by a benchmark alive, so the JIT cannot remove the
+	 * work that produced it.
+	 *
+	 * @param value the value to consume
+	 */
+	public void consume(long value) {
+		sink += value;
+	}
+
+	/**
+	 * Keeps an object returned by a benchmark alive, so the JIT cannot remove the
+	 * work that produced it.
+	 *
+	 * @param value the object to consume
+	 */
+	public void consume(Object value) {
+		sink += System.identityHashCode(value);
+	}
+
+	/**
+	 * Runs a benchmark, if it passes the filter, and records and prints its result.
+	 *
+	 * @param name the name of the benchmark
+	 * @param size the size it runs at
+	 * @param order the order of its keys, or "-" if order does not apply
+	 * @param opsPerBatch the number of operations each batch performs
+	 * @param batch the benchmark
+	 */
+	public void run(String name, int size, String order, int opsPerBatch, Batch batch) {
+		if (!selected(name)) {
+			return;
+		}
+		if (results.isEmpty()) {
+			System.out.printf("%-30s %9s %-11s %12s %10s %12s%n", "benchmark", "n", "order", "ns/op", "stddev",
+					"min ns/op");
+		}
+		for (int i = 0; i < warmups; i++) {
+			iteration(opsPerBatch, batch);
+		}
+		double[] perOp = new double[iterations];
+		for (int i = 0; i < iterations; i++) {
+			perOp[i] = iteration(opsPerBatch, batch);
+		}
+		Result result = new Result(name, size, order, perOp);
+		results.add(result);
+		System.out.printf("%-30s %9d %-11s %12.1f %10.1f %12.1f%n", name, size, order, result.mean, result.stddev,
+				result.min);
+	}
+
+	/**
+	 * Writes every result recorded so far to the output file as CSV.
+	 *
+	 * @throws IllegalStateException if the file cannot be written
+	 */
+	public void writeResults() {
+		try (PrintWriter out = new PrintWriter(output)) {
+			out.println("benchmark,n,order,iterations,mean_ns_per_op,stddev_ns_per_op,min_ns_per_op");
+			for (Result r : results) {
+				out.println(String.format(Locale.ROOT, "%s,%d,%s,%d,%.3f,%.3f,%.3f", r.name, r.size, r.order,
+						r.iterations, r.mean, r.stddev, r.min));
+			}
+		} catch (FileNotFoundException e) {
+			throw new IllegalStateException("Unable to write results to " + output);
+		}
+		System.out.println("Results written to " + output);
+	}
+
+	/**
+	 * Runs batches for one iteration.
+	 *
+	 * @param opsPerBatch the number of operations per batch
+	 * @param batch the benchmark
+	 * @return the mean measured time per operation in nanoseconds
+	 */
+	private double iteration(int opsPerBatch, Batch batch) {
+		long measured = 0;
+		long ops = 0;
+		long end = System.nanoTime() + iterationNanos;
+		do {
+			measured += batch.run();
+			ops += opsPerBatch;
+		} while (System.nanoTime() < end);
+		return (double) measured / ops;
+	}
+
+	/**
+	 * Returns n keys in the given order. Ascending keys are 0 to n - 1, descending
+	 * keys are n - 1 down to 0, and random keys are a shuffle of 0 to n - 1, so every
+	 * order visits the same keys.
+	 *
+	 * @param n the number of keys
+	 * @param order "ascending", "descending" or "random"
+	 * @return the keys
+	 * @throws IllegalArgumentException if the order is not recognized
+	 */
+	public static int[] keys(int n, String order) {
+		int[] keys = new int[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = i;
+		}
+		switch (order) {
+		case "ascending":
+			return keys;
+		case "descending":
+			for (int i = 0; i < n; i++) {
+				keys[i] = n - 1 - i;
+			}
+			return keys;
+		case "random":
+			Random rand = new Random(216);
+			for (int i = n - 1; i > 0; i--) {
+				int j = rand.nextInt(i + 1);
+				int temp = keys[i];
+				keys[i] = keys[j];
+				keys[j] = temp;
+			}
+			return keys;
+		default:
+			throw new IllegalArgumentException("Unknown order " + order);
+		}
+	}
+
+	/**
+	 * The insert orders that benchmarks are run under.
+	 *
+	 * @return the names of the orders
+	 */
+	public static String[] orders() {
+		return new String[] { "random", "ascending", "descending" };
+	}
+
+	/**
+	 * One batch of a benchmark's operations.
+	 */
+	public interface Batch {
+		/**
+		 * Runs the batch, including any untimed set-up or clean-up.
+		 *
+		 * @return the time in nanoseconds spent in the measured operations
+		 */
+		long run();
+	}
+
+	/**
+	 * The measurements of one benchmark.
+	 */
+	private static final class Result {
+		/** The name of the benchmark */
+		private final String name;
+		/** The size it ran at */
+		private final int size;
+		/** The order of its keys */
+		private final String order;
+		/** Number of measured iterations */
+		private final int iterations;
+		/** Mean time per operation over the iterations */
+		private final double mean;
+		/** Standard deviation of the time per operation */
+		private final double stddev;
+		/** Time per operation of the fastest iteration */
+		private final double min;
+
+		/**
+		 * Summarizes the time per operation of each iteration.
+		 *
+		 * @param name the name of the benchmark
+		 * @param size the size it ran at
+		 * @param order the order of its keys
+		 * @param perOp the time per operation of each iteration
+		 */
+		Result(String name, int size, String order, double[] perOp) {
+			this.name = name;
+			this.size = size;
+			this.order = order;
+			this.iterations = perOp.length;
+			double sum = 0;
+			double min = Double.MAX_VALUE;
+			for (double t : perOp) {
+				sum += t;
+				min = Math.min(min, t);
+			}
+			this.mean = sum / perOp.length;
+			double squares = 0;
+			for (double t : perOp) {
+				squares += (t - mean) * (t - mean);
+			}
+			this.stddev = (perOp.length > 1) ? Math.sqrt(squares / (perOp.length - 1)) : 0;
+			this.min = min;
+		}
+	}
+
+}
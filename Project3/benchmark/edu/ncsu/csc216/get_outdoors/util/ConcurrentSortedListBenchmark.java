@@ -0,0 +1,139 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Measures how the throughput of the thread-safe SortedLists scales with the number
+ * of threads. Each run prefills a list, then splits a fixed number of operations
+ * between the threads, where each operation is either an add of a random key or a
+ * contains of a random key. The lists compared are SortedConcurrentSkipList,
+ * SortedCopyOnWriteArrayList and a SortedArrayList behind one global lock, which is
+ * what callers had to use before the concurrent lists existed. Each measurement is
+ * repeated and the fastest run is reported, after a warmup run.
+ *
+ * Run with: java edu.ncsu.csc216.get_outdoors.util.ConcurrentSortedListBenchmark
+ * [write percent] [max threads]
+ *
+ * @author Noah Benveniste
+ */
+public class ConcurrentSortedListBenchmark {
+
+	/** Number of elements in the list before the timed operations */
+	private static final int PREFILL = 10000;
+	/** Total number of operations per run, split between the threads */
+	private static final int OPS = 200000;
+	/** Number of timed runs per measurement */
+	private static final int RUNS = 3;
+
+	/**
+	 * Runs the benchmark and prints one row per thread count and implementation.
+	 *
+	 * @param args the percentage of operations that are writes (default 10), and the
+	 * maximum number of threads (default 32)
+	 * @throws InterruptedException if interrupted while waiting for the threads
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		int writePercent = (args.length > 0) ? Integer.parseInt(args[0]) : 10;
+		int maxThreads = (args.length > 1) ? Integer.parseInt(args[1]) : 32;
+		System.out.printf("%d%% writes, %d cores%n", writePercent, Runtime.getRuntime().availableProcessors());
+		System.out.printf("%-8s %-28s %12s %12s%n", "threads", "list", "total ms", "ops/ms");
+		for (int threads = 1; threads <= maxThreads; threads *= 2) {
+			measure(threads, writePercent, "SortedConcurrentSkipList", () -> new SortedConcurrentSkipList<Integer>(), false);
+			measure(threads, writePercent, "SortedCopyOnWriteArrayList", () -> new SortedCopyOnWriteArrayList<Integer>(), false);
+			measure(threads, writePercent, "SortedArrayList (locked)", () -> new SortedArrayList<Integer>(), true);
+		}
+	}
+
+	/**
+	 * Times one thread count on one list implementation and prints the result.
+	 *
+	 * @param threads the number of threads
+	 * @param writePercent the percentage of operations that are adds
+	 * @param name the name of the implementation
+	 * @param factory creates an empty list
+	 * @param locked whether every operation must hold a lock on the list
+	 * @throws InterruptedException if interrupted while waiting for the threads
+	 */
+	private static void measure(int threads, int writePercent, String name,
+			Supplier<SortedList<Integer>> factory, boolean locked) throws InterruptedException {
+		run(threads, writePercent, factory.get(), locked);
+		long best = Long.MAX_VALUE;
+		for (int r = 0; r < RUNS; r++) {
+			best = Math.min(best, run(threads, writePercent, factory.get(), locked));
+		}
+		System.out.printf("%-8d %-28s %12.2f %12.1f%n", threads, name, best / 1e6, OPS / (best / 1e6));
+	}
+
+	/**
+	 * Prefills the list, then runs the operations on the given number of threads and
+	 * times them from when all threads are released until the last one finishes.
+	 *
+	 * @param threads the number of threads
+	 * @param writePercent the percentage of operations that are adds
+	 * @param list the list to run against
+	 * @param locked whether every operation must hold a lock on the list
+	 * @return the time taken in nanoseconds
+	 * @throws InterruptedException if interrupted while waiting for the threads
+	 */
+	private static long run(int threads, int writePercent, SortedList<Integer> list, boolean locked)
+			throws InterruptedException {
+		Random rand = new Random(216);
+		for (int i = 0; i < PREFILL; i++) {
+			apply(list, rand.nextInt(Integer.MAX_VALUE), true);
+		}
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			final Random local = new Random(t);
+			new Thread(() -> {
+				//Count down however the worker ends, so the timing thread never waits forever
+				try {
+					start.await();
+					for (int i = 0; i < OPS / threads; i++) {
+						boolean write = local.nextInt(100) < writePercent;
+						Integer key = local.nextInt(Integer.MAX_VALUE);
+						if (locked) {
+							synchronized (list) {
+								apply(list, key, write);
+							}
+						} else {
+							apply(list, key, write);
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			}).start();
+		}
+		long begin = System.nanoTime();
+		start.countDown();
+		done.await();
+		return System.nanoTime() - begin;
+	}
+
+	/**
+	 * Applies one operation to the list. Random keys can repeat, and a repeat is
+	 * rejected after the same search a successful add makes, so it is counted as an
+	 * operation like any other.
+	 *
+	 * @param list the list
+	 * @param key the key to add or look up
+	 * @param write true to add the key, false to look it up
+	 */
+	private static void apply(SortedList<Integer> list, Integer key, boolean write) {
+		if (write) {
+			try {
+				list.add(key);
+			} catch (IllegalArgumentException e) {
+				//The key is already in the list
+			}
+		} else {
+			list.contains(key);
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.Random;
+
+/**
+ * Reports the memory per element of an OffHeapLongIndex compared with a
+ * SortedArrayList of boxed Longs holding the same keys. The on-heap figure is the
+ * growth in used heap after building the list (the array plus one Long per key),
+ * and the off-heap figure is the size of the index's direct buffer, which also
+ * holds a row per key. Both are measured after trimming to size.
+ *
+ * Run with: java edu.ncsu.csc216.get_outdoors.util.OffHeapIndexMemoryBenchmark [n]
+ *
+ * @author Noah Benveniste
+ */
+public class OffHeapIndexMemoryBenchmark {
+
+	/** Default number of keys */
+	private static final int DEFAULT_SIZE = 1000000;
+
+	/**
+	 * Runs the benchmark and prints the bytes per element of each container.
+	 *
+	 * @param args the number of keys, or none to use the default
+	 */
+	public static void main(String[] args) {
+		int n = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+		long[] keys = new long[n];
+		int[] rows = new int[n];
+		Random rand = new Random(216);
+		for (int i = 0; i < n; i++) {
+			//Large random keys, so that none fall in the JVM's cache of small Longs
+			keys[i] = rand.nextLong();
+			rows[i] = i;
+		}
+
+		long before = usedHeap();
+		SortedArrayList<Long> list = new SortedArrayList<Long>(n);
+		for (int i = 0; i < n; i++) {
+			list.add(keys[i]);
+		}
+		list.trimToSize();
+		long onHeap = usedHeap() - before;
+
+		before = usedHeap();
+		OffHeapLongIndex index = new OffHeapLongIndex(n);
+		index.addAll(keys, rows);
+		index.trimToSize();
+		long indexHeap = usedHeap() - before;
+
+		System.out.printf("%-32s %14s %14s %10s%n", "container", "heap bytes", "off-heap bytes", "bytes/elem");
+		System.out.printf("%-32s %14d %14d %10.1f%n", "SortedArrayList<Long>", onHeap, 0, (double) onHeap / list.size());
+		System.out.printf("%-32s %14d %14d %10.1f%n", "OffHeapLongIndex (key + row)", indexHeap, index.memoryBytes(),
+				(double) index.memoryBytes() / index.size());
+	}
+
+	/**
+	 * Returns the heap in use after asking the garbage collector to run.
+	 *
+	 * @return the used heap in bytes
+	 */
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+}
@@ -0,0 +1,165 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compares the time taken by SortedArrayList, SortedLinkedList and
+ * SortedBPlusTreeList to build a list of n elements in ascending, descending and
+ * random order, and to absorb n rounds of churn (removing a random element and
+ * adding a new random element) once built.
+ * Each measurement is repeated and the fastest run is reported, after a warmup run
+ * to let the JIT compile the code under test.
+ *
+ * Run with: java edu.ncsu.csc216.get_outdoors.util.SortedListBenchmark [n ...]
+ *
+ * @author Noah Benveniste
+ */
+public class SortedListBenchmark {
+
+	/** Default list sizes to measure */
+	private static final int[] DEFAULT_SIZES = { 1000, 10000, 100000 };
+	/** Number of timed runs per measurement */
+	private static final int RUNS = 5;
+
+	/**
+	 * Runs the benchmark and prints one row per list size, insert pattern and
+	 * implementation.
+	 *
+	 * @param args list sizes to measure, or none to use the defaults
+	 */
+	public static void main(String[] args) {
+		int[] sizes = DEFAULT_SIZES;
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				sizes[i] = Integer.parseInt(args[i]);
+			}
+		}
+		System.out.printf("%-10s %-11s %-20s %12s %12s%n", "n", "pattern", "list", "total ms", "ns/op");
+		for (int n : sizes) {
+			for (Pattern pattern : Pattern.values()) {
+				measure(n, pattern, "SortedArrayList", () -> new SortedArrayList<Integer>());
+				measure(n, pattern, "SortedLinkedList", () -> new SortedLinkedList<Integer>());
+				measure(n, pattern, "SortedBPlusTreeList", () -> new SortedBPlusTreeList<Integer>());
+			}
+		}
+	}
+
+	/**
+	 * Times one pattern on one list implementation and prints the result.
+	 *
+	 * @param n the number of elements
+	 * @param pattern the insert pattern
+	 * @param name the name of the implementation
+	 * @param factory creates an empty list
+	 */
+	private static void measure(int n, Pattern pattern, String name, Supplier<SortedList<Integer>> factory) {
+		int[] keys = pattern.keys(n);
+		run(pattern, factory.get(), keys);
+		long best = Long.MAX_VALUE;
+		for (int r = 0; r < RUNS; r++) {
+			best = Math.min(best, run(pattern, factory.get(), keys));
+		}
+		int ops = (pattern == Pattern.CHURN) ? 2 * n : n;
+		System.out.printf("%-10d %-11s %-20s %12.2f %12.1f%n", n, pattern.name().toLowerCase(), name,
+				best / 1e6, (double) best / ops);
+	}
+
+	/**
+	 * Applies the pattern to the list and times it. For the churn pattern only the
+	 * churn is timed, not building the initial list.
+	 *
+	 * @param pattern the pattern to apply
+	 * @param list the list to apply it to
+	 * @param keys the keys generated by the pattern
+	 * @return the time taken in nanoseconds
+	 */
+	private static long run(Pattern pattern, SortedList<Integer> list, int[] keys) {
+		if (pattern == Pattern.CHURN) {
+			//Keys hold n elements to build the list, followed by n (index, key) pairs
+			int n = keys.length / 3;
+			for (int i = 0; i < n; i++) {
+				add(list, keys[i]);
+			}
+			long start = System.nanoTime();
+			for (int i = n; i < keys.length; i += 2) {
+				list.remove(keys[i] % list.size());
+				add(list, keys[i + 1]);
+			}
+			return System.nanoTime() - start;
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < keys.length; i++) {
+			add(list, keys[i]);
+		}
+		return System.nanoTime() - start;
+	}
+
+	/**
+	 * Adds a key to the list. Random keys can repeat, and a repeat is rejected after
+	 * the same search a successful add makes, so it is timed like any other add.
+	 *
+	 * @param list the list
+	 * @param key the key to add
+	 */
+	private static void add(SortedList<Integer> list, int key) {
+		try {
+			list.add(key);
+		} catch (IllegalArgumentException e) {
+			//The key is already in the list
+		}
+	}
+
+	/**
+	 * The order in which keys are inserted.
+	 */
+	private enum Pattern {
+		/** Keys in increasing order, so each add appends to the end */
+		ASCENDING,
+		/** Keys in decreasing order, so each add inserts at the front */
+		DESCENDING,
+		/** Keys in random order */
+		RANDOM,
+		/** A random list of n elements, then n random removes each followed by a random add */
+		CHURN;
+
+		/**
+		 * Generates the keys for this pattern.
+		 *
+		 * @param n the number of elements
+		 * @return the keys to insert
+		 */
+		int[] keys(int n) {
+			Random rand = new Random(216);
+			int[] keys;
+			switch (this) {
+			case ASCENDING:
+				keys = new int[n];
+				for (int i = 0; i < n; i++) {
+					keys[i] = i;
+				}
+				return keys;
+			case DESCENDING:
+				keys = new int[n];
+				for (int i = 0; i < n; i++) {
+					keys[i] = n - i;
+				}
+				return keys;
+			case RANDOM:
+				keys = new int[n];
+				for (int i = 0; i < n; i++) {
+					keys[i] = rand.nextInt(Integer.MAX_VALUE);
+				}
+				return keys;
+			default:
+				keys = new int[3 * n];
+				for (int i = 0; i < keys.length; i++) {
+					keys[i] = rand.nextInt(Integer.MAX_VALUE);
+				}
+				return keys;
+			}
+		}
+	}
+
+}
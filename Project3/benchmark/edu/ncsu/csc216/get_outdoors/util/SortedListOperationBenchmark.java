@@ -0,0 +1,140 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Times add, lookup (indexOf, which is how callers reach the private binarySearch)
+ * and remove(int) on a SortedList that already holds n elements, for
+ * SortedArrayList and SortedBPlusTreeList. Results are written by
+ * BenchmarkHarness, so the same run can be repeated on another commit and the CSV
+ * files compared.
+ *
+ * The list holds the even numbers 0 to 2(n - 1), and each batch performs up to
+ * 1000 operations, after which the list is restored without timing. The order
+ * decides where the operations land:
+ * <ul>
+ * <li>add: ascending adds keys above the maximum in increasing order (appends),
+ * descending adds keys below the minimum in decreasing order (inserts at the
+ * front), and random adds odd keys spread over the list.</li>
+ * <li>indexOf: looks up the elements in ascending, descending or random order.</li>
+ * <li>remove: removes the smallest element each time (ascending), the largest
+ * (descending), or one at a random index.</li>
+ * </ul>
+ *
+ * Run with: java edu.ncsu.csc216.get_outdoors.util.SortedListOperationBenchmark
+ * [-n 1000,100000,1000000] [-o results.csv] [-f SortedArrayList.add]
+ *
+ * @author Noah Benveniste
+ */
+public class SortedListOperationBenchmark {
+
+	/** Most operations performed by one batch */
+	private static final int MAX_BATCH = 1000;
+
+	/**
+	 * Runs every benchmark at every size and order and writes the results.
+	 *
+	 * @param args harness options, as described in BenchmarkHarness
+	 */
+	public static void main(String[] args) {
+		BenchmarkHarness harness = new BenchmarkHarness("sorted-list-results.csv", args);
+		for (int n : harness.sizes()) {
+			for (String order : BenchmarkHarness.orders()) {
+				measure(harness, n, order, "SortedArrayList", () -> new SortedArrayList<Integer>());
+				measure(harness, n, order, "SortedBPlusTreeList", () -> new SortedBPlusTreeList<Integer>());
+			}
+		}
+		harness.writeResults();
+	}
+
+	/**
+	 * Runs the add, indexOf and remove benchmarks for one implementation.
+	 *
+	 * @param harness the harness to run them with
+	 * @param n the number of elements in the list
+	 * @param order the order of the operations
+	 * @param name the name of the implementation
+	 * @param factory creates an empty list
+	 */
+	private static void measure(BenchmarkHarness harness, int n, String order, String name,
+			Supplier<SortedList<Integer>> factory) {
+		if (!harness.selected(name)) {
+			return;
+		}
+		int m = Math.min(MAX_BATCH, n);
+		int[] keys = BenchmarkHarness.keys(n, order);
+		SortedList<Integer> list = factory.get();
+		List<Integer> base = new ArrayList<Integer>(n);
+		for (int i = 0; i < n; i++) {
+			base.add(2 * i);
+		}
+		list.addAll(base);
+
+		List<Integer> added = new ArrayList<Integer>(m);
+		for (int i = 0; i < m; i++) {
+			switch (order) {
+			case "ascending":
+				added.add(2 * (n + i));
+				break;
+			case "descending":
+				added.add(-2 * (i + 1));
+				break;
+			default:
+				added.add(2 * keys[i] + 1);
+			}
+		}
+		harness.run(name + ".add", n, order, m, () -> {
+			long start = System.nanoTime();
+			for (int i = 0; i < m; i++) {
+				list.add(added.get(i));
+			}
+			long time = System.nanoTime() - start;
+			list.removeAll(added);
+			return time;
+		});
+
+		Integer[] lookups = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			lookups[i] = 2 * keys[i];
+		}
+		int[] next = new int[1];
+		harness.run(name + ".indexOf", n, order, m, () -> {
+			int from = next[0];
+			long found = 0;
+			long start = System.nanoTime();
+			for (int i = 0; i < m; i++) {
+				found += list.indexOf(lookups[(from + i) % n]);
+			}
+			long time = System.nanoTime() - start;
+			next[0] = (from + m) % n;
+			harness.consume(found);
+			return time;
+		});
+
+		List<Integer> removed = new ArrayList<Integer>(m);
+		harness.run(name + ".remove", n, order, m, () -> {
+			removed.clear();
+			long start = System.nanoTime();
+			for (int i = 0; i < m; i++) {
+				int index;
+				switch (order) {
+				case "ascending":
+					index = 0;
+					break;
+				case "descending":
+					index = list.size() - 1;
+					break;
+				default:
+					index = keys[i] % list.size();
+				}
+				removed.add(list.remove(index));
+			}
+			long time = System.nanoTime() - start;
+			list.addAll(removed);
+			return time;
+		});
+	}
+
+}
@@ -1,14 +1,16 @@
 package edu.ncsu.csc216.get_outdoors.model;
 
-import java.util.Observable;
+import java.util.function.Consumer;
 
 /**
  * 
  * @author Noah Benveniste
  */
-public class Activity extends Observable implements Comparable<Activity> {
+public class Activity implements Comparable<Activity> {
 
-	/** */
+	/** The ID number, or -1 if the ID is not of the form made by ActivityIDs.format() */
+	private int idNumber;
+	/** The ID it was constructed with, or null if it was given a number, which is rendered */
 	private String activityID;
 	/** */
 	private String name;
@@ -20,6 +22,10 @@ public class Activity extends Observable implements Comparable<Activity> {
 	private int snowBoundary;
 	/** */
 	private boolean constructed;
+	/** Hash of the name, which cannot change after construction, so it is computed once */
+	private int hash;
+	/** Listeners told when a field changes after construction */
+	private final ModelEventBus<Activity> events = new ModelEventBus<Activity>();
 	
 	/**
 	 * 
@@ -37,13 +43,57 @@ public class Activity extends Observable implements Comparable<Activity> {
 		setDescription(description);
 		setNeedSnow(needSnow);
 		setSnowBoundary(snowBoundary);
-		//If all fields are set successfully with no exceptions thrown, notify the observers.
-		//The constructed boolean flag ensures that the observers are only notified when setters
-		//are called after the object is constructed.
+		//The constructed boolean flag ensures that listeners are only told about changes made by
+		//setters called after the object is constructed. No listener can be registered before then.
+		constructed = true;
+	}
+	
+	/**
+	 * Constructs an Activity whose ID is a number, which is shown as the string
+	 * ActivityIDs.format(idNumber).
+	 * 
+	 * @param idNumber the ID number
+	 * @param name the name
+	 * @param description the description
+	 * @param needSnow whether the activity needs snow
+	 * @param snowBoundary the snow boundary
+	 * @throws IllegalArgumentException if the ID number is negative or another field
+	 *             is invalid
+	 */
+	Activity(int idNumber, String name, String description, boolean needSnow, int snowBoundary) {
+		if (idNumber < 0) {
+			throw new IllegalArgumentException("Activity ID number cannot be negative");
+		}
+		this.idNumber = idNumber;
+		setName(name);
+		setDescription(description);
+		setNeedSnow(needSnow);
+		setSnowBoundary(snowBoundary);
+		//Only an activity that was built counts as issued, so a rejected one cannot
+		//grow the ID string cache
+		ActivityIDs.issued(idNumber);
 		constructed = true;
-		setChanged(); //Marks the Observable as changed
-		notifyObservers(this); //Sends a message to any Observer classes that the object has changed.
-		// The current instance is passed in except in specific instance listed in the detailed method descriptions, below.
+	}
+	
+	/**
+	 * Adds a listener that is told each time the Activity's fields change, with a mask of
+	 * Field.mask() bits naming the fields.
+	 * 
+	 * @param listener the listener to add
+	 * @throws NullPointerException if the listener is null
+	 */
+	public void addListener(ModelListener<? super Activity> listener) {
+		events.addListener(listener);
+	}
+	
+	/**
+	 * Removes a listener.
+	 * 
+	 * @param listener the listener to remove
+	 * @return true if the listener was removed
+	 */
+	public boolean removeListener(ModelListener<? super Activity> listener) {
+		return events.removeListener(listener);
 	}
 	
 	/**
@@ -58,6 +108,8 @@ public class Activity extends Observable implements Comparable<Activity> {
 			if (id.equals("")) {
 				throw new IllegalArgumentException("ID is either an empty string or only contains whitespace");
 			} else {
+				//Keep the string the caller already built, as well as its number
+				this.idNumber = ActivityIDs.parse(id);
 				this.activityID = id;
 			}
 		}
@@ -76,6 +128,7 @@ public class Activity extends Observable implements Comparable<Activity> {
 				throw new IllegalArgumentException("Name is either an empty string or only contains whitespace");
 			} else {
 				this.name = name;
+				this.hash = name.hashCode();
 			}
 		}
 	}
@@ -85,20 +138,9 @@ public class Activity extends Observable implements Comparable<Activity> {
 	 * @param d
 	 */
 	public void setDescription(String d) {
-		if (d == null) {
-			throw new IllegalArgumentException("Activity description cannot be null");
-		} else {
-			d = d.trim();
-			if (d.equals("")) {
-				throw new IllegalArgumentException("Description is either an empty string or only contains whitespace");
-			} else {
-				this.description = d;
-			}
-		}
+		this.description = checkDescription(d);
 		if (constructed) {
-			setChanged(); //Marks the Observable as changed
-			notifyObservers(this); //Sends a message to any Observer classes that the object has changed.
-			// The current instance is passed in except in specific instance listed in the detailed method descriptions, below.
+			events.fireChanged(this, this, Field.DESCRIPTION.mask());
 		}
 	}
 	
@@ -109,9 +151,7 @@ public class Activity extends Observable implements Comparable<Activity> {
 	public void setNeedSnow(boolean b) {
 		this.needSnow = b;
 		if (constructed) {
-			setChanged(); //Marks the Observable as changed
-			notifyObservers(this); //Sends a message to any Observer classes that the object has changed.
-			// The current instance is passed in except in specific instance listed in the detailed method descriptions, below.
+			events.fireChanged(this, this, Field.NEED_SNOW.mask());
 		}
 	}
 	
@@ -120,16 +160,81 @@ public class Activity extends Observable implements Comparable<Activity> {
 	 * @param s
 	 */
 	public void setSnowBoundary(int s) {
+		this.snowBoundary = checkSnowBoundary(s);
+		if (constructed) {
+			events.fireChanged(this, this, Field.SNOW_BOUNDARY.mask());
+		}
+	}
+	
+	/**
+	 * Changes several of the Activity's editable fields at once. The changes are
+	 * recorded on an Editor passed to the given Consumer, then all of them are
+	 * validated before any is applied, so an invalid value leaves the Activity as it
+	 * was. Listeners are sent one entityChanged event, whose mask names the fields
+	 * whose values actually changed, or no event if none did.
+	 * 
+	 * Only the Editor should be used inside the Consumer; calling the Activity's own
+	 * setters there sends separate events.
+	 * 
+	 * @param changes records the changes on the Editor
+	 * @throws IllegalArgumentException if a new value is invalid
+	 * @throws NullPointerException if changes is null
+	 */
+	public void edit(Consumer<? super Editor> changes) {
+		Editor editor = new Editor(this);
+		changes.accept(editor);
+		//Validate everything before changing anything
+		String d = checkDescription(editor.description);
+		int s = checkSnowBoundary(editor.snowBoundary);
+		int changed = 0;
+		if (!d.equals(description)) {
+			changed |= Field.DESCRIPTION.mask();
+		}
+		if (editor.needSnow != needSnow) {
+			changed |= Field.NEED_SNOW.mask();
+		}
+		if (s != snowBoundary) {
+			changed |= Field.SNOW_BOUNDARY.mask();
+		}
+		if (changed == 0) {
+			return;
+		}
+		this.description = d;
+		this.needSnow = editor.needSnow;
+		this.snowBoundary = s;
+		events.fireChanged(this, this, changed); //One event for the whole edit
+	}
+	
+	/**
+	 * Checks that a description is not null or blank.
+	 * 
+	 * @param d the description
+	 * @return the description, trimmed
+	 * @throws IllegalArgumentException if the description is null or blank
+	 */
+	private static String checkDescription(String d) {
+		if (d == null) {
+			throw new IllegalArgumentException("Activity description cannot be null");
+		}
+		d = d.trim();
+		if (d.equals("")) {
+			throw new IllegalArgumentException("Description is either an empty string or only contains whitespace");
+		}
+		return d;
+	}
+	
+	/**
+	 * Checks that a snow boundary is not negative.
+	 * 
+	 * @param s the snow boundary
+	 * @return the snow boundary
+	 * @throws IllegalArgumentException if the snow boundary is negative
+	 */
+	private static int checkSnowBoundary(int s) {
 		if (s < 0) {
 			throw new IllegalArgumentException("Activity snow boundary cannot be negative");
-		} else {
-			this.snowBoundary = s;
-		}
-		if (constructed) {
-			setChanged(); //Marks the Observable as changed
-			notifyObservers(this); //Sends a message to any Observer classes that the object has changed.
-			// The current instance is passed in except in specific instance listed in the detailed method descriptions, below.
 		}
+		return s;
 	}
 	
 	/**
@@ -138,7 +243,17 @@ public class Activity extends Observable implements Comparable<Activity> {
 	 * @return
 	 */
 	public String getActivityID() {
-		return activityID;
+		return (activityID != null) ? activityID : ActivityIDs.format(idNumber);
+	}
+	
+	/**
+	 * Returns the ID number, which for an ID of the form "act-N" is N, or -1 for an ID
+	 * of any other form.
+	 * 
+	 * @return the ID number, or -1
+	 */
+	public int getIDNumber() {
+		return idNumber;
 	}
 	
 	/**
@@ -201,21 +316,15 @@ public class Activity extends Observable implements Comparable<Activity> {
 	}
 	
 	/**
-	 * Generates a unique hash for the object. Equal objects will hash to the same value.
+	 * Returns a hash of the Activity's name, which agrees with equals() since Activities
+	 * are equal exactly when their names are. The name cannot change after construction,
+	 * so the hash is stable and an Activity can be used as a hash key.
 	 * 
 	 * @return the hash value for the object.
 	 */
 	@Override
 	public int hashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result + ((activityID == null) ? 0 : activityID.hashCode());
-		result = prime * result + (constructed ? 1231 : 1237);
-		result = prime * result + ((description == null) ? 0 : description.hashCode());
-		result = prime * result + ((name == null) ? 0 : name.hashCode());
-		result = prime * result + (needSnow ? 1231 : 1237);
-		result = prime * result + snowBoundary;
-		return result;
+		return hash;
 	}
 
 	/**
@@ -228,7 +337,8 @@ public class Activity extends Observable implements Comparable<Activity> {
 	public boolean equals(Object obj) {
 		if (obj instanceof Activity) {
 			Activity a = (Activity) obj;
-			if (this.name.equals(a.getName())) {
+			//Differing hashes rule out equal names without comparing the strings
+			if (this.hash == a.hash && this.name.equals(a.getName())) {
 				return true;
 			} else {
 				return false;
@@ -237,4 +347,94 @@ public class Activity extends Observable implements Comparable<Activity> {
 			return false;
 		}
 	}
+	
+	/**
+	 * The fields of an Activity that can be edited after it is constructed.
+	 */
+	public enum Field {
+		/** The description */
+		DESCRIPTION,
+		/** Whether the Activity needs snow */
+		NEED_SNOW,
+		/** The snow boundary */
+		SNOW_BOUNDARY;
+		
+		/**
+		 * Returns the bit that stands for this field in a ModelListener field mask.
+		 * 
+		 * @return the field's bit
+		 */
+		public int mask() {
+			return 1 << ordinal();
+		}
+		
+		/**
+		 * Returns true if this field's bit is set in the given mask.
+		 * 
+		 * @param fieldMask a mask of Field bits
+		 * @return true if the mask includes this field
+		 */
+		public boolean isIn(int fieldMask) {
+			return (fieldMask & mask()) != 0;
+		}
+	}
+	
+	/**
+	 * Records the new values of an edit made through Activity.edit(). Each value starts
+	 * as the Activity's current value, so only the fields that are set change.
+	 * 
+	 * @author Noah Benveniste
+	 */
+	public static final class Editor {
+		/** The new description */
+		private String description;
+		/** The new snow requirement */
+		private boolean needSnow;
+		/** The new snow boundary */
+		private int snowBoundary;
+		
+		/**
+		 * Starts an edit from the Activity's current values.
+		 * 
+		 * @param a the Activity being edited
+		 */
+		private Editor(Activity a) {
+			this.description = a.description;
+			this.needSnow = a.needSnow;
+			this.snowBoundary = a.snowBoundary;
+		}
+		
+		/**
+		 * Sets the new description. It is validated when the edit is applied.
+		 * 
+		 * @param d the new description
+		 * @return this Editor
+		 */
+		public Editor setDescription(String d) {
+			this.description = d;
+			return this;
+		}
+		
+		/**
+		 * Sets whether the Activity needs snow.
+		 * 
+		 * @param b true if the Activity needs snow
+		 * @return this Editor
+		 */
+		public Editor setNeedSnow(boolean b) {
+			this.needSnow = b;
+			return this;
+		}
+		
+		/**
+		 * Sets the new snow boundary. It is validated when the edit is applied.
+		 * 
+		 * @param s the new snow boundary
+		 * @return this Editor
+		 */
+		public Editor setSnowBoundary(int s) {
+			this.snowBoundary = s;
+			return this;
+		}
+	}
 }
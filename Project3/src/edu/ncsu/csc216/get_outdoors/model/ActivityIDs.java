@@ -0,0 +1,135 @@
+package edu.ncsu.csc216.get_outdoors.model;
+
+/**
+ * Converts between activity ID numbers and the "act-N" strings shown in the UI and
+ * written to files. Activities keep their IDs as ints, and the string for each
+ * number issued by an ActivityList is built once and then reused from a table. The
+ * table only covers the numbers issued so far, so an arbitrary number never makes
+ * it grow.
+ *
+ * @author Noah Benveniste
+ */
+public final class ActivityIDs {
+
+	/** The text before the number in an activity ID */
+	public static final String PREFIX = "act-";
+
+	/** The most numbers the table will ever hold */
+	static final int MAX_CACHED = 1 << 24;
+
+	/** The strings built so far, indexed by number. Grown, never shrunk */
+	private static volatile String[] table = new String[64];
+	/**
+	 * Numbers below this are kept in the table: the next power of two above the
+	 * highest number issued to an activity, and never more than MAX_CACHED
+	 */
+	private static volatile int cacheLimit = 64;
+
+	/**
+	 * Not used; this class only has static methods.
+	 */
+	private ActivityIDs() {
+		// Not used
+	}
+
+	/**
+	 * Returns the ID string for a number, such as "act-7" for 7. For a number that has
+	 * been issued to an activity, the same String object is returned each time; a
+	 * larger number, such as one parsed from a file, is built on each call, so that
+	 * the table only grows with the list.
+	 *
+	 * @param number the ID number
+	 * @return the ID string
+	 * @throws IllegalArgumentException if the number is negative
+	 */
+	public static String format(int number) {
+		if (number < 0) {
+			throw new IllegalArgumentException("Activity ID number cannot be negative");
+		}
+		String[] current = table;
+		if (number < current.length && current[number] != null) {
+			return current[number];
+		}
+		if (number >= cacheLimit) {
+			return PREFIX + number;
+		}
+		return render(number);
+	}
+
+	/**
+	 * Records that a number has been issued to an activity, so that format() keeps
+	 * the strings of numbers up to the next power of two above it.
+	 *
+	 * @param number the number issued
+	 */
+	static synchronized void issued(int number) {
+		if (number >= cacheLimit) {
+			cacheLimit = (number >= MAX_CACHED / 2) ? MAX_CACHED : Integer.highestOneBit(number) << 1;
+		}
+	}
+
+	/**
+	 * Builds and stores the ID string for a number below the cache limit that is not
+	 * in the table yet.
+	 *
+	 * @param number the ID number
+	 * @return the ID string
+	 */
+	private static synchronized String render(int number) {
+		String[] current = table;
+		if (number >= current.length) {
+			//number < cacheLimit <= MAX_CACHED, so number + 1 cannot overflow
+			int length = Math.min(cacheLimit, Math.max(number + 1, current.length * 2));
+			String[] grown = new String[length];
+			System.arraycopy(current, 0, grown, 0, current.length);
+			current = grown;
+		}
+		if (current[number] == null) {
+			current[number] = PREFIX + number;
+		}
+		//Publish the array after the string is in it, so a reader never sees the new
+		//array without the string
+		table = current;
+		return current[number];
+	}
+
+	/**
+	 * Returns the size of the table, for tests.
+	 *
+	 * @return the number of slots in the table
+	 */
+	static int tableSize() {
+		return table.length;
+	}
+
+	/**
+	 * Returns the number in an ID string of the form "act-N", where N is written
+	 * without a sign or leading zeros, or -1 for any other string. For every number n,
+	 * parse(format(n)) is n.
+	 *
+	 * @param id the ID string
+	 * @return the ID number, or -1 if the string is not an ID made by format()
+	 */
+	public static int parse(String id) {
+		if (id == null || id.length() <= PREFIX.length() || !id.startsWith(PREFIX)) {
+			return -1;
+		}
+		int start = PREFIX.length();
+		if (id.charAt(start) == '0' && id.length() > start + 1) {
+			return -1;
+		}
+		long number = 0;
+		for (int i = start; i < id.length(); i++) {
+			char c = id.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			number = number * 10 + (c - '0');
+			if (number > Integer.MAX_VALUE) {
+				return -1;
+			}
+		}
+		return (int) number;
+	}
+
+}
@@ -1,7 +1,8 @@
 package edu.ncsu.csc216.get_outdoors.model;
 
-import java.util.Observable;
-import java.util.Observer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import edu.ncsu.csc216.get_outdoors.util.SortedArrayList;
 
@@ -9,7 +10,12 @@ import edu.ncsu.csc216.get_outdoors.util.SortedArrayList;
  * 
  * @author Noah Benveniste
  */
-public class ActivityList extends Observable implements Observer, Tabular {
+public class ActivityList implements ModelListener<Activity>, Tabular, TabularView {
+	
+	/** The number of columns in get2DArray() and valueAt() */
+	private static final int COLUMN_COUNT = 5;
+	/** The number of recent row changes remembered for getChangesSince() */
+	static final int CHANGE_LOG_SIZE = 64;
 	
 	/** */
 	private String name;
@@ -17,6 +23,20 @@ public class ActivityList extends Observable implements Observer, Tabular {
 	private int numActivities;
 	/** */
 	private SortedArrayList<Activity> activities;
+	/** The activities by ID number. IDs are given out in order from 0, so the array is dense */
+	private Activity[] activitiesByID;
+	/** Index from each activity's name to the activity, used to reject duplicate names in O(1) */
+	private Map<String, Activity> activitiesByName;
+	/** Listeners told when an activity is added to the list or changes */
+	private final ModelEventBus<Activity> events = new ModelEventBus<Activity>();
+	/** The number of row changes so far */
+	private long version;
+	/** The kind of each recent row change. The change to version v is at (v - 1) % CHANGE_LOG_SIZE */
+	private final TableDelta.Kind[] logKinds = new TableDelta.Kind[CHANGE_LOG_SIZE];
+	/** The row index of each recent row change */
+	private final int[] logRows = new int[CHANGE_LOG_SIZE];
+	/** The activity in each recent row change */
+	private final Activity[] logActivities = new Activity[CHANGE_LOG_SIZE];
 	
 	/**
 	 * 
@@ -24,10 +44,30 @@ public class ActivityList extends Observable implements Observer, Tabular {
 	public ActivityList() {
 		name = "Activities";
 		activities = new SortedArrayList<Activity>();
+		activitiesByID = new Activity[10];
+		activitiesByName = new HashMap<String, Activity>();
 		numActivities = 0;
-		setChanged(); //Marks the Observable as changed
-		notifyObservers(this); //Sends a message to any Observer classes that the object has changed.
-		// The current instance is passed in except in specific instance listed in the detailed method descriptions, below.
+	}
+	
+	/**
+	 * Adds a listener that is told when an activity is added to the list, and when an
+	 * activity in the list changes.
+	 * 
+	 * @param listener the listener to add
+	 * @throws NullPointerException if the listener is null
+	 */
+	public void addListener(ModelListener<? super Activity> listener) {
+		events.addListener(listener);
+	}
+	
+	/**
+	 * Removes a listener.
+	 * 
+	 * @param listener the listener to remove
+	 * @return true if the listener was removed
+	 */
+	public boolean removeListener(ModelListener<? super Activity> listener) {
+		return events.removeListener(listener);
 	}
 	
 	/**
@@ -47,23 +87,27 @@ public class ActivityList extends Observable implements Observer, Tabular {
 	 * @return
 	 */
 	public boolean addActivity(String name, String description, boolean needSnow, int snowBoundary) {
-		String ID = "act-" + numActivities;
-		//Throws an exception if any of the inputs are invalid
-		Activity a = new Activity(ID, name, description, needSnow, snowBoundary);
+		//Throws an exception if any of the inputs are invalid. The ID is kept as a number, and
+		//only rendered as "act-N" when it is shown.
+		Activity a = new Activity(numActivities, name, description, needSnow, snowBoundary);
 		//Only increment the activity id counter if the activity is successfully added to the list
 		//i.e. it is not a duplicate of one in the list i.e. it doesn't have the same name as one 
-		//already in the list
-		if (activities.add(a)) {
+		//already in the list. The name index answers that without searching the list.
+		if (!activitiesByName.containsKey(a.getName()) && activities.add(a)) {
+			activitiesByName.put(a.getName(), a);
+			if (numActivities == activitiesByID.length) {
+				activitiesByID = Arrays.copyOf(activitiesByID, 2 * numActivities);
+			}
+			activitiesByID[numActivities] = a;
 			//Increment the number of activities
 			numActivities++;
 			
-			//Marks the Observable as changed
-			setChanged(); 
-			notifyObservers(this); //Sends a message to any Observer classes that the object has changed.
-			// The current instance is passed in except in specific instance listed in the detailed method descriptions, below.
-			
-			//Add this object to the created activity as an observer
-			a.addObserver(this);
+			//Record the new row, listen for changes to the activity, then tell this list's
+			//listeners it was added
+			int index = activities.indexOf(a);
+			logChange(TableDelta.Kind.INSERTED, index, a);
+			a.addListener(this);
+			events.fireAdded(this, a, index);
 			return true;
 		} else {
 			//Return false if the activity is already in the list
@@ -105,17 +149,121 @@ public class ActivityList extends Observable implements Observer, Tabular {
 	 */
 	@Override
 	public Object[][] get2DArray() {
-		Object[][] arr = new Object[activities.size()][5];
-		for (int i = 0; i < activities.size(); i++) {
-			Activity current = activities.get(i);
-			arr[i][0] = current.getActivityID();
-			arr[i][1] = current.getName();
-			arr[i][2] = current.getDescription();
-			arr[i][3] = current.snowNeeded();
-			arr[i][4] = current.getSnowBoundary();
+		Object[][] arr = new Object[activities.size()][];
+		int i = 0;
+		for (Activity current : activities) {
+			arr[i++] = toRow(current);
 		}
 		return arr;
 	}
+	
+	/**
+	 * 
+	 */
+	@Override
+	public int rowCount() {
+		return activities.size();
+	}
+	
+	/**
+	 * 
+	 */
+	@Override
+	public int columnCount() {
+		return COLUMN_COUNT;
+	}
+	
+	/**
+	 * Returns one cell of get2DArray(), read from the activity in the list without
+	 * copying the rest of the row.
+	 * 
+	 * @param row the index of the activity
+	 * @param col the column: ID, name, description, need snow or snow boundary
+	 * @return the value of the field
+	 * @throws IndexOutOfBoundsException if the row or column is out of range
+	 */
+	@Override
+	public Object valueAt(int row, int col) {
+		Activity a = getActivityAt(row);
+		switch (col) {
+		case 0:
+			return a.getActivityID();
+		case 1:
+			return a.getName();
+		case 2:
+			return a.getDescription();
+		case 3:
+			return a.snowNeeded();
+		case 4:
+			return a.getSnowBoundary();
+		default:
+			throw new IndexOutOfBoundsException("Index is outside of the acceptable range");
+		}
+	}
+	
+	/**
+	 * Returns the row of get2DArray() for an activity.
+	 * 
+	 * @param a the activity
+	 * @return the activity's ID, name, description, need snow and snow boundary
+	 */
+	private static Object[] toRow(Activity a) {
+		return new Object[] {a.getActivityID(), a.getName(), a.getDescription(), a.snowNeeded(),
+				a.getSnowBoundary()};
+	}
+	
+	/**
+	 * 
+	 */
+	@Override
+	public long getVersion() {
+		return version;
+	}
+	
+	/**
+	 * Returns the rows that changed since the given version. Only the last
+	 * CHANGE_LOG_SIZE changes are remembered, so a reader further behind than that, or
+	 * with a version this list never had, gets a full refresh. The values of each row
+	 * are read when this is called.
+	 * 
+	 * @param since the version the reader has
+	 * @return the changes since that version
+	 */
+	@Override
+	public TableDelta getChangesSince(long since) {
+		if (since == version) {
+			return TableDelta.none(version);
+		}
+		if (since < 0 || since > version || version - since > CHANGE_LOG_SIZE) {
+			return TableDelta.fullRefresh(since, version);
+		}
+		int n = (int) (version - since);
+		TableDelta.Kind[] kinds = new TableDelta.Kind[n];
+		int[] rows = new int[n];
+		Object[][] values = new Object[n][];
+		for (int i = 0; i < n; i++) {
+			int slot = (int) ((since + i) % CHANGE_LOG_SIZE);
+			kinds[i] = logKinds[slot];
+			rows[i] = logRows[slot];
+			values[i] = (kinds[i] == TableDelta.Kind.DELETED) ? null : toRow(logActivities[slot]);
+		}
+		return new TableDelta(since, version, kinds, rows, values);
+	}
+	
+	/**
+	 * Records a row change and moves to the next version.
+	 * 
+	 * @param kind the kind of change
+	 * @param row the index of the row
+	 * @param a the activity in the row
+	 */
+	private void logChange(TableDelta.Kind kind, int row, Activity a) {
+		int slot = (int) (version % CHANGE_LOG_SIZE);
+		logKinds[slot] = kind;
+		logRows[slot] = row;
+		logActivities[slot] = a;
+		version++;
+	}
 
 	/**
 	 * 
@@ -123,26 +271,50 @@ public class ActivityList extends Observable implements Observer, Tabular {
 	 * @return
 	 */
 	public int indexOfID(String id) {
-		int index = -1;
-		for (int i = 0; i < activities.size(); i++) {
-			if ((activities.get(i).getActivityID()).equals(id)) {
-				index = i;
-			}
+		return indexOfID(ActivityIDs.parse(id));
+	}
+	
+	/**
+	 * Returns the index of the activity with the given ID number, or -1 if there is no
+	 * such activity.
+	 * 
+	 * @param idNumber the ID number, as returned by Activity.getIDNumber()
+	 * @return the index of the activity, or -1
+	 */
+	public int indexOfID(int idNumber) {
+		//Find the activity by ID in O(1), then its position by a binary search on its name,
+		//which cannot change once the activity is constructed
+		if (idNumber < 0 || idNumber >= numActivities) {
+			return -1;
 		}
-		return index;
+		return activities.indexOf(activitiesByID[idNumber]);
+	}
+	
+	/**
+	 * Returns the index of the activity with the given name, or -1 if there is no such
+	 * activity. Names are matched exactly, as they are stored after trimming.
+	 * 
+	 * @param name the name of the activity
+	 * @return the index of the activity, or -1
+	 */
+	public int indexOfName(String name) {
+		Activity a = activitiesByName.get(name);
+		return (a == null) ? -1 : activities.indexOf(a);
 	}
 	
 	/**
+	 * Records a change to an activity in this list as an updated row, and forwards it
+	 * to this list's listeners, with the list as the source.
 	 * 
-	 * @param o
-	 * @param arg
+	 * @param source the activity that changed
+	 * @param a the activity that changed
+	 * @param fieldMask the Activity.Field bits of the fields that changed
 	 */
 	@Override
-	public void update(Observable o, Object arg) {
-		//If the passed activity (observable o) is contained in the activities list, notify observers
-		Activity a = (Activity) o;
-		if (activities.contains(a)) {
-			notifyObservers(arg);
+	public void entityChanged(Object source, Activity a, int fieldMask) {
+		if (activitiesByName.get(a.getName()) == a) {
+			logChange(TableDelta.Kind.UPDATED, activities.indexOf(a), a);
+			events.fireChanged(this, a, fieldMask);
 		}
 	}
 	
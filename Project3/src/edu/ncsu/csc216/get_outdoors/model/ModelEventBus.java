@@ -0,0 +1,138 @@
+package edu.ncsu.csc216.get_outdoors.model;
+
+import java.util.Arrays;
+
+/**
+ * Sends typed change events to a set of ModelListeners. This replaces
+ * java.util.Observable, which is deprecated, locks on every notification, copies
+ * its observers into a new array each time, and passes events as untyped Objects.
+ *
+ * Listeners are kept in a copy-on-write array: adding or removing a listener
+ * copies the array under a lock, while sending an event reads the current array
+ * once, without locking or allocating. A listener added or removed while an event
+ * is being sent does not affect that event. A listener that throws stops the event
+ * from reaching the listeners after it, and the exception is passed to the sender.
+ *
+ * @author Noah Benveniste
+ *
+ * @param <T> the type of entity the events are about
+ */
+public final class ModelEventBus<T> {
+
+	/** Shared empty listener array */
+	private static final ModelListener<?>[] NONE = new ModelListener<?>[0];
+
+	/** The listeners, in the order they were added. Only replaced, never modified */
+	private volatile ModelListener<? super T>[] listeners;
+
+	/**
+	 * Constructs a bus with no listeners.
+	 */
+	@SuppressWarnings("unchecked")
+	public ModelEventBus() {
+		listeners = (ModelListener<? super T>[]) NONE;
+	}
+
+	/**
+	 * Adds a listener, which will receive every event sent after this call. A listener
+	 * added more than once receives each event once per time it was added.
+	 *
+	 * @param listener the listener to add
+	 * @throws NullPointerException if the listener is null
+	 */
+	public synchronized void addListener(ModelListener<? super T> listener) {
+		if (listener == null) {
+			throw new NullPointerException("Listener cannot be null");
+		}
+		ModelListener<? super T>[] current = listeners;
+		ModelListener<? super T>[] next = Arrays.copyOf(current, current.length + 1);
+		next[current.length] = listener;
+		listeners = next;
+	}
+
+	/**
+	 * Removes the most recently added occurrence of a listener.
+	 *
+	 * @param listener the listener to remove
+	 * @return true if the listener was removed
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized boolean removeListener(ModelListener<? super T> listener) {
+		ModelListener<? super T>[] current = listeners;
+		for (int i = current.length - 1; i >= 0; i--) {
+			if (current[i] == listener) {
+				if (current.length == 1) {
+					listeners = (ModelListener<? super T>[]) NONE;
+				} else {
+					ModelListener<? super T>[] next = Arrays.copyOf(current, current.length - 1);
+					System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+					listeners = next;
+				}
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the number of listeners.
+	 *
+	 * @return the number of listeners
+	 */
+	public int listenerCount() {
+		return listeners.length;
+	}
+
+	/**
+	 * Returns true if there are any listeners, so that a sender can skip work that is
+	 * only needed to describe an event, such as finding an index.
+	 *
+	 * @return true if there are any listeners
+	 */
+	public boolean hasListeners() {
+		return listeners.length > 0;
+	}
+
+	/**
+	 * Sends an entity added event to every listener.
+	 *
+	 * @param source the list the entity was added to
+	 * @param entity the entity that was added
+	 * @param index the index the entity was added at
+	 */
+	public void fireAdded(Object source, T entity, int index) {
+		ModelListener<? super T>[] current = listeners;
+		for (int i = 0; i < current.length; i++) {
+			current[i].entityAdded(source, entity, index);
+		}
+	}
+
+	/**
+	 * Sends an entity changed event to every listener.
+	 *
+	 * @param source the entity, or the list forwarding the event
+	 * @param entity the entity that changed
+	 * @param fieldMask a bit mask of the fields that changed
+	 */
+	public void fireChanged(Object source, T entity, int fieldMask) {
+		ModelListener<? super T>[] current = listeners;
+		for (int i = 0; i < current.length; i++) {
+			current[i].entityChanged(source, entity, fieldMask);
+		}
+	}
+
+	/**
+	 * Sends an entity removed event to every listener.
+	 *
+	 * @param source the list the entity was removed from
+	 * @param entity the entity that was removed
+	 * @param index the index the entity was at
+	 */
+	public void fireRemoved(Object source, T entity, int index) {
+		ModelListener<? super T>[] current = listeners;
+		for (int i = 0; i < current.length; i++) {
+			current[i].entityRemoved(source, entity, index);
+		}
+	}
+
+}
@@ -0,0 +1,50 @@
+package edu.ncsu.csc216.get_outdoors.model;
+
+/**
+ * Receives the typed change events sent through a ModelEventBus. Each kind of
+ * event has its own method, and the details are passed as arguments rather than in
+ * an event object, so sending an event does not allocate. Every method does
+ * nothing by default, so a listener only implements the events it needs.
+ *
+ * @author Noah Benveniste
+ *
+ * @param <T> the type of entity the events are about
+ */
+public interface ModelListener<T> {
+
+    /**
+     * Called after an entity is added to a list.
+     *
+     * @param source the list the entity was added to
+     * @param entity the entity that was added
+     * @param index the index the entity was added at
+     */
+    default void entityAdded(Object source, T entity, int index) {
+        // Ignored unless overridden
+    }
+
+    /**
+     * Called after one or more fields of an entity change, once per change however
+     * many fields it covers.
+     *
+     * @param source the entity, or the list that forwarded the event
+     * @param entity the entity that changed
+     * @param fieldMask a bit mask of the fields that changed, as defined by the
+     *            entity's type, such as Activity.Field.mask()
+     */
+    default void entityChanged(Object source, T entity, int fieldMask) {
+        // Ignored unless overridden
+    }
+
+    /**
+     * Called after an entity is removed from a list.
+     *
+     * @param source the list the entity was removed from
+     * @param entity the entity that was removed
+     * @param index the index the entity was at
+     */
+    default void entityRemoved(Object source, T entity, int index) {
+        // Ignored unless overridden
+    }
+
+}
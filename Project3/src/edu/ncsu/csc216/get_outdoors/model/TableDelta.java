@@ -0,0 +1,192 @@
+package edu.ncsu.csc216.get_outdoors.model;
+
+/**
+ * The rows of a Tabular list that changed between two of its versions, as returned by
+ * Tabular.getChangesSince(). The changes are in the order they happened, and each
+ * row index is the index at the time of that change, so applying them in order to a
+ * copy of the table at the older version gives the table at the newer version.
+ *
+ * A delta may instead be a full refresh, when the list no longer remembers every
+ * change since the older version. The reader should then rebuild its copy from
+ * get2DArray().
+ *
+ * @author Noah Benveniste
+ */
+public final class TableDelta {
+
+	/**
+	 * The kinds of change to a row
+	 */
+	public enum Kind {
+		/** A row was inserted at the index, and the rows from there on moved down */
+		INSERTED,
+		/** The values of the row at the index changed */
+		UPDATED,
+		/** The row at the index was deleted, and the rows after it moved up */
+		DELETED
+	}
+
+	/** Shared empty arrays for deltas with no changes */
+	private static final Kind[] NO_KINDS = new Kind[0];
+	/** Shared empty arrays for deltas with no changes */
+	private static final int[] NO_ROWS = new int[0];
+	/** Shared empty arrays for deltas with no changes */
+	private static final Object[][] NO_VALUES = new Object[0][];
+
+	/** The version the changes start from */
+	private final long fromVersion;
+	/** The version the changes lead to */
+	private final long toVersion;
+	/** Whether the reader must rebuild the whole table instead */
+	private final boolean fullRefresh;
+	/** The kind of each change */
+	private final Kind[] kinds;
+	/** The row index of each change */
+	private final int[] rows;
+	/** The new values of each inserted or updated row, or null for a deleted row */
+	private final Object[][] values;
+
+	/**
+	 * Constructs a delta from the given changes. The arrays are used as they are,
+	 * not copied.
+	 *
+	 * @param fromVersion the version the changes start from
+	 * @param toVersion the version the changes lead to
+	 * @param kinds the kind of each change
+	 * @param rows the row index of each change
+	 * @param values the new values of each row, or null for a deleted row
+	 */
+	TableDelta(long fromVersion, long toVersion, Kind[] kinds, int[] rows, Object[][] values) {
+		this(fromVersion, toVersion, false, kinds, rows, values);
+	}
+
+	/**
+	 * Constructs a delta.
+	 *
+	 * @param fromVersion the version the changes start from
+	 * @param toVersion the version the changes lead to
+	 * @param fullRefresh whether the reader must rebuild the whole table
+	 * @param kinds the kind of each change
+	 * @param rows the row index of each change
+	 * @param values the new values of each row, or null for a deleted row
+	 */
+	private TableDelta(long fromVersion, long toVersion, boolean fullRefresh, Kind[] kinds, int[] rows,
+			Object[][] values) {
+		this.fromVersion = fromVersion;
+		this.toVersion = toVersion;
+		this.fullRefresh = fullRefresh;
+		this.kinds = kinds;
+		this.rows = rows;
+		this.values = values;
+	}
+
+	/**
+	 * Returns a delta that tells the reader to rebuild the whole table.
+	 *
+	 * @param fromVersion the version the reader has
+	 * @param toVersion the current version
+	 * @return a full refresh delta
+	 */
+	static TableDelta fullRefresh(long fromVersion, long toVersion) {
+		return new TableDelta(fromVersion, toVersion, true, NO_KINDS, NO_ROWS, NO_VALUES);
+	}
+
+	/**
+	 * Returns a delta with no changes, for a reader that is already up to date.
+	 *
+	 * @param version the current version
+	 * @return an empty delta
+	 */
+	static TableDelta none(long version) {
+		return new TableDelta(version, version, false, NO_KINDS, NO_ROWS, NO_VALUES);
+	}
+
+	/**
+	 * Returns the version the changes start from.
+	 *
+	 * @return the older version
+	 */
+	public long getFromVersion() {
+		return fromVersion;
+	}
+
+	/**
+	 * Returns the version the changes lead to, which the reader should ask for changes
+	 * since next time.
+	 *
+	 * @return the newer version
+	 */
+	public long getToVersion() {
+		return toVersion;
+	}
+
+	/**
+	 * Returns true if the reader must rebuild its copy of the table from get2DArray(),
+	 * because the changes since its version are no longer known.
+	 *
+	 * @return true for a full refresh
+	 */
+	public boolean isFullRefresh() {
+		return fullRefresh;
+	}
+
+	/**
+	 * Returns the number of changes. A full refresh has none.
+	 *
+	 * @return the number of changes
+	 */
+	public int size() {
+		return kinds.length;
+	}
+
+	/**
+	 * Returns the kind of a change.
+	 *
+	 * @param i the index of the change
+	 * @return the kind of the change
+	 */
+	public Kind getKind(int i) {
+		return kinds[i];
+	}
+
+	/**
+	 * Returns the row index of a change, as it was when the change happened.
+	 *
+	 * @param i the index of the change
+	 * @return the row index
+	 */
+	public int getRow(int i) {
+		return rows[i];
+	}
+
+	/**
+	 * Returns the values of an inserted or updated row, in the same columns as
+	 * get2DArray(). The values are the row's values now, so a row that changed again
+	 * later shows its latest values.
+	 *
+	 * @param i the index of the change
+	 * @return the row's values, or null for a deleted row
+	 */
+	public Object[] getValues(int i) {
+		return values[i];
+	}
+
+	/**
+	 * Returns a summary of the delta, for debugging.
+	 *
+	 * @return a summary of the delta
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(fromVersion).append("->").append(toVersion);
+		if (fullRefresh) {
+			return sb.append(" full refresh").toString();
+		}
+		for (int i = 0; i < kinds.length; i++) {
+			sb.append(' ').append(kinds[i]).append(' ').append(rows[i]);
+		}
+		return sb.toString();
+	}
+
+}
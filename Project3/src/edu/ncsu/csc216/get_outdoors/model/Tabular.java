@@ -6,6 +6,10 @@ package edu.ncsu.csc216.get_outdoors.model;
  * represented as a "row" and each field in an element is a "column" in the 2D
  * array.
  * 
+ * A reader that keeps a copy of the array can stay up to date without rebuilding
+ * it: it remembers getVersion() when it copies the array, and later applies the
+ * rows in getChangesSince() that version.
+ * 
  * @author David Wright
  */
 public interface Tabular {
@@ -19,4 +23,23 @@ public interface Tabular {
      */
     public Object[][] get2DArray();
 
-}
\ No newline at end of file
+    /**
+     * Get the version of the list, which increases each time a row is inserted,
+     * updated or deleted.
+     * 
+     * @return the current version
+     */
+    public long getVersion();
+
+    /**
+     * Get the rows that changed since the given version, in the order they changed.
+     * If the list no longer knows every change since that version, the result is a
+     * full refresh, and the reader should call get2DArray() instead.
+     * 
+     * @param version a version previously returned by getVersion() or
+     *            TableDelta.getToVersion()
+     * @return the changes since the version
+     */
+    public TableDelta getChangesSince(long version);
+
+}
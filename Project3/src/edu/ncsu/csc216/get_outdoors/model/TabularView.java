@@ -0,0 +1,40 @@
+package edu.ncsu.csc216.get_outdoors.model;
+
+/**
+ * Classes that implement this interface let a reader look up single cells of a list
+ * laid out as rows and columns, in the same layout as Tabular.get2DArray(), but read
+ * from the list itself instead of from a copy. A table that shows a few rows at a
+ * time can then read only those rows, however long the list is.
+ *
+ * Values are read when they are asked for, so a reader sees changes to the list
+ * right away, and should not assume two reads of a cell return the same value.
+ *
+ * @author Noah Benveniste
+ */
+public interface TabularView {
+
+    /**
+     * Get the number of rows, which is the number of elements in the list
+     *
+     * @return the number of rows
+     */
+    public int rowCount();
+
+    /**
+     * Get the number of columns, which is the number of fields shown for each element
+     *
+     * @return the number of columns
+     */
+    public int columnCount();
+
+    /**
+     * Get the value of a field of an element in the list
+     *
+     * @param row the index of the element
+     * @param col the index of the field
+     * @return the value, as it would appear in get2DArray()[row][col]
+     * @throws IndexOutOfBoundsException if the row or column is out of range
+     */
+    public Object valueAt(int row, int col);
+
+}
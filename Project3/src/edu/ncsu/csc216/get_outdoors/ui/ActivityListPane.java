@@ -1,26 +1,30 @@
 package edu.ncsu.csc216.get_outdoors.ui;
 
 import java.awt.Color;
-import java.util.Observable;
 
 import javax.swing.BorderFactory;
 import javax.swing.JTable;
 import javax.swing.table.TableColumn;
 
+import edu.ncsu.csc216.get_outdoors.model.Activity;
 import edu.ncsu.csc216.get_outdoors.model.ActivityList;
+import edu.ncsu.csc216.get_outdoors.model.ModelListener;
+import edu.ncsu.csc216.get_outdoors.model.TableDelta;
 
 /**
  * Maintains the list of activities.
  * 
  * @author Jessica Young Schmidt
  */
-public class ActivityListPane extends ListPane {
+public class ActivityListPane extends ListPane implements ModelListener<Activity> {
     /** Serial version UID */
     private static final long serialVersionUID = 1176490008221464860L;
     /** List of activities */
     private ActivityList activities;
     /** ActivityTableModel which displays the list of activities */
     private ActivityTableModel atm;
+    /** The version of the list the table shows */
+    private long version;
     /** Widths of columns */
     private int[] colWidths = { 50, 125, 300, 75, 75 };
 
@@ -32,8 +36,9 @@ public class ActivityListPane extends ListPane {
     public ActivityListPane(ActivityList activities) {
         super();
         this.activities = activities;
-        activities.addObserver(this);
-        atm = new ActivityTableModel(activities.get2DArray());
+        activities.addListener(this);
+        version = activities.getVersion();
+        atm = new ActivityTableModel(activities);
         initView();
     }
 
@@ -63,29 +68,40 @@ public class ActivityListPane extends ListPane {
     }
 
     /**
-     * This method is called by the observed object, whenever the observed object is
-     * changed.
+     * Applies the new row to the table when an activity is added.
      * 
-     * @param o the observable object
-     * @param arg any additional information needed about the change.
+     * @param source the list the activity was added to
+     * @param activity the activity that was added
+     * @param index the row the activity was added at
      */
     @Override
-    public void update(Observable o, Object arg) {
-        if (activities.equals(o)) {
-            // If there is a different number of rows, create a show new
-            // ActivityTableModel.
-            if (activities.size() != atm.getRowCount()) {
-                atm = new ActivityTableModel(activities.get2DArray());
-                table.setModel(atm);
-            } else {
-                // Otherwise, just update the values directly.
-                Object[][] arr = activities.get2DArray();
-                for (int i = 0; i < arr.length; i++) {
-                    for (int j = 0; j < atm.getColumnCount(); j++) {
-                        atm.setValueAt(arr[i][j], i, j);
-                    }
-                }
-            }
+    public void entityAdded(Object source, Activity activity, int index) {
+        if (activities == source) {
+            refresh();
         }
     }
+
+    /**
+     * Applies the changed row to the table when an activity in the list changes.
+     * 
+     * @param source the list the change came through
+     * @param activity the activity that changed
+     * @param fieldMask the Activity.Field bits of the fields that changed
+     */
+    @Override
+    public void entityChanged(Object source, Activity activity, int fieldMask) {
+        if (activities == source) {
+            refresh();
+        }
+    }
+
+    /**
+     * Tells the table which rows changed since it was last updated. The table model
+     * reads its cells from the list, so only those rows on screen are read again.
+     */
+    private void refresh() {
+        TableDelta delta = activities.getChangesSince(version);
+        atm.applyChanges(delta);
+        version = delta.getToVersion();
+    }
 }
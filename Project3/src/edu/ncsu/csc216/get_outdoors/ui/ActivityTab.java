@@ -125,9 +125,9 @@ public class ActivityTab extends Tab {
                 getEditPane().setData(d);
                 Activity activity = activities
                         .getActivityAt(activities.indexOfID(d.getActivityID()));
-                activity.setDescription(d.getDescription());
-                activity.setSnowBoundary(d.getSnowBoundary());
-                activity.setNeedSnow(d.snowNeeded());
+                // Apply all the fields as one edit, so observers are notified once
+                activity.edit(edit -> edit.setDescription(d.getDescription())
+                        .setSnowBoundary(d.getSnowBoundary()).setNeedSnow(d.snowNeeded()));
                 getListPane().clearSelection();
                 enableSave(false);
                 getEditPane().disableEdit();
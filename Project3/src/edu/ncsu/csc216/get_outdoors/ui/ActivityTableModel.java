@@ -1,5 +1,7 @@
 package edu.ncsu.csc216.get_outdoors.ui;
 
+import edu.ncsu.csc216.get_outdoors.model.TabularView;
+
 /**
  * ActivityTableModel is a wrapper for the information in List that can be used
  * by a JTable.
@@ -23,6 +25,15 @@ public class ActivityTableModel extends TableModel {
         super(data);
     }
 
+    /**
+     * Creates a model that reads from the list of activities as the table needs it.
+     * 
+     * @param view the list of activities
+     */
+    public ActivityTableModel(TabularView view) {
+        super(view);
+    }
+
     /**
      * Returns the column name at the given index.
      * 
@@ -42,8 +53,8 @@ public class ActivityTableModel extends TableModel {
      */
     @Override
     public ActivityData getRowData(int row) {
-        return new ActivityData((String) data[row][0], (String) data[row][1], (String) data[row][2],
-                (Boolean) data[row][3], (Integer) data[row][4]);
+        return new ActivityData((String) getValueAt(row, 0), (String) getValueAt(row, 1),
+                (String) getValueAt(row, 2), (Boolean) getValueAt(row, 3), (Integer) getValueAt(row, 4));
     }
 
     /**
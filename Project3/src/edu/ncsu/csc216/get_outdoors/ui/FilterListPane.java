@@ -2,6 +2,7 @@ package edu.ncsu.csc216.get_outdoors.ui;
 
 import java.awt.Color;
 import java.util.Observable;
+import java.util.Observer;
 
 import javax.swing.BorderFactory;
 import javax.swing.JTable;
@@ -15,7 +16,7 @@ import edu.ncsu.csc216.get_outdoors.model.TrailList;
  * 
  * @author Jessica Young Schmidt
  */
-public class FilterListPane extends ListPane {
+public class FilterListPane extends ListPane implements Observer {
 
     /** Serial version UID */
     private static final long serialVersionUID = -3998419560246767436L;
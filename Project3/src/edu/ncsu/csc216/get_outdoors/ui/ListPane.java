@@ -1,16 +1,15 @@
 package edu.ncsu.csc216.get_outdoors.ui;
 
-import java.util.Observer;
-
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
 
 /**
- * Maintains the list of objects.
+ * Maintains the list of objects. Subclasses listen for changes to their list, through
+ * a ModelListener for lists on the model event bus or an Observer for the rest.
  * 
  * @author Jessica Young Schmidt
  */
-public abstract class ListPane extends JScrollPane implements Observer {
+public abstract class ListPane extends JScrollPane {
     /** Serial version UID */
     private static final long serialVersionUID = 1L;
     /** displays the list of objects */
@@ -2,6 +2,7 @@ package edu.ncsu.csc216.get_outdoors.ui;
 
 import java.awt.Color;
 import java.util.Observable;
+import java.util.Observer;
 
 import javax.swing.BorderFactory;
 import javax.swing.JTable;
@@ -14,7 +15,7 @@ import edu.ncsu.csc216.get_outdoors.model.ParkList;
  * 
  * @author Jessica Young Schmidt
  */
-public class ParkListPane extends ListPane {
+public class ParkListPane extends ListPane implements Observer {
     /** Serial version UID */
     private static final long serialVersionUID = -7283113847070434860L;
     /** List of parks */
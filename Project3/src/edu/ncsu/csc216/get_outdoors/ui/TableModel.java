@@ -2,6 +2,9 @@ package edu.ncsu.csc216.get_outdoors.ui;
 
 import javax.swing.table.AbstractTableModel;
 
+import edu.ncsu.csc216.get_outdoors.model.TableDelta;
+import edu.ncsu.csc216.get_outdoors.model.TabularView;
+
 /**
  * TableModel is a wrapper for the information in List that can be used by a
  * JTable.
@@ -13,8 +16,10 @@ import javax.swing.table.AbstractTableModel;
 public abstract class TableModel extends AbstractTableModel {
     /** Serial version UID */
     private static final long serialVersionUID = 542998100968273770L;
-    /** Array of data information */
+    /** Array of data information, or null if the model reads from a view */
     protected Object[][] data;
+    /** The live list the model reads from, or null if it reads from data */
+    protected TabularView view;
 
     /**
      * Creates the model from the given data.
@@ -26,13 +31,24 @@ public abstract class TableModel extends AbstractTableModel {
         this.data = data;
     }
 
+    /**
+     * Creates a model that reads each cell from the list when the table asks for it,
+     * rather than from a copy. Only the rows on screen are read.
+     * 
+     * @param view the list to read from
+     */
+    public TableModel(TabularView view) {
+        super();
+        this.view = view;
+    }
+
     /**
      * Returns the number of rows in the data.
      * 
      * @return the number of rows in the data
      */
     public int getRowCount() {
-        return data.length;
+        return (view != null) ? view.rowCount() : data.length;
     }
 
     /**
@@ -58,21 +74,96 @@ public abstract class TableModel extends AbstractTableModel {
      * @return the value in the data at the given row and col
      */
     public Object getValueAt(int row, int col) {
-        return data[row][col];
+        return (view != null) ? view.valueAt(row, col) : data[row][col];
     }
 
     /**
-     * Sets the value to the given cell in the TableModel.
+     * Sets the value to the given cell in the TableModel. A model that reads from a
+     * view already has the list's value, so it only repaints the cell.
      * 
      * @param value the value to set
      * @param row the index for the row
      * @param col the index for the column
      */
     public void setValueAt(Object value, int row, int col) {
-        data[row][col] = value;
+        if (view == null) {
+            data[row][col] = value;
+        }
         fireTableCellUpdated(row, col);
     }
 
+    /**
+     * Applies the row changes from a Tabular list to the data, firing an event for
+     * each row so the table repaints only those rows. Inserting or deleting a row
+     * copies the row references, but not the other rows' values. A model that reads
+     * from a view already has the changes, so it only fires the events.
+     * 
+     * @param delta the changes since the version the data was built from
+     * @return false if the delta is a full refresh, which the caller must handle by
+     *         rebuilding the model, or true once the changes are applied
+     */
+    public boolean applyChanges(TableDelta delta) {
+        if (view != null) {
+            if (delta.isFullRefresh()) {
+                fireTableDataChanged();
+            }
+            for (int i = 0; i < delta.size(); i++) {
+                fireRowChanged(delta.getKind(i), delta.getRow(i));
+            }
+            return true;
+        }
+        if (delta.isFullRefresh()) {
+            return false;
+        }
+        for (int i = 0; i < delta.size(); i++) {
+            int row = delta.getRow(i);
+            switch (delta.getKind(i)) {
+            case INSERTED:
+                Object[][] grown = new Object[data.length + 1][];
+                System.arraycopy(data, 0, grown, 0, row);
+                System.arraycopy(data, row, grown, row + 1, data.length - row);
+                grown[row] = delta.getValues(i);
+                data = grown;
+                break;
+            case UPDATED:
+                data[row] = delta.getValues(i);
+                break;
+            case DELETED:
+                Object[][] shrunk = new Object[data.length - 1][];
+                System.arraycopy(data, 0, shrunk, 0, row);
+                System.arraycopy(data, row + 1, shrunk, row, data.length - row - 1);
+                data = shrunk;
+                break;
+            default:
+                break;
+            }
+            fireRowChanged(delta.getKind(i), row);
+        }
+        return true;
+    }
+
+    /**
+     * Fires the table event for one row change.
+     * 
+     * @param kind the kind of change
+     * @param row the row that changed
+     */
+    private void fireRowChanged(TableDelta.Kind kind, int row) {
+        switch (kind) {
+        case INSERTED:
+            fireTableRowsInserted(row, row);
+            break;
+        case UPDATED:
+            fireTableRowsUpdated(row, row);
+            break;
+        case DELETED:
+            fireTableRowsDeleted(row, row);
+            break;
+        default:
+            break;
+        }
+    }
+
     /**
      * Returns the Data object associated with the given row in the TableModel.
      * 
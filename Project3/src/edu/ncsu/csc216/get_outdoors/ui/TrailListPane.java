@@ -1,8 +1,9 @@
 package edu.ncsu.csc216.get_outdoors.ui;
 
 import java.util.Observable;
+import java.util.Observer;
 
-public class TrailListPane extends ListPane {
+public class TrailListPane extends ListPane implements Observer {
 
 	public TrailListPane() {
 		// TODO Auto-generated constructor stub
@@ -0,0 +1,636 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+/**
+ * A SortedList that changes its layout to suit its size and workload. It starts as
+ * a SortedArrayList, which is the most compact layout and the fastest for small
+ * lists and for elements added in increasing order. It moves to a
+ * SortedBPlusTreeList, where adding or removing anywhere takes O(log n) time, once
+ * it grows past the grow threshold, or once it holds at least the workload minimum
+ * and most of a window of recent adds have landed before the last element. It
+ * moves back to an array once it shrinks below the shrink threshold.
+ *
+ * The shrink threshold is below the workload minimum, and both are below the grow
+ * threshold, so the list does not switch back and forth around one size. Each
+ * switch copies the list once, in O(n) time. The thresholds, the current layout
+ * and the number of switches so far are reported by stats().
+ *
+ * Iterators are fail-fast across layout changes. Removing through an iterator never
+ * changes the layout; a list that has shrunk that way moves back to an array on its
+ * next add or remove. Spliterators and range views come from the current layout and
+ * are only valid until the list is next modified.
+ *
+ * @author Noah Benveniste
+ *
+ * @param <E> the type of element in the list
+ */
+public class AdaptiveSortedList<E extends Comparable<E>> implements SortedList<E> {
+
+	/** Default size above which the list moves to a tree */
+	public static final int DEFAULT_GROW_THRESHOLD = 4096;
+	/** Default size below which the list moves back to an array */
+	public static final int DEFAULT_SHRINK_THRESHOLD = 512;
+	/** Number of adds in each window of the workload check */
+	public static final int WORKLOAD_WINDOW = 256;
+	/** Number of adds in a window that must land before the last element to move to a tree */
+	public static final int MID_INSERT_LIMIT = WORKLOAD_WINDOW * 3 / 4;
+
+	/** The layouts the list can take */
+	public enum Layout {
+		/** A SortedArrayList */
+		ARRAY,
+		/** A SortedBPlusTreeList */
+		TREE
+	}
+
+	/** The Comparator used to order the list, or null if the list uses natural ordering */
+	private final Comparator<? super E> comparator;
+	/** Size above which the list moves to a tree */
+	private final int growThreshold;
+	/** Size below which the list moves back to an array */
+	private final int shrinkThreshold;
+	/** Size from which the workload check can move the list to a tree */
+	private final int workloadMinSize;
+	/** The list in its current layout */
+	private SortedList<E> delegate;
+	/** The current layout */
+	private Layout layout;
+	/** Number of successful adds in the current workload window */
+	private int windowAdds;
+	/** Number of those adds that landed before the last element */
+	private int windowMidInserts;
+	/** Number of times the list has moved to a tree */
+	private int conversionsToTree;
+	/** Number of times the list has moved back to an array */
+	private int conversionsToArray;
+	/** Number of structural modifications, used to make iterators fail-fast */
+	private int modCount;
+
+	/**
+	 * Constructs an empty list that uses the natural ordering of its elements and the
+	 * default thresholds.
+	 */
+	public AdaptiveSortedList() {
+		this(null);
+	}
+
+	/**
+	 * Constructs an empty list whose elements are ordered by the given Comparator,
+	 * with the default thresholds.
+	 *
+	 * @param comparator the Comparator used to order the list, or null to use the
+	 * elements' natural ordering
+	 */
+	public AdaptiveSortedList(Comparator<? super E> comparator) {
+		this(DEFAULT_GROW_THRESHOLD, DEFAULT_SHRINK_THRESHOLD, comparator);
+	}
+
+	/**
+	 * Constructs an empty list with the given thresholds. The workload check applies
+	 * from twice the shrink threshold, or from the grow threshold if that is smaller.
+	 *
+	 * @param growThreshold the size above which the list moves to a tree
+	 * @param shrinkThreshold the size below which the list moves back to an array
+	 * @param comparator the Comparator used to order the list, or null to use the
+	 * elements' natural ordering
+	 * @throws IllegalArgumentException if the shrink threshold is negative or not
+	 *             less than the grow threshold
+	 */
+	public AdaptiveSortedList(int growThreshold, int shrinkThreshold, Comparator<? super E> comparator) {
+		if (shrinkThreshold < 0 || shrinkThreshold >= growThreshold) {
+			throw new IllegalArgumentException("Shrink threshold must be at least 0 and less than grow threshold");
+		}
+		this.comparator = comparator;
+		this.growThreshold = growThreshold;
+		this.shrinkThreshold = shrinkThreshold;
+		this.workloadMinSize = (int) Math.min(growThreshold, 2L * shrinkThreshold);
+		this.delegate = new SortedArrayList<E>(comparator);
+		this.layout = Layout.ARRAY;
+	}
+
+	/**
+	 * Returns the current layout, thresholds and switching counts.
+	 *
+	 * @return a snapshot of the list's statistics
+	 */
+	public Stats stats() {
+		return new Stats(this);
+	}
+
+	/**
+	 * Returns the number of the elements in the list.
+	 *
+	 * @return the number of elements in this list
+	 */
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	/**
+	 * Returns true if the list has no elements.
+	 *
+	 * @return true if this list contains no elements
+	 */
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	/**
+	 * Returns true if the list contains the element.
+	 *
+	 * @param e element whose presence in this list is to be tested
+	 * @return true if this list contains the specified element
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public boolean contains(E e) {
+		return delegate.contains(e);
+	}
+
+	/**
+	 * Returns the Comparator used to order this list, or null if the list uses the
+	 * natural ordering of its elements.
+	 *
+	 * @return the comparator used to order this list, or null
+	 */
+	@Override
+	public Comparator<? super E> comparator() {
+		return comparator;
+	}
+
+	/**
+	 * Returns a fail-fast iterator over the elements in this list in sorted order,
+	 * which supports remove().
+	 *
+	 * @return an iterator over the elements in this list in sorted order
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new AdaptiveIterator();
+	}
+
+	/**
+	 * Returns the current layout's Spliterator.
+	 *
+	 * @return a Spliterator over the elements in this list
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return delegate.spliterator();
+	}
+
+	/**
+	 * Adds the specified element to list in sorted order, then moves the list to a
+	 * tree if it has grown past the grow threshold or the workload check calls for
+	 * it.
+	 *
+	 * @param e element to be appended to this list
+	 * @return true (as specified by {@link Collection#add})
+	 * @throws NullPointerException if e is null
+	 * @throws IllegalArgumentException if an equal element is already in the list
+	 */
+	@Override
+	public boolean add(E e) {
+		delegate.add(e);
+		modCount++;
+		if (layout == Layout.ARRAY) {
+			windowAdds++;
+			//An append leaves e last, which is checked without another comparison
+			if (delegate.get(delegate.size() - 1) != e) {
+				windowMidInserts++;
+			}
+			if (windowAdds == WORKLOAD_WINDOW) {
+				boolean midHeavy = windowMidInserts >= MID_INSERT_LIMIT && delegate.size() >= workloadMinSize;
+				resetWindow();
+				if (midHeavy) {
+					toTree();
+					return true;
+				}
+			}
+		}
+		adapt();
+		return true;
+	}
+
+	/**
+	 * Adds all of the elements in the specified collection to this list in sorted
+	 * order, ignoring any elements that are already in the list or repeated in the
+	 * collection, then moves the list to a tree if it has grown past the grow
+	 * threshold.
+	 *
+	 * @param c collection containing elements to be added to this list
+	 * @return true if this list changed as a result of the call
+	 * @throws NullPointerException if the specified collection or any of its
+	 *             elements is null
+	 */
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		boolean changed = delegate.addAll(c);
+		if (changed) {
+			modCount++;
+			adapt();
+		}
+		return changed;
+	}
+
+	/**
+	 * Returns the element at the specified position in this list.
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified position in this list
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	public E get(int index) {
+		return delegate.get(index);
+	}
+
+	/**
+	 * Removes the element at the specified position in this list, then moves the list
+	 * back to an array if it has shrunk below the shrink threshold.
+	 *
+	 * @param index the index of the element to be removed
+	 * @return the element previously at the specified position
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	public E remove(int index) {
+		E removed = delegate.remove(index);
+		modCount++;
+		adapt();
+		return removed;
+	}
+
+	/**
+	 * Removes all of the elements of this list that satisfy the given predicate, then
+	 * moves the list back to an array if it has shrunk below the shrink threshold.
+	 *
+	 * @param filter a predicate which returns true for elements to be removed
+	 * @return true if any elements were removed
+	 * @throws NullPointerException if the filter is null
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		int size = delegate.size();
+		try {
+			return delegate.removeIf(filter);
+		} finally {
+			if (delegate.size() != size) {
+				modCount++;
+				adapt();
+			}
+		}
+	}
+
+	/**
+	 * Removes all of this list's elements that are also contained in the specified
+	 * collection, then moves the list back to an array if it has shrunk below the
+	 * shrink threshold.
+	 *
+	 * @param c collection containing elements to be removed from this list
+	 * @return true if this list changed as a result of the call
+	 * @throws NullPointerException if the specified collection or any of its
+	 *             elements is null
+	 */
+	@Override
+	public boolean removeAll(Collection<? extends E> c) {
+		boolean changed = delegate.removeAll(c);
+		if (changed) {
+			modCount++;
+			adapt();
+		}
+		return changed;
+	}
+
+	/**
+	 * Removes the elements whose index is between fromIndex, inclusive, and toIndex,
+	 * exclusive, then moves the list back to an array if it has shrunk below the
+	 * shrink threshold.
+	 *
+	 * @param fromIndex index of the first element to be removed
+	 * @param toIndex index after the last element to be removed
+	 * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size(), or
+	 *             fromIndex > toIndex
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		delegate.removeRange(fromIndex, toIndex);
+		if (fromIndex < toIndex) {
+			modCount++;
+			adapt();
+		}
+	}
+
+	/**
+	 * Returns the index of the specified element in this list, or -1 if this list
+	 * does not contain the element.
+	 *
+	 * @param e element to search for
+	 * @return the index of the element in this list, or -1
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int indexOf(E e) {
+		return delegate.indexOf(e);
+	}
+
+	/**
+	 * Returns the index of the first element that is greater than or equal to e, or
+	 * size() if there is no such element.
+	 *
+	 * @param e the element to search for
+	 * @return the index of the first element not less than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int lowerBound(E e) {
+		return delegate.lowerBound(e);
+	}
+
+	/**
+	 * Returns the index of the first element that is strictly greater than e, or
+	 * size() if there is no such element.
+	 *
+	 * @param e the element to search for
+	 * @return the index of the first element greater than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int upperBound(E e) {
+		return delegate.upperBound(e);
+	}
+
+	/**
+	 * Returns a read-only view of the elements greater than or equal to from and
+	 * strictly less than to, from the current layout.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return a view of the elements in the range, in sorted order
+	 * @throws NullPointerException if either endpoint is null
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	@Override
+	public List<E> rangeView(E from, E to) {
+		return delegate.rangeView(from, to);
+	}
+
+	/**
+	 * Returns a String representation of the list, in the form [a, b, c]
+	 *
+	 * @return a String representation of the list
+	 */
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+
+	/**
+	 * Moves the list to a tree if it has grown past the grow threshold, or back to an
+	 * array if it has shrunk below the shrink threshold.
+	 */
+	private void adapt() {
+		int size = delegate.size();
+		if (layout == Layout.ARRAY && size > growThreshold) {
+			toTree();
+		} else if (layout == Layout.TREE && size < shrinkThreshold) {
+			toArray();
+		}
+	}
+
+	/**
+	 * Copies the list into a tree, which is bulk loaded from the sorted array.
+	 */
+	private void toTree() {
+		SortedBPlusTreeList<E> tree = new SortedBPlusTreeList<E>(comparator);
+		tree.addAll(Arrays.asList(((SortedArrayList<E>) delegate).toSortedArray()));
+		delegate = tree;
+		layout = Layout.TREE;
+		conversionsToTree++;
+		resetWindow();
+	}
+
+	/**
+	 * Copies the list into an array sized to fit it.
+	 */
+	private void toArray() {
+		@SuppressWarnings("unchecked")
+		E[] sorted = (E[]) new Comparable<?>[delegate.size()];
+		int i = 0;
+		for (E e : delegate) {
+			sorted[i++] = e;
+		}
+		delegate = new SortedArrayList<E>(sorted, comparator);
+		layout = Layout.ARRAY;
+		conversionsToArray++;
+		resetWindow();
+	}
+
+	/**
+	 * Starts a new workload window.
+	 */
+	private void resetWindow() {
+		windowAdds = 0;
+		windowMidInserts = 0;
+	}
+
+	/**
+	 * Iterator over the current layout that fails fast if the list is modified other
+	 * than through it, including by a change of layout.
+	 *
+	 * @author Noah Benveniste
+	 */
+	private final class AdaptiveIterator implements Iterator<E> {
+		/** Iterator over the layout that was current when this iterator was created */
+		private final Iterator<E> it = delegate.iterator();
+		/** The modCount this iterator expects the list to have */
+		private int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return it.hasNext();
+		}
+
+		@Override
+		public E next() {
+			checkForComodification();
+			if (!it.hasNext()) {
+				throw new NoSuchElementException("No more elements in the list");
+			}
+			return it.next();
+		}
+
+		@Override
+		public void remove() {
+			checkForComodification();
+			it.remove();
+			modCount++;
+			expectedModCount = modCount;
+		}
+
+		/**
+		 * Throws a ConcurrentModificationException if the list has been modified
+		 * other than through this iterator.
+		 */
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException("List was modified during iteration");
+			}
+		}
+	}
+
+	/**
+	 * A snapshot of an AdaptiveSortedList's layout, thresholds and switching
+	 * counts.
+	 *
+	 * @author Noah Benveniste
+	 */
+	public static final class Stats {
+		/** The layout when the snapshot was taken */
+		private final Layout layout;
+		/** The size when the snapshot was taken */
+		private final int size;
+		/** Size above which the list moves to a tree */
+		private final int growThreshold;
+		/** Size below which the list moves back to an array */
+		private final int shrinkThreshold;
+		/** Size from which the workload check applies */
+		private final int workloadMinSize;
+		/** Number of adds in the current workload window */
+		private final int windowAdds;
+		/** Number of those adds that landed before the last element */
+		private final int windowMidInserts;
+		/** Number of times the list has moved to a tree */
+		private final int conversionsToTree;
+		/** Number of times the list has moved back to an array */
+		private final int conversionsToArray;
+
+		/**
+		 * Takes a snapshot of a list.
+		 *
+		 * @param list the list
+		 */
+		private Stats(AdaptiveSortedList<?> list) {
+			this.layout = list.layout;
+			this.size = list.size();
+			this.growThreshold = list.growThreshold;
+			this.shrinkThreshold = list.shrinkThreshold;
+			this.workloadMinSize = list.workloadMinSize;
+			this.windowAdds = list.windowAdds;
+			this.windowMidInserts = list.windowMidInserts;
+			this.conversionsToTree = list.conversionsToTree;
+			this.conversionsToArray = list.conversionsToArray;
+		}
+
+		/**
+		 * Returns the layout the list had.
+		 *
+		 * @return the layout
+		 */
+		public Layout getLayout() {
+			return layout;
+		}
+
+		/**
+		 * Returns the size the list had.
+		 *
+		 * @return the size
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * Returns the size above which the list moves to a tree.
+		 *
+		 * @return the grow threshold
+		 */
+		public int getGrowThreshold() {
+			return growThreshold;
+		}
+
+		/**
+		 * Returns the size below which the list moves back to an array.
+		 *
+		 * @return the shrink threshold
+		 */
+		public int getShrinkThreshold() {
+			return shrinkThreshold;
+		}
+
+		/**
+		 * Returns the size from which a window of mostly mid-list adds moves the list
+		 * to a tree.
+		 *
+		 * @return the workload minimum size
+		 */
+		public int getWorkloadMinSize() {
+			return workloadMinSize;
+		}
+
+		/**
+		 * Returns the number of adds counted so far in the current workload window,
+		 * out of WORKLOAD_WINDOW.
+		 *
+		 * @return the adds in the window
+		 */
+		public int getWindowAdds() {
+			return windowAdds;
+		}
+
+		/**
+		 * Returns the number of adds in the current window that landed before the last
+		 * element. The list moves to a tree when this reaches MID_INSERT_LIMIT by the
+		 * end of a window.
+		 *
+		 * @return the mid-list adds in the window
+		 */
+		public int getWindowMidInserts() {
+			return windowMidInserts;
+		}
+
+		/**
+		 * Returns the number of times the list has moved to a tree.
+		 *
+		 * @return the number of moves to a tree
+		 */
+		public int getConversionsToTree() {
+			return conversionsToTree;
+		}
+
+		/**
+		 * Returns the number of times the list has moved back to an array.
+		 *
+		 * @return the number of moves to an array
+		 */
+		public int getConversionsToArray() {
+			return conversionsToArray;
+		}
+
+		/**
+		 * Returns a summary of the statistics.
+		 *
+		 * @return a String representation of the statistics
+		 */
+		@Override
+		public String toString() {
+			return layout + " size=" + size + " grow>" + growThreshold + " shrink<" + shrinkThreshold + " workload>="
+					+ workloadMinSize + " window=" + windowMidInserts + "/" + windowAdds + " toTree="
+					+ conversionsToTree + " toArray=" + conversionsToArray;
+		}
+	}
+
+}
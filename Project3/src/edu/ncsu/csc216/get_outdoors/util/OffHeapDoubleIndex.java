@@ -0,0 +1,226 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.function.IntConsumer;
+
+/**
+ * An off-heap sorted index of double keys with row references, such as snow depth
+ * or trail length. Keys are ordered as by Double.compare, so -0.0 sorts before 0.0.
+ * NaN keys are not allowed. See OffHeapSortedIndex for how the entries are stored.
+ *
+ * @author Noah Benveniste
+ */
+public class OffHeapDoubleIndex extends OffHeapSortedIndex {
+
+	/**
+	 * Constructs an empty index.
+	 */
+	public OffHeapDoubleIndex() {
+		super();
+	}
+
+	/**
+	 * Constructs an empty index with room for the given number of entries.
+	 *
+	 * @param capacity the number of entries to allocate room for
+	 * @throws IllegalArgumentException if the capacity is negative or too large
+	 */
+	public OffHeapDoubleIndex(int capacity) {
+		super(capacity);
+	}
+
+	/**
+	 * Adds an entry in sorted order, unless the same key and row are already there.
+	 *
+	 * @param key the key
+	 * @param row the row the key belongs to
+	 * @return true if the entry was added
+	 * @throws IllegalArgumentException if the key is NaN
+	 */
+	public boolean add(double key, int row) {
+		return insert(encode(key), row);
+	}
+
+	/**
+	 * Adds a batch of entries, where keys[i] belongs to rows[i], skipping any that are
+	 * already in the index or repeated in the batch. The batch is sorted once and
+	 * merged into the index, rather than adding the entries one at a time.
+	 *
+	 * @param keys the keys
+	 * @param rows the rows the keys belong to
+	 * @return true if the index changed
+	 * @throws NullPointerException if either array is null
+	 * @throws IllegalArgumentException if the arrays have different lengths or any
+	 *             key is NaN
+	 */
+	public boolean addAll(double[] keys, int[] rows) {
+		if (keys == null || rows == null) {
+			throw new NullPointerException("Keys and rows cannot be null");
+		}
+		long[] encoded = new long[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			encoded[i] = encode(keys[i]);
+		}
+		return insertAll(encoded, rows.clone());
+	}
+
+	/**
+	 * Removes the entry with the given key and row if it is in the index.
+	 *
+	 * @param key the key
+	 * @param row the row
+	 * @return true if the entry was removed
+	 * @throws IllegalArgumentException if the key is NaN
+	 */
+	public boolean remove(double key, int row) {
+		return delete(encode(key), row);
+	}
+
+	/**
+	 * Returns the key of the entry at the specified position in the index.
+	 *
+	 * @param index index of the entry
+	 * @return the key of the entry
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	public double keyAt(int index) {
+		return decode(encodedKeyAt(index));
+	}
+
+	/**
+	 * Returns true if any entry has the given key.
+	 *
+	 * @param key the key
+	 * @return true if the key is in the index
+	 * @throws IllegalArgumentException if the key is NaN
+	 */
+	public boolean contains(double key) {
+		return lowerBound(key) < upperBound(key);
+	}
+
+	/**
+	 * Returns the index of the entry with the given key and row, or -1 if there is no
+	 * such entry.
+	 *
+	 * @param key the key
+	 * @param row the row
+	 * @return the index of the entry, or -1
+	 * @throws IllegalArgumentException if the key is NaN
+	 */
+	public int indexOf(double key, int row) {
+		return indexOfEntry(encode(key), row);
+	}
+
+	/**
+	 * Returns the index of the first entry whose key is greater than or equal to the
+	 * given key, or size() if there is no such entry.
+	 *
+	 * @param key the key
+	 * @return the index of the first entry that is not less than the key
+	 * @throws IllegalArgumentException if the key is NaN
+	 */
+	public int lowerBound(double key) {
+		return bound(encode(key), false);
+	}
+
+	/**
+	 * Returns the index of the first entry whose key is greater than the given key,
+	 * or size() if there is no such entry.
+	 *
+	 * @param key the key
+	 * @return the index of the first entry that is greater than the key
+	 * @throws IllegalArgumentException if the key is NaN
+	 */
+	public int upperBound(double key) {
+		return bound(encode(key), true);
+	}
+
+	/**
+	 * Returns the number of entries with a key greater than or equal to from and
+	 * strictly less than to.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return the number of entries in the range
+	 * @throws IllegalArgumentException if from is greater than to, or either is NaN
+	 */
+	public int countBetween(double from, double to) {
+		checkRange(from, to);
+		return bound(encode(to), false) - bound(encode(from), false);
+	}
+
+	/**
+	 * Passes the row of each entry with a key greater than or equal to from and
+	 * strictly less than to to the action, in key order, without allocating.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @param action the action to perform on each row
+	 * @throws NullPointerException if the action is null
+	 * @throws IllegalArgumentException if from is greater than to, or either is NaN
+	 */
+	public void scan(double from, double to, IntConsumer action) {
+		checkRange(from, to);
+		scanEncoded(encode(from), encode(to), action);
+	}
+
+	/**
+	 * Returns the rows of the entries with a key greater than or equal to from and
+	 * strictly less than to, in key order.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return the rows in the range
+	 * @throws IllegalArgumentException if from is greater than to, or either is NaN
+	 */
+	public int[] rowsBetween(double from, double to) {
+		checkRange(from, to);
+		return rowsBetweenEncoded(encode(from), encode(to));
+	}
+
+	@Override
+	String formatKey(long key) {
+		return Double.toString(decode(key));
+	}
+
+	/**
+	 * Encodes a double as a long whose signed order matches Double.compare. Positive
+	 * doubles keep their bits, and negative doubles have every bit but the sign
+	 * flipped so that larger magnitudes sort lower.
+	 *
+	 * @param key the double
+	 * @return the encoded key
+	 * @throws IllegalArgumentException if the key is NaN
+	 */
+	static long encode(double key) {
+		if (Double.isNaN(key)) {
+			throw new IllegalArgumentException("Key cannot be NaN");
+		}
+		long bits = Double.doubleToLongBits(key);
+		return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+	}
+
+	/**
+	 * Decodes a key produced by encode(double).
+	 *
+	 * @param key the encoded key
+	 * @return the double
+	 */
+	static double decode(long key) {
+		return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+	}
+
+	/**
+	 * Checks that a range's start is not greater than its end.
+	 *
+	 * @param from low endpoint of the range
+	 * @param to high endpoint of the range
+	 * @throws IllegalArgumentException if from is greater than to, or either is NaN
+	 */
+	private static void checkRange(double from, double to) {
+		if (encode(from) > encode(to)) {
+			throw new IllegalArgumentException("Range start cannot be greater than range end");
+		}
+	}
+
+}
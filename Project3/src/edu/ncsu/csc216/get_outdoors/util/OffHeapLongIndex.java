@@ -0,0 +1,187 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.function.IntConsumer;
+
+/**
+ * An off-heap sorted index of long keys with row references, such as trail IDs or
+ * distances in meters. See OffHeapSortedIndex for how the entries are stored.
+ *
+ * @author Noah Benveniste
+ */
+public class OffHeapLongIndex extends OffHeapSortedIndex {
+
+	/**
+	 * Constructs an empty index.
+	 */
+	public OffHeapLongIndex() {
+		super();
+	}
+
+	/**
+	 * Constructs an empty index with room for the given number of entries.
+	 *
+	 * @param capacity the number of entries to allocate room for
+	 * @throws IllegalArgumentException if the capacity is negative or too large
+	 */
+	public OffHeapLongIndex(int capacity) {
+		super(capacity);
+	}
+
+	/**
+	 * Adds an entry in sorted order, unless the same key and row are already there.
+	 *
+	 * @param key the key
+	 * @param row the row the key belongs to
+	 * @return true if the entry was added
+	 */
+	public boolean add(long key, int row) {
+		return insert(key, row);
+	}
+
+	/**
+	 * Adds a batch of entries, where keys[i] belongs to rows[i], skipping any that are
+	 * already in the index or repeated in the batch. The batch is sorted once and
+	 * merged into the index, rather than adding the entries one at a time.
+	 *
+	 * @param keys the keys
+	 * @param rows the rows the keys belong to
+	 * @return true if the index changed
+	 * @throws NullPointerException if either array is null
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	public boolean addAll(long[] keys, int[] rows) {
+		if (keys == null || rows == null) {
+			throw new NullPointerException("Keys and rows cannot be null");
+		}
+		return insertAll(keys.clone(), rows.clone());
+	}
+
+	/**
+	 * Removes the entry with the given key and row if it is in the index.
+	 *
+	 * @param key the key
+	 * @param row the row
+	 * @return true if the entry was removed
+	 */
+	public boolean remove(long key, int row) {
+		return delete(key, row);
+	}
+
+	/**
+	 * Returns the key of the entry at the specified position in the index.
+	 *
+	 * @param index index of the entry
+	 * @return the key of the entry
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	public long keyAt(int index) {
+		return encodedKeyAt(index);
+	}
+
+	/**
+	 * Returns true if any entry has the given key.
+	 *
+	 * @param key the key
+	 * @return true if the key is in the index
+	 */
+	public boolean contains(long key) {
+		return lowerBound(key) < upperBound(key);
+	}
+
+	/**
+	 * Returns the index of the entry with the given key and row, or -1 if there is no
+	 * such entry.
+	 *
+	 * @param key the key
+	 * @param row the row
+	 * @return the index of the entry, or -1
+	 */
+	public int indexOf(long key, int row) {
+		return indexOfEntry(key, row);
+	}
+
+	/**
+	 * Returns the index of the first entry whose key is greater than or equal to the
+	 * given key, or size() if there is no such entry.
+	 *
+	 * @param key the key
+	 * @return the index of the first entry that is not less than the key
+	 */
+	public int lowerBound(long key) {
+		return bound(key, false);
+	}
+
+	/**
+	 * Returns the index of the first entry whose key is greater than the given key,
+	 * or size() if there is no such entry.
+	 *
+	 * @param key the key
+	 * @return the index of the first entry that is greater than the key
+	 */
+	public int upperBound(long key) {
+		return bound(key, true);
+	}
+
+	/**
+	 * Returns the number of entries with a key greater than or equal to from and
+	 * strictly less than to.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return the number of entries in the range
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	public int countBetween(long from, long to) {
+		checkRange(from, to);
+		return bound(to, false) - bound(from, false);
+	}
+
+	/**
+	 * Passes the row of each entry with a key greater than or equal to from and
+	 * strictly less than to to the action, in key order, without allocating.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @param action the action to perform on each row
+	 * @throws NullPointerException if the action is null
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	public void scan(long from, long to, IntConsumer action) {
+		checkRange(from, to);
+		scanEncoded(from, to, action);
+	}
+
+	/**
+	 * Returns the rows of the entries with a key greater than or equal to from and
+	 * strictly less than to, in key order.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return the rows in the range
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	public int[] rowsBetween(long from, long to) {
+		checkRange(from, to);
+		return rowsBetweenEncoded(from, to);
+	}
+
+	@Override
+	String formatKey(long key) {
+		return Long.toString(key);
+	}
+
+	/**
+	 * Checks that a range's start is not greater than its end.
+	 *
+	 * @param from low endpoint of the range
+	 * @param to high endpoint of the range
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	private static void checkRange(long from, long to) {
+		if (from > to) {
+			throw new IllegalArgumentException("Range start cannot be greater than range end");
+		}
+	}
+
+}
@@ -0,0 +1,534 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.IntConsumer;
+
+/**
+ * A sorted index of fixed-width keys with row references, stored outside the Java
+ * heap in a direct ByteBuffer. Each entry is a 64-bit key followed by a 32-bit row
+ * number, so an entry takes 12 bytes with no object header, no boxing and nothing
+ * for the garbage collector to trace, compared with 24 bytes for a boxed Long plus
+ * a 4 to 8 byte reference in a SortedArrayList. This keeps indexes over millions
+ * of metric values (snow depth, distance, IDs) from growing the heap.
+ *
+ * Entries are sorted by key and then by row. Unlike a SortedList, a key may appear
+ * more than once as long as each appearance has a different row, since many rows
+ * can share the same metric value; adding a (key, row) pair that is already in the
+ * index does nothing. Searching is O(log n); adding and removing shift the entries
+ * after the change, as in SortedArrayList.
+ *
+ * This class handles keys encoded as longs whose signed order is the key order.
+ * OffHeapLongIndex and OffHeapDoubleIndex provide the typed operations. The buffer
+ * holds at most Integer.MAX_VALUE / 12 entries, and its memory is released when the
+ * index is garbage collected. The index is not thread-safe.
+ *
+ * @author Noah Benveniste
+ */
+public abstract class OffHeapSortedIndex {
+
+	/** Number of bytes per entry: an 8 byte key and a 4 byte row */
+	static final int ENTRY_BYTES = 12;
+	/** Number of entries the index can hold before its first resize */
+	private static final int DEFAULT_CAPACITY = 16;
+	/** Largest number of entries the buffer can hold */
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE / ENTRY_BYTES;
+
+	/** The entries, in sorted order */
+	private ByteBuffer buffer;
+	/** Number of entries in the index */
+	private int size;
+	/** Number of entries the buffer can hold */
+	private int capacity;
+
+	/**
+	 * Constructs an empty index with the given initial capacity.
+	 *
+	 * @param capacity the number of entries to allocate room for
+	 * @throws IllegalArgumentException if the capacity is negative or too large
+	 */
+	OffHeapSortedIndex(int capacity) {
+		if (capacity < 0 || capacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException("Capacity is outside the acceptable range");
+		}
+		this.capacity = capacity;
+		this.buffer = allocate(capacity);
+	}
+
+	/**
+	 * Constructs an empty index with the default initial capacity.
+	 */
+	OffHeapSortedIndex() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Returns the number of entries in the index.
+	 *
+	 * @return the number of entries
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the index has no entries.
+	 *
+	 * @return true if the index has no entries
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of entries the index can hold before its buffer has to grow.
+	 *
+	 * @return the capacity of the index
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the number of bytes of off-heap memory held by the index, which is
+	 * capacity() * 12.
+	 *
+	 * @return the size of the buffer in bytes
+	 */
+	public long memoryBytes() {
+		return (long) capacity * ENTRY_BYTES;
+	}
+
+	/**
+	 * Shrinks the buffer to hold exactly size() entries.
+	 */
+	public void trimToSize() {
+		if (capacity > size) {
+			reallocate(size);
+		}
+	}
+
+	/**
+	 * Returns the row of the entry at the specified position in the index.
+	 *
+	 * @param index index of the entry
+	 * @return the row of the entry
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	public int rowAt(int index) {
+		checkIndex(index);
+		return buffer.getInt(index * ENTRY_BYTES + 8);
+	}
+
+	/**
+	 * Removes the entry at the specified position in the index, and shifts any
+	 * subsequent entries to the left.
+	 *
+	 * @param index the index of the entry to be removed
+	 * @return the row of the removed entry
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	public int remove(int index) {
+		checkIndex(index);
+		int row = rowAt(index);
+		removeRange(index, index + 1);
+		return row;
+	}
+
+	/**
+	 * Removes all of the entries whose index is between fromIndex, inclusive, and
+	 * toIndex, exclusive, moving the later entries once.
+	 *
+	 * @param fromIndex index of the first entry to be removed
+	 * @param toIndex index after the last entry to be removed
+	 * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size() or
+	 *             fromIndex > toIndex
+	 */
+	public void removeRange(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+		moveEntries(toIndex, fromIndex, size - toIndex);
+		size -= toIndex - fromIndex;
+	}
+
+	/**
+	 * Removes every entry from the index, keeping its buffer.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Returns a String representation of the index, in the form [key=row, key=row]
+	 *
+	 * @return a String representation of the index
+	 */
+	@Override
+	public String toString() {
+		StringBuilder out = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				out.append(", ");
+			}
+			out.append(formatKey(buffer.getLong(i * ENTRY_BYTES))).append('=')
+					.append(buffer.getInt(i * ENTRY_BYTES + 8));
+		}
+		return out.append("]").toString();
+	}
+
+	/**
+	 * Formats an encoded key for toString().
+	 *
+	 * @param key the encoded key
+	 * @return the key as a String
+	 */
+	abstract String formatKey(long key);
+
+	/**
+	 * Returns the encoded key of the entry at the specified position.
+	 *
+	 * @param index index of the entry
+	 * @return the encoded key
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	long encodedKeyAt(int index) {
+		checkIndex(index);
+		return buffer.getLong(index * ENTRY_BYTES);
+	}
+
+	/**
+	 * Adds an entry in sorted order, unless the same key and row are already there.
+	 *
+	 * @param key the encoded key
+	 * @param row the row
+	 * @return true if the entry was added
+	 */
+	boolean insert(long key, int row) {
+		int index = search(key, row);
+		if (index >= 0) {
+			return false;
+		}
+		index = -(index + 1);
+		if (size == capacity) {
+			grow(size + 1);
+		}
+		moveEntries(index, index + 1, size - index);
+		putEntry(index, key, row);
+		size++;
+		return true;
+	}
+
+	/**
+	 * Adds a batch of entries, skipping any that are already in the index or repeated
+	 * in the batch. The batch is sorted and then merged into the buffer from the back,
+	 * so each existing entry moves at most once.
+	 *
+	 * @param keys the encoded keys, which are sorted in place along with rows
+	 * @param rows the rows, matched to keys by position
+	 * @return true if the index changed
+	 */
+	boolean insertAll(long[] keys, int[] rows) {
+		int m = sortAndDedupe(keys, rows);
+		if (m == 0) {
+			return false;
+		}
+		if (size + m > capacity) {
+			grow(size + m);
+		}
+		//Drop entries that are already in the index, so the merge needs no gaps
+		int kept = 0;
+		for (int j = 0; j < m; j++) {
+			if (search(keys[j], rows[j]) < 0) {
+				keys[kept] = keys[j];
+				rows[kept] = rows[j];
+				kept++;
+			}
+		}
+		int i = size - 1;
+		int j = kept - 1;
+		int k = size + kept - 1;
+		while (j >= 0) {
+			if (i >= 0 && compareEntry(i, keys[j], rows[j]) > 0) {
+				copyEntry(i--, k--);
+			} else {
+				putEntry(k--, keys[j], rows[j]);
+				j--;
+			}
+		}
+		size += kept;
+		return kept > 0;
+	}
+
+	/**
+	 * Removes the entry with the given key and row if it is in the index.
+	 *
+	 * @param key the encoded key
+	 * @param row the row
+	 * @return true if the entry was removed
+	 */
+	boolean delete(long key, int row) {
+		int index = search(key, row);
+		if (index < 0) {
+			return false;
+		}
+		removeRange(index, index + 1);
+		return true;
+	}
+
+	/**
+	 * Returns the index of the entry with the given key and row, or -1 if there is
+	 * no such entry.
+	 *
+	 * @param key the encoded key
+	 * @param row the row
+	 * @return the index of the entry, or -1
+	 */
+	int indexOfEntry(long key, int row) {
+		int index = search(key, row);
+		return (index >= 0) ? index : -1;
+	}
+
+	/**
+	 * Returns the index of the first entry whose key is not less than (or, if strict
+	 * is true, is greater than) the given key.
+	 *
+	 * @param key the encoded key
+	 * @param strict true to skip past entries with the key
+	 * @return the index of the first entry past the key, or size() if there is none
+	 */
+	int bound(long key, boolean strict) {
+		int min = 0;
+		int max = size;
+		while (min < max) {
+			int mid = (min + max) >>> 1;
+			long k = buffer.getLong(mid * ENTRY_BYTES);
+			if (k < key || (strict && k == key)) {
+				min = mid + 1;
+			} else {
+				max = mid;
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * Passes the row of each entry with a key in [from, to) to the action, in order.
+	 *
+	 * @param from the encoded low endpoint (inclusive)
+	 * @param to the encoded high endpoint (exclusive)
+	 * @param action the action to perform on each row
+	 */
+	void scanEncoded(long from, long to, IntConsumer action) {
+		if (action == null) {
+			throw new NullPointerException("Action cannot be null");
+		}
+		int end = bound(to, false);
+		for (int i = bound(from, false); i < end; i++) {
+			action.accept(buffer.getInt(i * ENTRY_BYTES + 8));
+		}
+	}
+
+	/**
+	 * Returns the rows of the entries with a key in [from, to), in order.
+	 *
+	 * @param from the encoded low endpoint (inclusive)
+	 * @param to the encoded high endpoint (exclusive)
+	 * @return the rows in the range
+	 */
+	int[] rowsBetweenEncoded(long from, long to) {
+		int start = bound(from, false);
+		int[] rows = new int[bound(to, false) - start];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = buffer.getInt((start + i) * ENTRY_BYTES + 8);
+		}
+		return rows;
+	}
+
+	/**
+	 * Searches for the entry with the given key and row.
+	 *
+	 * @param key the encoded key
+	 * @param row the row
+	 * @return the index of the entry if it is in the index, otherwise
+	 * (-(insertion point) - 1)
+	 */
+	private int search(long key, int row) {
+		int min = 0;
+		int max = size - 1;
+		while (min <= max) {
+			int mid = (min + max) >>> 1;
+			int cmp = compareEntry(mid, key, row);
+			if (cmp < 0) {
+				min = mid + 1;
+			} else if (cmp > 0) {
+				max = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(min + 1);
+	}
+
+	/**
+	 * Compares the entry at the given position with a key and row.
+	 *
+	 * @param index the position of the entry
+	 * @param key the encoded key
+	 * @param row the row
+	 * @return a negative integer, zero, or a positive integer as the entry is less
+	 * than, equal to, or greater than the key and row
+	 */
+	private int compareEntry(int index, long key, int row) {
+		int cmp = Long.compare(buffer.getLong(index * ENTRY_BYTES), key);
+		return (cmp != 0) ? cmp : Integer.compare(buffer.getInt(index * ENTRY_BYTES + 8), row);
+	}
+
+	/**
+	 * Copies an entry from one position to another.
+	 *
+	 * @param from the position to copy from
+	 * @param to the position to copy to
+	 */
+	private void copyEntry(int from, int to) {
+		buffer.putLong(to * ENTRY_BYTES, buffer.getLong(from * ENTRY_BYTES));
+		buffer.putInt(to * ENTRY_BYTES + 8, buffer.getInt(from * ENTRY_BYTES + 8));
+	}
+
+	/**
+	 * Moves a block of entries to another position with one bulk copy between two views
+	 * of the buffer, the way compact() moves the remaining bytes to the front. The
+	 * block and its target may overlap in either direction: when both views share the
+	 * buffer's memory, put() copies as if through an intermediate buffer.
+	 *
+	 * @param from the position of the first entry to move
+	 * @param to the position to move it to
+	 * @param count the number of entries to move
+	 */
+	private void moveEntries(int from, int to, int count) {
+		if (count == 0 || from == to) {
+			return;
+		}
+		ByteBuffer source = buffer.duplicate();
+		source.limit((from + count) * ENTRY_BYTES);
+		source.position(from * ENTRY_BYTES);
+		ByteBuffer target = buffer.duplicate();
+		target.position(to * ENTRY_BYTES);
+		target.put(source.slice());
+	}
+
+	/**
+	 * Writes an entry at a position.
+	 *
+	 * @param index the position
+	 * @param key the encoded key
+	 * @param row the row
+	 */
+	private void putEntry(int index, long key, int row) {
+		buffer.putLong(index * ENTRY_BYTES, key);
+		buffer.putInt(index * ENTRY_BYTES + 8, row);
+	}
+
+	/**
+	 * Grows the buffer by half of its capacity, or to minCapacity if that is larger.
+	 *
+	 * @param minCapacity the number of entries needed
+	 * @throws IllegalStateException if the index cannot hold that many entries
+	 */
+	private void grow(int minCapacity) {
+		if (minCapacity > MAX_CAPACITY) {
+			throw new IllegalStateException("Index cannot hold more than " + MAX_CAPACITY + " entries");
+		}
+		int newCapacity = (int) Math.min(MAX_CAPACITY, capacity + (capacity >> 1) + 1L);
+		reallocate(Math.max(newCapacity, minCapacity));
+	}
+
+	/**
+	 * Moves the entries to a new buffer of the given capacity.
+	 *
+	 * @param newCapacity the number of entries the new buffer holds
+	 */
+	private void reallocate(int newCapacity) {
+		ByteBuffer newBuffer = allocate(newCapacity);
+		ByteBuffer used = buffer.duplicate();
+		used.position(0);
+		used.limit(size * ENTRY_BYTES);
+		newBuffer.put(used);
+		newBuffer.clear();
+		buffer = newBuffer;
+		capacity = newCapacity;
+	}
+
+	/**
+	 * Checks that an index refers to an entry.
+	 *
+	 * @param index the index to check
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+	}
+
+	/**
+	 * Allocates a direct buffer in the platform's byte order for the given number of
+	 * entries.
+	 *
+	 * @param entries the number of entries
+	 * @return the buffer
+	 */
+	private static ByteBuffer allocate(int entries) {
+		return ByteBuffer.allocateDirect(entries * ENTRY_BYTES).order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Sorts parallel arrays of keys and rows by key and then row, and moves the
+	 * distinct pairs to the front.
+	 *
+	 * @param keys the keys
+	 * @param rows the rows
+	 * @return the number of distinct pairs
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	private static int sortAndDedupe(long[] keys, int[] rows) {
+		if (keys.length != rows.length) {
+			throw new IllegalArgumentException("Keys and rows must have the same length");
+		}
+		int n = keys.length;
+		long[] keyTemp = new long[n];
+		int[] rowTemp = new int[n];
+		//Bottom up merge sort, which is stable and needs no boxing
+		for (int width = 1; width < n; width *= 2) {
+			for (int lo = 0; lo < n - width; lo += 2 * width) {
+				int mid = lo + width;
+				int hi = Math.min(lo + 2 * width, n);
+				int i = lo;
+				int j = mid;
+				for (int k = lo; k < hi; k++) {
+					if (j >= hi || (i < mid && (keys[i] < keys[j] || (keys[i] == keys[j] && rows[i] <= rows[j])))) {
+						keyTemp[k] = keys[i];
+						rowTemp[k] = rows[i++];
+					} else {
+						keyTemp[k] = keys[j];
+						rowTemp[k] = rows[j++];
+					}
+				}
+				System.arraycopy(keyTemp, lo, keys, lo, hi - lo);
+				System.arraycopy(rowTemp, lo, rows, lo, hi - lo);
+			}
+		}
+		int distinct = 0;
+		for (int i = 0; i < n; i++) {
+			if (distinct == 0 || keys[distinct - 1] != keys[i] || rows[distinct - 1] != rows[i]) {
+				keys[distinct] = keys[i];
+				rows[distinct] = rows[i];
+				distinct++;
+			}
+		}
+		return distinct;
+	}
+
+}
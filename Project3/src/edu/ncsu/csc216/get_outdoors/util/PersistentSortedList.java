@@ -0,0 +1,583 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An immutable sorted list in which every update returns a new version of the list
+ * that shares most of its structure with the old one. The elements are kept in an
+ * AVL tree whose nodes record the size of their subtree. Updating copies only the
+ * nodes on the path from the root to the change, so insert(E) and delete(int) take
+ * O(log n) time and allocate O(log n) new nodes, while the old version is left
+ * unchanged and stays valid. Holding on to a version is therefore an O(1) snapshot,
+ * which can be used for undo, queries as of an earlier time, or saving in the
+ * background while the current version moves on.
+ *
+ * Because a version never changes, the list implements SortedListView rather than
+ * SortedList: it has the same queries, but in place of add(E), addAll(Collection)
+ * and remove(int) it has insert(E), insertAll(Collection) and delete(int), which
+ * return the new version. Versions can be shared between threads without locking.
+ *
+ * Elements are kept in their natural order unless the list is constructed with a
+ * Comparator. An element that compares equal to one already in the list is not
+ * added.
+ *
+ * @author Noah Benveniste
+ *
+ * @param <E> the type of element in the list
+ */
+public final class PersistentSortedList<E extends Comparable<E>> implements SortedListView<E> {
+
+	/** The root of the tree, or null if the list is empty */
+	private final Node root;
+	/** The Comparator used to order the list, or null if the list uses natural ordering */
+	private final Comparator<? super E> comparator;
+
+	/**
+	 * Constructs an empty list that uses the natural ordering of its elements.
+	 */
+	public PersistentSortedList() {
+		this((Comparator<? super E>) null);
+	}
+
+	/**
+	 * Constructs an empty list whose elements are ordered by the given Comparator.
+	 *
+	 * @param comparator the Comparator used to order the list, or null to use the
+	 * elements' natural ordering
+	 */
+	public PersistentSortedList(Comparator<? super E> comparator) {
+		this(null, comparator);
+	}
+
+	/**
+	 * Constructs a list containing the elements of the given collection, ignoring
+	 * any repeated elements. The elements are sorted once and built into a balanced
+	 * tree in O(n) time.
+	 *
+	 * @param c the collection whose elements are to be placed in the list
+	 * @throws NullPointerException if the collection or any of its elements is null
+	 */
+	public PersistentSortedList(Collection<? extends E> c) {
+		this(build(SortedArrayList.sortedBatch(c, null)), null);
+	}
+
+	/**
+	 * Constructs a version of the list with the given tree.
+	 *
+	 * @param root the root of the tree
+	 * @param comparator the Comparator the tree is ordered by
+	 */
+	private PersistentSortedList(Node root, Comparator<? super E> comparator) {
+		this.root = root;
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Returns the number of the elements in the list.
+	 *
+	 * @return the number of elements in this list
+	 */
+	@Override
+	public int size() {
+		return size(root);
+	}
+
+	/**
+	 * Returns true if this list contains no elements.
+	 *
+	 * @return true if this list contains no elements
+	 */
+	@Override
+	public boolean isEmpty() {
+		return root == null;
+	}
+
+	/**
+	 * Returns true if this list contains the specified element, in O(log n) time.
+	 *
+	 * @param e element whose presence in this list is to be tested
+	 * @return true if this list contains the specified element
+	 */
+	@Override
+	public boolean contains(E e) {
+		return indexOf(e) >= 0;
+	}
+
+	/**
+	 * Returns the Comparator used to order this list, or null if the list uses the
+	 * natural ordering of its elements.
+	 *
+	 * @return the Comparator used to order this list, or null
+	 */
+	@Override
+	public Comparator<? super E> comparator() {
+		return comparator;
+	}
+
+	/**
+	 * Returns an iterator over the elements in this version of the list in sorted
+	 * order. The iterator does not support remove().
+	 *
+	 * @return an iterator over the elements in this list in sorted order
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new TreeIterator(root);
+	}
+
+	/**
+	 * Creates a Spliterator over the elements in this version of the list that
+	 * reports IMMUTABLE, SIZED, ORDERED, SORTED, DISTINCT and NONNULL, and whose
+	 * getComparator() returns comparator().
+	 *
+	 * @return a Spliterator over the elements in this list
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		int characteristics = Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.DISTINCT
+				| Spliterator.NONNULL;
+		return new SortedLists.SortedSpliterator<E>(Spliterators.spliterator(iterator(), size(), characteristics),
+				comparator);
+	}
+
+	/**
+	 * Returns a version of this list with the specified element added, in O(log n)
+	 * time and memory. This list is not changed. If the element is already in the
+	 * list, this list is returned.
+	 *
+	 * @param e element to be added
+	 * @return a version of the list that contains the element
+	 * @throws NullPointerException if the element is null
+	 */
+	public PersistentSortedList<E> insert(E e) {
+		if (e == null) {
+			throw new NullPointerException("Cannot add null elements");
+		}
+		Node newRoot = insert(root, e);
+		return (newRoot == root) ? this : new PersistentSortedList<E>(newRoot, comparator);
+	}
+
+	/**
+	 * Returns a version of this list with all of the elements of the specified
+	 * collection added, ignoring any that are already in the list or repeated in the
+	 * collection. This list is not changed. A small collection is inserted one
+	 * element at a time in O(m log n) time, sharing structure with this list, while a
+	 * large one is merged with this list and built into a new balanced tree in
+	 * O(n + m) time.
+	 *
+	 * @param c collection containing elements to be added
+	 * @return a version of the list that contains the elements
+	 * @throws NullPointerException if the specified collection or any of its
+	 *             elements is null
+	 */
+	public PersistentSortedList<E> insertAll(Collection<? extends E> c) {
+		E[] batch = SortedArrayList.sortedBatch(c, comparator);
+		int n = size();
+		if (batch.length == 0) {
+			return this;
+		}
+		if ((long) batch.length * (32 - Integer.numberOfLeadingZeros(n)) < n) {
+			Node newRoot = root;
+			for (int i = 0; i < batch.length; i++) {
+				newRoot = insert(newRoot, batch[i]);
+			}
+			return (newRoot == root) ? this : new PersistentSortedList<E>(newRoot, comparator);
+		}
+		//Merge the current elements with the batch, skipping elements already in the list
+		Object[] merged = new Object[n + batch.length];
+		int k = 0;
+		int j = 0;
+		for (E e : this) {
+			while (j < batch.length && compare(batch[j], e) < 0) {
+				merged[k++] = batch[j++];
+			}
+			if (j < batch.length && compare(batch[j], e) == 0) {
+				j++;
+			}
+			merged[k++] = e;
+		}
+		while (j < batch.length) {
+			merged[k++] = batch[j++];
+		}
+		if (k == n) {
+			return this;
+		}
+		Object[] trimmed = new Object[k];
+		System.arraycopy(merged, 0, trimmed, 0, k);
+		return new PersistentSortedList<E>(build(trimmed), comparator);
+	}
+
+	/**
+	 * Returns a version of this list with the element at the specified position
+	 * removed, in O(log n) time and memory. This list is not changed.
+	 *
+	 * @param index the index of the element to be removed
+	 * @return a version of the list without the element
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	public PersistentSortedList<E> delete(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+		return new PersistentSortedList<E>(delete(root, index), comparator);
+	}
+
+	/**
+	 * Returns the element at the specified position in this list, in O(log n) time.
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified position in this list
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+		Node x = root;
+		while (true) {
+			int leftSize = size(x.left);
+			if (index < leftSize) {
+				x = x.left;
+			} else if (index > leftSize) {
+				index -= leftSize + 1;
+				x = x.right;
+			} else {
+				return (E) x.value;
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the specified element in this list, or -1 if this list
+	 * does not contain the element, in O(log n) time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the element in this list, or -1 if this list does not
+	 *         contain the element
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int indexOf(E e) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		int rank = 0;
+		Node x = root;
+		while (x != null) {
+			int cmp = compare(e, (E) x.value);
+			if (cmp < 0) {
+				x = x.left;
+			} else if (cmp > 0) {
+				rank += size(x.left) + 1;
+				x = x.right;
+			} else {
+				return rank + size(x.left);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the first element in this list that is greater than or
+	 * equal to the specified element, or size() if there is no such element, in
+	 * O(log n) time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is not less than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int lowerBound(E e) {
+		return rank(e, false);
+	}
+
+	/**
+	 * Returns the index of the first element in this list that is strictly greater
+	 * than the specified element, or size() if there is no such element, in O(log n)
+	 * time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is greater than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int upperBound(E e) {
+		return rank(e, true);
+	}
+
+	/**
+	 * Returns a String representation of the list, in the form [a, b, c]
+	 *
+	 * @return a String representation of the list
+	 */
+	@Override
+	public String toString() {
+		StringBuilder out = new StringBuilder("[");
+		for (E e : this) {
+			if (out.length() > 1) {
+				out.append(", ");
+			}
+			out.append(e);
+		}
+		return out.append("]").toString();
+	}
+
+	/**
+	 * Counts the number of elements less than (or, if inclusive is true, less than or
+	 * equal to) the given element.
+	 *
+	 * @param e the element to search for
+	 * @param inclusive true to also count an element equal to e
+	 * @return the number of elements before e
+	 */
+	@SuppressWarnings("unchecked")
+	private int rank(E e, boolean inclusive) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		int rank = 0;
+		Node x = root;
+		while (x != null) {
+			int cmp = compare((E) x.value, e);
+			if (cmp < 0 || (inclusive && cmp == 0)) {
+				rank += size(x.left) + 1;
+				x = x.right;
+			} else {
+				x = x.left;
+			}
+		}
+		return rank;
+	}
+
+	/**
+	 * Returns a copy of the path to where the element belongs with the element added,
+	 * or the same subtree if the element is already there.
+	 *
+	 * @param n the root of the subtree
+	 * @param e the element to add
+	 * @return the root of the new subtree
+	 */
+	@SuppressWarnings("unchecked")
+	private Node insert(Node n, E e) {
+		if (n == null) {
+			return new Node(e, null, null);
+		}
+		int cmp = compare(e, (E) n.value);
+		if (cmp < 0) {
+			Node left = insert(n.left, e);
+			return (left == n.left) ? n : balance(n.value, left, n.right);
+		} else if (cmp > 0) {
+			Node right = insert(n.right, e);
+			return (right == n.right) ? n : balance(n.value, n.left, right);
+		}
+		return n;
+	}
+
+	/**
+	 * Returns a copy of the path to the element at the given index with the element
+	 * removed.
+	 *
+	 * @param n the root of the subtree
+	 * @param index the index of the element in the subtree
+	 * @return the root of the new subtree
+	 */
+	private static Node delete(Node n, int index) {
+		int leftSize = size(n.left);
+		if (index < leftSize) {
+			return balance(n.value, delete(n.left, index), n.right);
+		} else if (index > leftSize) {
+			return balance(n.value, n.left, delete(n.right, index - leftSize - 1));
+		}
+		if (n.left == null) {
+			return n.right;
+		} else if (n.right == null) {
+			return n.left;
+		}
+		//Replace the element with its successor, the first element on the right
+		Node successor = n.right;
+		while (successor.left != null) {
+			successor = successor.left;
+		}
+		return balance(successor.value, n.left, delete(n.right, 0));
+	}
+
+	/**
+	 * Creates a node from the given parts, rotating once or twice if the heights of
+	 * the two sides differ by more than one.
+	 *
+	 * @param value the element at the node
+	 * @param left the left subtree
+	 * @param right the right subtree
+	 * @return the root of a balanced subtree holding the parts
+	 */
+	private static Node balance(Object value, Node left, Node right) {
+		int hl = height(left);
+		int hr = height(right);
+		if (hl > hr + 1) {
+			if (height(left.left) >= height(left.right)) {
+				return new Node(left.value, left.left, new Node(value, left.right, right));
+			}
+			Node lr = left.right;
+			return new Node(lr.value, new Node(left.value, left.left, lr.left), new Node(value, lr.right, right));
+		}
+		if (hr > hl + 1) {
+			if (height(right.right) >= height(right.left)) {
+				return new Node(right.value, new Node(value, left, right.left), right.right);
+			}
+			Node rl = right.left;
+			return new Node(rl.value, new Node(value, left, rl.left), new Node(right.value, rl.right, right.right));
+		}
+		return new Node(value, left, right);
+	}
+
+	/**
+	 * Builds a perfectly balanced tree from a sorted array of distinct elements.
+	 *
+	 * @param sorted the elements
+	 * @return the root of the tree
+	 */
+	private static Node build(Object[] sorted) {
+		return build(sorted, 0, sorted.length);
+	}
+
+	/**
+	 * Builds a perfectly balanced tree from part of a sorted array.
+	 *
+	 * @param sorted the elements
+	 * @param from the index of the first element
+	 * @param to the index after the last element
+	 * @return the root of the tree
+	 */
+	private static Node build(Object[] sorted, int from, int to) {
+		if (from >= to) {
+			return null;
+		}
+		int mid = (from + to) >>> 1;
+		return new Node(sorted[mid], build(sorted, from, mid), build(sorted, mid + 1, to));
+	}
+
+	/**
+	 * Compares two elements using the list's Comparator, or their natural ordering
+	 * if the list has no Comparator.
+	 *
+	 * @param a the first element
+	 * @param b the second element
+	 * @return a negative integer, zero, or a positive integer as a is less than, equal
+	 * to, or greater than b
+	 */
+	private int compare(E a, E b) {
+		return (comparator == null) ? a.compareTo(b) : comparator.compare(a, b);
+	}
+
+	/**
+	 * Returns the number of elements in a subtree.
+	 *
+	 * @param n the root of the subtree, or null
+	 * @return the size of the subtree
+	 */
+	private static int size(Node n) {
+		return (n == null) ? 0 : n.size;
+	}
+
+	/**
+	 * Returns the height of a subtree.
+	 *
+	 * @param n the root of the subtree, or null
+	 * @return the height of the subtree
+	 */
+	private static int height(Node n) {
+		return (n == null) ? 0 : n.height;
+	}
+
+	/**
+	 * An immutable tree node, which may be shared between any number of versions.
+	 */
+	private static final class Node {
+		/** The element at the node */
+		private final Object value;
+		/** The subtree of smaller elements */
+		private final Node left;
+		/** The subtree of larger elements */
+		private final Node right;
+		/** Number of elements in the subtree rooted at the node */
+		private final int size;
+		/** Height of the subtree rooted at the node */
+		private final int height;
+
+		/**
+		 * Constructs a node from its element and subtrees.
+		 *
+		 * @param value the element
+		 * @param left the subtree of smaller elements
+		 * @param right the subtree of larger elements
+		 */
+		Node(Object value, Node left, Node right) {
+			this.value = value;
+			this.left = left;
+			this.right = right;
+			this.size = size(left) + size(right) + 1;
+			this.height = Math.max(height(left), height(right)) + 1;
+		}
+	}
+
+	/**
+	 * In-order iterator over a version of the tree, which keeps the path to the next
+	 * element on a stack.
+	 *
+	 * @author Noah Benveniste
+	 */
+	private class TreeIterator implements Iterator<E> {
+		/** The nodes on the path to the next element whose right subtrees are unvisited */
+		private final Node[] stack;
+		/** Number of nodes on the stack */
+		private int depth;
+
+		/**
+		 * Constructs an iterator over the tree rooted at the given node.
+		 *
+		 * @param root the root of the tree
+		 */
+		TreeIterator(Node root) {
+			stack = new Node[height(root)];
+			pushLeft(root);
+		}
+
+		/**
+		 * Pushes the node and its chain of left children.
+		 *
+		 * @param n the node
+		 */
+		private void pushLeft(Node n) {
+			for (; n != null; n = n.left) {
+				stack[depth++] = n;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return depth > 0;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() {
+			if (depth == 0) {
+				throw new NoSuchElementException("No more elements in the list");
+			}
+			Node n = stack[--depth];
+			pushLeft(n.right);
+			return (E) n.value;
+		}
+	}
+
+}
@@ -0,0 +1,64 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * A read-only view of a contiguous range of indices in a SortedList. Elements are
+ * read through the backing list's get(int), so no elements are copied when the view
+ * is created.
+ * 
+ * @author Noah Benveniste
+ *
+ * @param <E> the type of element in the backing list
+ */
+class RangeView<E extends Comparable<E>> extends AbstractList<E> implements RandomAccess {
+
+	/** The backing list */
+	private final SortedListView<E> list;
+	/** Index in the backing list of the first element in the view */
+	private final int fromIndex;
+	/** Number of elements in the view */
+	private final int size;
+	
+	/**
+	 * Constructs a view of the elements of the list from fromIndex (inclusive) to
+	 * toIndex (exclusive).
+	 * 
+	 * @param list the backing list
+	 * @param fromIndex index of the first element in the view
+	 * @param toIndex index after the last element in the view
+	 */
+	RangeView(SortedListView<E> list, int fromIndex, int toIndex) {
+		this.list = list;
+		this.fromIndex = fromIndex;
+		this.size = toIndex - fromIndex;
+	}
+
+	/**
+	 * Returns the element at the given position in the view.
+	 * 
+	 * @param index index of the element in the view
+	 * @return the element at the given position in the view
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+		return list.get(fromIndex + index);
+	}
+
+	/**
+	 * Returns the number of elements in the view.
+	 * 
+	 * @return the number of elements in the view
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+}
@@ -1,6 +1,22 @@
 package edu.ncsu.csc216.get_outdoors.util;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 /**
+ * 
+ * Elements are kept in their natural order unless the list is constructed with a
+ * Comparator, in which case the Comparator is used for all ordering and searching.
+ * The ordering also decides which elements are repeats: an element that compares
+ * equal to one already in the list is not added, so a Comparator should break ties
+ * between elements that are not equal (e.g. by comparing names after distances).
  * 
  * @author Noah Benveniste
  * 
@@ -8,16 +24,22 @@ package edu.ncsu.csc216.get_outdoors.util;
  */
 public class SortedArrayList<E extends Comparable<E>> implements SortedList<E> {
 
-	/** */
-	private static final int RESIZE = 10;
 	/** */
 	private static final int DEFAULT_CAPACITY = 10;
+	/** Batch size at which addAll() sorts the incoming elements with Arrays.parallelSort() */
+	private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+	/** The largest array size that the VM will reliably allocate */
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
 	/** */
 	private E[] list;
 	/** */
 	private int size;
 	/** */
 	private int capacity;
+	/** Number of times the list has been structurally modified, used to make iterators fail-fast */
+	private int modCount;
+	/** The Comparator used to order the list, or null if the list uses natural ordering */
+	private final Comparator<? super E> comparator;
 	
 	/**
 	 * 
@@ -26,37 +48,172 @@ public class SortedArrayList<E extends Comparable<E>> implements SortedList<E> {
 		this(DEFAULT_CAPACITY);
 	}
 	
+	/**
+	 * Constructs an empty list whose elements are ordered by the given Comparator.
+	 * 
+	 * @param comparator the Comparator used to order the list, or null to use the
+	 * elements' natural ordering
+	 */
+	public SortedArrayList(Comparator<? super E> comparator) {
+		this(DEFAULT_CAPACITY, comparator);
+	}
+	
 	/**
 	 * 
 	 * This code is reused from https://github.ncsu.edu/engr-csc216-fall2017/csc216-221-LL-8.git
 	 * @param capacity
+	 * @throws IllegalArgumentException if the capacity is negative
 	 */
-	@SuppressWarnings("unchecked")
 	public SortedArrayList(int capacity) {
+		this(capacity, null);
+	}
+	
+	/**
+	 * Constructs an empty list with the given initial capacity whose elements are
+	 * ordered by the given Comparator.
+	 * 
+	 * @param capacity the initial capacity of the list
+	 * @param comparator the Comparator used to order the list, or null to use the
+	 * elements' natural ordering
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	@SuppressWarnings("unchecked")
+	public SortedArrayList(int capacity, Comparator<? super E> comparator) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity cannot be negative");
+		}
 		Comparable<E>[] o = new Comparable[capacity];
 		this.size = 0;
 		this.list = (E[]) o;
 		this.capacity = list.length;
+		this.comparator = comparator;
+	}
+	
+	/**
+	 * Constructs a list containing the elements of the given collection. The elements
+	 * are sorted once and any repeated elements are dropped, rather than adding each
+	 * element individually.
+	 * 
+	 * @param c the collection whose elements are to be placed in the list
+	 * @throws NullPointerException if the collection or any of its elements is null
+	 */
+	public SortedArrayList(Collection<? extends E> c) {
+		this(c, null);
+	}
+	
+	/**
+	 * Constructs a list containing the elements of the given collection, ordered by
+	 * the given Comparator. The elements are sorted once and any repeated elements
+	 * are dropped, rather than adding each element individually.
+	 * 
+	 * @param c the collection whose elements are to be placed in the list
+	 * @param comparator the Comparator used to order the list, or null to use the
+	 * elements' natural ordering
+	 * @throws NullPointerException if the collection or any of its elements is null
+	 */
+	public SortedArrayList(Collection<? extends E> c, Comparator<? super E> comparator) {
+		this.comparator = comparator;
+		this.list = sortedBatch(c, comparator);
+		this.size = list.length;
+		this.capacity = list.length;
+	}
+	
+	/**
+	 * Constructs a list that takes ownership of an array that is already sorted by the
+	 * given Comparator and has no null or repeated elements. This lets the other
+	 * SortedList implementations in this package edit a copy of their elements
+	 * without sorting them again.
+	 * 
+	 * @param sorted the sorted elements, which the list uses as its array
+	 * @param comparator the Comparator the elements are sorted by, or null for
+	 * natural ordering
+	 */
+	SortedArrayList(E[] sorted, Comparator<? super E> comparator) {
+		this.comparator = comparator;
+		this.list = sorted;
+		this.size = sorted.length;
+		this.capacity = sorted.length;
 	}
 	
 	/**
 	 * A helper method that grows the underlying list array once size == capacity.
-	 * This code is reused from https://github.ncsu.edu/engr-csc216-fall2017/csc216-221-LL-8.git
+	 * The capacity grows by half of its current value each time (and by at least
+	 * one slot), so adding n elements copies the array O(log n) times for O(n)
+	 * total copying.
+	 * This code is adapted from https://github.ncsu.edu/engr-csc216-fall2017/csc216-221-LL-8.git
 	 */
-	@SuppressWarnings("unchecked")
 	private void resize() {
+		growTo(this.capacity + 1);
+	}
+	
+	/**
+	 * Grows the underlying list array so that it can hold at least minCapacity elements,
+	 * growing geometrically if that gives a larger array.
+	 * 
+	 * @param minCapacity the minimum number of elements the array must hold
+	 */
+	private void growTo(int minCapacity) {
+		int newCapacity = this.capacity + (this.capacity >> 1);
+		if (newCapacity - minCapacity < 0) {
+			newCapacity = minCapacity;
+		}
+		if (newCapacity - MAX_CAPACITY > 0) {
+			if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+				throw new OutOfMemoryError("Required list capacity is too large");
+			}
+			newCapacity = MAX_CAPACITY;
+		}
+		// Copy the elements into a new, larger array and assign it to the list field
+		this.list = Arrays.copyOf(this.list, newCapacity);
 		// Update capacity
-		this.capacity += RESIZE;
-		// Create a new object array with the new, larger capacity
-		Comparable<E>[] o = new Comparable[this.capacity];
-		// Cast to generic type
-		E[] temp = (E[]) o;
-		// Assign the elements from the old array to the same index in the new array
-		for (int i = 0; i < this.size(); i++) {
-			temp[i] = this.list[i];
-		}
-		// Assign the new array to the list field
-		this.list = temp;
+		this.capacity = newCapacity;
+	}
+	
+	/**
+	 * Increases the capacity of the list, if necessary, so that it can hold at least
+	 * minCapacity elements without growing the underlying array. Callers that know how
+	 * many elements are about to be added (e.g. the number of records in a file being
+	 * loaded) can use this to allocate the array once up front.
+	 * 
+	 * @param minCapacity the desired minimum capacity
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > this.capacity) {
+			growTo(minCapacity);
+		}
+	}
+	
+	/**
+	 * Trims the capacity of the list down to its current size, releasing any unused
+	 * slots in the underlying array e.g. after a bulk load has finished.
+	 */
+	public void trimToSize() {
+		if (this.size < this.capacity) {
+			this.list = Arrays.copyOf(this.list, this.size);
+			this.capacity = this.size;
+		}
+	}
+	
+	/**
+	 * Returns the length of the underlying array i.e. the number of elements the list can
+	 * hold before it has to grow. The difference between capacity() and size() is the
+	 * number of slots currently allocated but unused.
+	 * 
+	 * @return the capacity of the list
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+	
+	/**
+	 * Returns the elements of the list in an array of exactly size() elements. The
+	 * list's own array is returned if it is already full, so the list must not be
+	 * modified after calling this.
+	 * 
+	 * @return the elements of the list in sorted order
+	 */
+	E[] toSortedArray() {
+		return (size == list.length) ? list : Arrays.copyOf(list, size);
 	}
 
 	/**
@@ -91,6 +248,8 @@ public class SortedArrayList<E extends Comparable<E>> implements SortedList<E> {
      *
      * @param e element to be appended to this list
      * @return true (as specified by {@link Collection#add})
+     * @throws NullPointerException if the element is null
+     * @throws IllegalArgumentException if an equal element is already in the list
      */
 	@Override
 	public boolean add(E e) {
@@ -99,50 +258,124 @@ public class SortedArrayList<E extends Comparable<E>> implements SortedList<E> {
 			throw new NullPointerException("Cannot add null elements");
 		}
 		
-		//Check for repeat elements
-		for (int i = 0; i < this.size(); i++) {
-			if (this.list[i].equals(e)) {
-				return false;
-			}
+		//Find the insertion point and check for repeat elements with a single binary search
+		int index = binarySearch(e);
+		if (index >= 0) {
+			throw new IllegalArgumentException("Cannot add duplicate elements");
 		}
+		index = -(index + 1);
 		
 		//Check if the list has reached capacity
 		if (this.size() == this.capacity) { // Grow the array if list is full
 			this.resize();
 		}
 		
-		//Adding to an empty list
-		if (size == 0) {
-			list[size] = e;
-			size++;
-			return true;
-		} else if (list[this.size - 1].compareTo(e) < 0) { //Case where the element is appended to the end of the list i.e. the element being 
-			list[size] = e; 							   //added is lexicographically less than the last element in the list
-			size++; 
-			return true;
+		//Right shift the tail of the array in one block to open up the necessary index
+		System.arraycopy(list, index, list, index + 1, this.size - index);
+		// Add the element to the desired index
+		list[index] = e;
+		// Increment the size of the ArrayList
+		this.size++;
+		this.modCount++;
+		return true;
+	}
+
+	/**
+	 * Adds all of the elements in the specified collection to this list in sorted
+	 * order, ignoring any elements that are already in the list or repeated in the
+	 * collection. The collection is sorted once (in parallel for large batches),
+	 * repeated elements are dropped in a single pass, and the sorted batch is merged
+	 * into the list from the back in a single pass. Adding m elements to a list of n
+	 * elements takes O(m log m + n) time, rather than the O(m * n) time it takes to
+	 * add the elements one at a time.
+	 * 
+	 * @param c collection containing elements to be added to this list
+	 * @return true if this list changed as a result of the call
+	 * @throws NullPointerException if the specified collection or any of its
+	 *             elements is null
+	 */
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		E[] batch = sortedBatch(c, comparator);
+		int m = batch.length;
+		if (m == 0) {
+			return false;
 		}
+		int n = this.size;
+		ensureCapacity(n + m);
 		
-		//Find the index where the element needs to go
-		int index = 0;
-		for (int i = 0; i < this.size; i++) {
-			//If the currently indexed element in the list is lexicographically less than the element being added,
-			//the list should be right shifted and the element put at the current index.
-			if (list[i].compareTo(e) >= 0) {
-				index = i;
-				break;
+		//Merge from the back so that no element is overwritten before it has been moved
+		int i = n - 1;
+		int j = m - 1;
+		int k = n + m - 1;
+		int repeats = 0;
+		while (i >= 0 && j >= 0) {
+			int cmp = compare(list[i], batch[j]);
+			if (cmp > 0) {
+				list[k--] = list[i--];
+			} else if (cmp < 0) {
+				list[k--] = batch[j--];
+			} else {
+				//The element is already in the list, so only keep the copy in the list
+				list[k--] = list[i--];
+				j--;
+				repeats++;
 			}
 		}
-		
-		//Right shift the array to insert the element at the necessary index
-		for (int i = this.size; i > index; i--) {
-			list[i] = list[i - 1];
+		System.arraycopy(batch, 0, list, k - j, j + 1);
+		if (repeats > 0) {
+			//Each repeat leaves one empty slot at the front of the merged region, so the
+			//remaining list elements are placed after the gap and everything is shifted left
+			System.arraycopy(list, 0, list, repeats, i + 1);
+			System.arraycopy(list, repeats, list, 0, n + m - repeats);
+			Arrays.fill(list, n + m - repeats, n + m, null);
 		}
-		// Add the element to the desired index
-		list[index] = e;
-		// Increment the size of the ArrayList
-		this.size++;
+		this.size = n + m - repeats;
+		if (this.size == n) {
+			return false;
+		}
+		this.modCount++;
 		return true;
 	}
+	
+	/**
+	 * Copies the elements of the given collection into a new array, sorts it, and
+	 * removes any repeated elements. This is shared with the other SortedList
+	 * implementations in this package that bulk load sorted batches.
+	 * 
+	 * @param c the collection to copy
+	 * @param comparator the Comparator to sort by, or null for natural ordering
+	 * @return a sorted array with no repeated elements, whose length is the number of
+	 * distinct elements in the collection
+	 * @throws NullPointerException if the collection or any of its elements is null
+	 */
+	@SuppressWarnings("unchecked")
+	static <E extends Comparable<E>> E[] sortedBatch(Collection<? extends E> c, Comparator<? super E> comparator) {
+		if (c == null) {
+			throw new NullPointerException("Cannot add a null collection");
+		}
+		Object[] o = c.toArray();
+		E[] batch = (E[]) Arrays.copyOf(o, o.length, Comparable[].class);
+		for (int i = 0; i < batch.length; i++) {
+			if (batch[i] == null) {
+				throw new NullPointerException("Cannot add null elements");
+			}
+		}
+		if (batch.length >= PARALLEL_SORT_THRESHOLD) {
+			Arrays.parallelSort(batch, comparator);
+		} else {
+			Arrays.sort(batch, comparator);
+		}
+		//Drop repeated elements, which are now next to each other
+		int distinct = 0;
+		for (int i = 0; i < batch.length; i++) {
+			if (distinct == 0 || (comparator == null ? batch[distinct - 1].compareTo(batch[i])
+					: comparator.compare(batch[distinct - 1], batch[i])) != 0) {
+				batch[distinct++] = batch[i];
+			}
+		}
+		return (distinct == batch.length) ? batch : Arrays.copyOf(batch, distinct);
+	}
 
 	/**
 	 * Removes the element at the specified position in this list (optional
@@ -162,16 +395,111 @@ public class SortedArrayList<E extends Comparable<E>> implements SortedList<E> {
 		}
 		// Get the element at the specified index
 		E temp = list[index];
-		for (int i = index; i < this.size() - 1; i++) {
-			list[i] = list[i + 1];
-		}
+		//Left shift the tail of the array in one block to close the gap
+		System.arraycopy(list, index + 1, list, index, this.size - index - 1);
 		// Set the repeated element at the end of the list to null
 		list[this.size() - 1] = null;
 		// Decrement the size
 		this.size--;
+		this.modCount++;
 		// Return the removed element
 		return temp;
 	}
+	
+	/**
+	 * Removes all of the elements of this list that satisfy the given predicate in a
+	 * single pass, moving each kept element at most once and nulling out the freed
+	 * slots. If the predicate throws an exception, the elements it has already
+	 * matched are removed and the rest of the list is left in order.
+	 * 
+	 * @param filter a predicate which returns true for elements to be removed
+	 * @return true if any elements were removed
+	 * @throws NullPointerException if the filter is null
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		if (filter == null) {
+			throw new NullPointerException("Filter cannot be null");
+		}
+		int r = 0;
+		int w = 0;
+		try {
+			for (; r < size; r++) {
+				if (!filter.test(list[r])) {
+					list[w++] = list[r];
+				}
+			}
+		} finally {
+			//Keep the untested tail if the predicate threw
+			System.arraycopy(list, r, list, w, size - r);
+			w += size - r;
+			compactTo(w);
+		}
+		return r != w;
+	}
+	
+	/**
+	 * Removes all of the elements of this list that are also contained in the
+	 * specified collection. The collection is sorted and then walked alongside the
+	 * list, so the list is compacted in a single pass.
+	 * 
+	 * @param c collection containing elements to be removed from this list
+	 * @return true if this list changed as a result of the call
+	 * @throws NullPointerException if the specified collection or any of its
+	 *             elements is null
+	 */
+	@Override
+	public boolean removeAll(Collection<? extends E> c) {
+		E[] batch = sortedBatch(c, comparator);
+		int j = 0;
+		int w = 0;
+		for (int r = 0; r < size; r++) {
+			while (j < batch.length && compare(batch[j], list[r]) < 0) {
+				j++;
+			}
+			if (j < batch.length && compare(batch[j], list[r]) == 0) {
+				j++;
+			} else {
+				list[w++] = list[r];
+			}
+		}
+		int oldSize = size;
+		compactTo(w);
+		return w != oldSize;
+	}
+	
+	/**
+	 * Removes all of the elements whose index is between fromIndex, inclusive, and
+	 * toIndex, exclusive, moving the tail of the array once and nulling out the freed
+	 * slots.
+	 * 
+	 * @param fromIndex index of the first element to be removed
+	 * @param toIndex index after the last element to be removed
+	 * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size() or
+	 *             fromIndex > toIndex
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+		System.arraycopy(list, toIndex, list, fromIndex, size - toIndex);
+		compactTo(size - (toIndex - fromIndex));
+	}
+	
+	/**
+	 * Shrinks the list to its first newSize elements, nulling out the freed slots so
+	 * the removed elements can be garbage collected.
+	 * 
+	 * @param newSize the new size of the list
+	 */
+	private void compactTo(int newSize) {
+		if (newSize != size) {
+			Arrays.fill(list, newSize, size, null);
+			size = newSize;
+			modCount++;
+		}
+	}
 
 	/**
      * Returns the element at the specified position in this list.
@@ -200,7 +528,7 @@ public class SortedArrayList<E extends Comparable<E>> implements SortedList<E> {
 	 */
 	@Override
 	public boolean contains(E e) {
-		return (binarySearch(e) != -1);
+		return (binarySearch(e) >= 0);
 	}
 
 	/**
@@ -215,37 +543,145 @@ public class SortedArrayList<E extends Comparable<E>> implements SortedList<E> {
      */
 	@Override
 	public int indexOf(E e) {
-		return binarySearch(e);
+		int index = binarySearch(e);
+		return (index >= 0) ? index : -1;
+	}
+	
+	/**
+	 * Returns the Comparator used to order this list, or null if the list uses the
+	 * natural ordering of its elements.
+	 * 
+	 * @return the Comparator used to order this list, or null
+	 */
+	@Override
+	public Comparator<? super E> comparator() {
+		return comparator;
 	}
 	
 	/**
+	 * Compares two elements using the list's Comparator, or their natural ordering
+	 * if the list has no Comparator.
 	 * 
+	 * @param a the first element
+	 * @param b the second element
+	 * @return a negative integer, zero, or a positive integer as a is less than, equal
+	 * to, or greater than b
+	 */
+	private int compare(E a, E b) {
+		return (comparator == null) ? a.compareTo(b) : comparator.compare(a, b);
+	}
+	
+	/**
+	 * Returns the index of the first element in this list that is greater than or
+	 * equal to the specified element, or size() if there is no such element. This is
+	 * found with a binary search in O(log n) time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is not less than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int lowerBound(E e) {
+		return bound(e, false);
+	}
+
+	/**
+	 * Returns the index of the first element in this list that is strictly greater
+	 * than the specified element, or size() if there is no such element. This is
+	 * found with a binary search in O(log n) time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is greater than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int upperBound(E e) {
+		return bound(e, true);
+	}
+	
+	/**
+	 * Binary searches for the first index whose element is greater than (or, if
+	 * strict is false, greater than or equal to) the given element.
+	 * 
+	 * @param e the element to search for
+	 * @param strict true to skip past an element equal to e
+	 * @return the first index whose element is past e, or size if there is none
+	 */
+	private int bound(E e, boolean strict) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		int min = 0;
+		int max = size;
+		while (min < max) {
+			int mid = (min + max) >>> 1;
+			int cmp = compare(list[mid], e);
+			if (cmp < 0 || (strict && cmp == 0)) {
+				min = mid + 1;
+			} else {
+				max = mid;
+			}
+		}
+		return min;
+	}
+	
+	/**
+	 * Searches the list for the given element. Each step of the search performs a single
+	 * comparison, so at most floor(log2(size)) + 1 comparisons are made.
 	 * Precondition: the elements in the list must be in sorted order
-	 * Code taken from https://pages.github.ncsu.edu/engr-csc216-staff/CSC216-SE-Materials/lectures/Heckman/slides/25_Searching.pdf
-	 * @return
+	 * Code adapted from https://pages.github.ncsu.edu/engr-csc216-staff/CSC216-SE-Materials/lectures/Heckman/slides/25_Searching.pdf
+	 * 
+	 * @param e the element to search for
+	 * @return the index of the element if it is in the list, otherwise (-(insertion point) - 1),
+	 * where the insertion point is the index that the element would be added at. This guarantees
+	 * that the return value will be >= 0 if and only if the element is found.
 	 */
 	private int binarySearch(E e) {
 		if (e == null) {
 			throw new NullPointerException("List cannot have null elements");
-		} else if (size == 0) {
-			return -1;
 		}
 		
 		int min = 0;
 		int max = size - 1;
 		
 		while (min <= max) {
-			int mid = (min + max)/2;
-			//If the currently indexed element in the list is lexicographically greater than the target
-			if (get(mid).compareTo(e) < 0) {
+			int mid = (min + max) >>> 1;
+			int cmp = compare(list[mid], e);
+			//If the currently indexed element in the list is lexicographically less than the target
+			if (cmp < 0) {
 				min = mid + 1;
-			} else if (get(mid).compareTo(e) > 0) {
+			} else if (cmp > 0) {
 				max = mid - 1;
 			} else {
 				return mid;
 			}
 		}
-		return -1;
+		return -(min + 1);
+	}
+	
+	/**
+	 * Returns a fail-fast iterator over the elements in this list in sorted order.
+	 * The iterator throws a ConcurrentModificationException if the list is
+	 * structurally modified after the iterator is created, other than through the
+	 * iterator's own remove().
+	 * 
+	 * @return an iterator over the elements in this list in sorted order
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new ArrayListIterator();
+	}
+
+	/**
+	 * Creates a fail-fast Spliterator over the elements in this list that reports
+	 * SIZED, SUBSIZED, ORDERED, SORTED, DISTINCT and NONNULL. The Spliterator splits
+	 * the array in half by index, so parallel streams divide the work evenly.
+	 * 
+	 * @return a Spliterator over the elements in this list
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new ArrayListSpliterator(0, -1, 0);
 	}
 	
 	/**
@@ -262,5 +698,188 @@ public class SortedArrayList<E extends Comparable<E>> implements SortedList<E> {
 		out += "]";
 		return out;
 	}
+	
+	/**
+	 * Fail-fast iterator over the underlying array.
+	 * 
+	 * @author Noah Benveniste
+	 */
+	private class ArrayListIterator implements Iterator<E> {
+		/** Index of the next element to return */
+		private int cursor;
+		/** Index of the last element returned, or -1 if remove() cannot be called */
+		private int lastReturned = -1;
+		/** The modCount that the list is expected to have */
+		private int expectedModCount = modCount;
+
+		/**
+		 * Returns true if the iteration has more elements.
+		 * 
+		 * @return true if the iteration has more elements
+		 */
+		@Override
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 * 
+		 * @return the next element in the iteration
+		 * @throws NoSuchElementException if the iteration has no more elements
+		 * @throws ConcurrentModificationException if the list was modified outside of
+		 *             the iterator
+		 */
+		@Override
+		public E next() {
+			checkForComodification();
+			if (cursor >= size) {
+				throw new NoSuchElementException("No more elements in the list");
+			}
+			lastReturned = cursor;
+			return list[cursor++];
+		}
+
+		/**
+		 * Removes the last element returned by next() from the list.
+		 * 
+		 * @throws IllegalStateException if next() has not been called since the last
+		 *             call to remove()
+		 * @throws ConcurrentModificationException if the list was modified outside of
+		 *             the iterator
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException("next() must be called before remove()");
+			}
+			checkForComodification();
+			SortedArrayList.this.remove(lastReturned);
+			cursor = lastReturned;
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+		
+		/**
+		 * Throws a ConcurrentModificationException if the list has been structurally
+		 * modified outside of this iterator.
+		 */
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException("List was modified during iteration");
+			}
+		}
+	}
+	
+	/**
+	 * Fail-fast Spliterator over the underlying array, which splits in half by index.
+	 * The fence (end index) and expected modCount are bound when the Spliterator is
+	 * first used, so a Spliterator created before the list is modified still sees
+	 * the modification.
+	 * 
+	 * @author Noah Benveniste
+	 */
+	private class ArrayListSpliterator implements Spliterator<E> {
+		/** Index of the next element to traverse */
+		private int index;
+		/** Index after the last element to traverse, or -1 until first use */
+		private int fence;
+		/** The modCount that the list is expected to have, once the fence is set */
+		private int expectedModCount;
+
+		/**
+		 * Creates a Spliterator over the given index range.
+		 * 
+		 * @param origin the first index to traverse
+		 * @param fence the index after the last element to traverse, or -1 to bind it
+		 *            to the size of the list on first use
+		 * @param expectedModCount the expected modCount of the list
+		 */
+		ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+			this.index = origin;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+		}
+		
+		/**
+		 * Sets the fence to the size of the list on first use.
+		 * 
+		 * @return the fence
+		 */
+		private int getFence() {
+			if (fence < 0) {
+				expectedModCount = modCount;
+				fence = size;
+			}
+			return fence;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException("Action cannot be null");
+			}
+			int hi = getFence();
+			if (index < hi) {
+				E e = list[index++];
+				action.accept(e);
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException("List was modified during iteration");
+				}
+				return true;
+			}
+			return false;
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException("Action cannot be null");
+			}
+			int hi = getFence();
+			E[] a = list;
+			for (int i = index; i < hi; i++) {
+				action.accept(a[i]);
+			}
+			index = hi;
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException("List was modified during iteration");
+			}
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			int hi = getFence();
+			int lo = index;
+			int mid = (lo + hi) >>> 1;
+			if (lo >= mid) {
+				return null;
+			}
+			index = mid;
+			return new ArrayListSpliterator(lo, mid, expectedModCount);
+		}
+
+		@Override
+		public long estimateSize() {
+			return getFence() - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED
+					| Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL;
+		}
+		
+		/**
+		 * Returns the list's Comparator, which is null if the elements are sorted by
+		 * their natural order.
+		 * 
+		 * @return the list's Comparator, or null
+		 */
+		@Override
+		public Comparator<? super E> getComparator() {
+			return comparator;
+		}
+	}
 
 }
@@ -0,0 +1,1246 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A SortedList implemented as a B+-tree, for lists with millions of elements.
+ * Elements are stored in fixed-size leaf arrays that are linked together in sorted
+ * order, and each internal node keeps the number of elements under each of its
+ * children, so that searching, adding and removing by either element or index take
+ * O(log n) time. Adding or removing an element only shifts the elements of one leaf
+ * (at most LEAF_CAPACITY of them), and the list grows one small leaf at a time
+ * rather than by copying one large array. Iteration and range views walk the
+ * linked leaves, so scanning k elements takes O(log n + k) time.
+ *
+ * Elements are kept in their natural order unless the list is constructed with a
+ * Comparator. An element that compares equal to one already in the list is not
+ * added.
+ *
+ * @author Noah Benveniste
+ *
+ * @param <E> the type of element in the list
+ */
+public class SortedBPlusTreeList<E extends Comparable<E>> implements SortedList<E> {
+
+	/** Maximum number of elements in a leaf */
+	static final int LEAF_CAPACITY = 64;
+	/** Maximum number of children of an internal node */
+	static final int INTERNAL_CAPACITY = 64;
+	/** Minimum number of elements in a leaf other than the root */
+	private static final int LEAF_MIN = LEAF_CAPACITY / 2;
+	/** Minimum number of children of an internal node other than the root */
+	private static final int INTERNAL_MIN = INTERNAL_CAPACITY / 2;
+
+	/** The root of the tree, or null if the list is empty */
+	private Node root;
+	/** The leftmost leaf, or null if the list is empty */
+	private Leaf first;
+	/** Number of elements in the list */
+	private int size;
+	/** Number of times the list has been structurally modified, used to make iterators fail-fast */
+	private int modCount;
+	/** The Comparator used to order the list, or null if the list uses natural ordering */
+	private final Comparator<? super E> comparator;
+
+	/** Separator key for the node returned by the last split during an add */
+	private Object splitKey;
+	/** Whether the last add inserted an element */
+	private boolean added;
+
+	/**
+	 * Constructs an empty list that uses the natural ordering of its elements.
+	 */
+	public SortedBPlusTreeList() {
+		this((Comparator<? super E>) null);
+	}
+
+	/**
+	 * Constructs an empty list whose elements are ordered by the given Comparator.
+	 *
+	 * @param comparator the Comparator used to order the list, or null to use the
+	 * elements' natural ordering
+	 */
+	public SortedBPlusTreeList(Comparator<? super E> comparator) {
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Constructs a list containing the elements of the given collection, ignoring
+	 * any repeated elements. The tree is built bottom up from the sorted elements
+	 * with full leaves, in O(n log n) time for the sort and O(n) time for the build.
+	 *
+	 * @param c the collection whose elements are to be placed in the list
+	 * @throws NullPointerException if the collection or any of its elements is null
+	 */
+	public SortedBPlusTreeList(Collection<? extends E> c) {
+		this((Comparator<? super E>) null);
+		addAll(c);
+	}
+
+	/**
+	 * Returns the number of the elements in the list.
+	 *
+	 * @return the number of elements in this list
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this list contains no elements.
+	 *
+	 * @return true if this list contains no elements
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns true if this list contains the specified element, in O(log n) time.
+	 *
+	 * @param e element whose presence in this list is to be tested
+	 * @return true if this list contains the specified element
+	 */
+	@Override
+	public boolean contains(E e) {
+		return indexOf(e) >= 0;
+	}
+
+	/**
+	 * Returns the Comparator used to order this list, or null if the list uses the
+	 * natural ordering of its elements.
+	 *
+	 * @return the Comparator used to order this list, or null
+	 */
+	@Override
+	public Comparator<? super E> comparator() {
+		return comparator;
+	}
+
+	/**
+	 * Returns a fail-fast iterator over the elements in this list in sorted order,
+	 * which walks the linked leaves.
+	 *
+	 * @return an iterator over the elements in this list in sorted order
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new LeafIterator(0, size, true);
+	}
+
+	/**
+	 * Creates a fail-fast Spliterator over the elements in this list that reports
+	 * SIZED, SUBSIZED, ORDERED, SORTED, DISTINCT and NONNULL. The Spliterator splits
+	 * in half by index, and each part walks the linked leaves once it starts.
+	 *
+	 * @return a Spliterator over the elements in this list
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new LeafSpliterator(0, -1, 0);
+	}
+
+	/**
+	 * Adds the specified element to list in sorted order, in O(log n) time. Null
+	 * elements are not allowed, and an element that compares equal to one already in
+	 * the list is rejected.
+	 *
+	 * @param e element to be added to this list
+	 * @return true (as specified by {@link Collection#add})
+	 * @throws NullPointerException if the element is null
+	 * @throws IllegalArgumentException if an equal element is already in the list
+	 */
+	@Override
+	public boolean add(E e) {
+		if (e == null) {
+			throw new NullPointerException("Cannot add null elements");
+		}
+		if (!addIfAbsent(e)) {
+			throw new IllegalArgumentException("Cannot add duplicate elements");
+		}
+		return true;
+	}
+
+	/**
+	 * Adds a non-null element to the list in sorted order, unless an equal element is
+	 * already in it.
+	 *
+	 * @param e the element to add
+	 * @return true if the element was added, or false if it is already in the list
+	 */
+	private boolean addIfAbsent(E e) {
+		if (root == null) {
+			first = new Leaf();
+			root = first;
+		}
+		added = false;
+		Node sibling = insert(root, e, true, true);
+		if (sibling != null) {
+			//The root split, so the tree grows a level
+			Internal newRoot = new Internal();
+			newRoot.children[0] = root;
+			newRoot.children[1] = sibling;
+			newRoot.counts[0] = sizeOf(root);
+			newRoot.counts[1] = sizeOf(sibling);
+			newRoot.seps[0] = splitKey;
+			newRoot.n = 2;
+			root = newRoot;
+		}
+		if (added) {
+			size++;
+			modCount++;
+		}
+		return added;
+	}
+
+	/**
+	 * Adds the element to the subtree rooted at the given node, splitting the node if
+	 * it overflows. Nodes on the left or right edge of the tree split unevenly when
+	 * the element lands at that edge, so that adding elements in ascending or
+	 * descending order leaves the nodes full.
+	 *
+	 * @param node the root of the subtree
+	 * @param e the element to add
+	 * @param leftmost whether the node is the leftmost on its level
+	 * @param rightmost whether the node is the rightmost on its level
+	 * @return the new right sibling of the node if it split (with its separator key
+	 * in splitKey), or null if it did not split
+	 */
+	private Node insert(Node node, E e, boolean leftmost, boolean rightmost) {
+		if (node instanceof Leaf) {
+			Leaf leaf = (Leaf) node;
+			int pos = leafSearch(leaf, e);
+			if (pos >= 0) {
+				return null;
+			}
+			pos = -(pos + 1);
+			System.arraycopy(leaf.keys, pos, leaf.keys, pos + 1, leaf.n - pos);
+			leaf.keys[pos] = e;
+			leaf.n++;
+			added = true;
+			if (leaf.n <= LEAF_CAPACITY) {
+				return null;
+			}
+			int leftCount = leaf.n / 2;
+			if (rightmost && pos == leaf.n - 1) {
+				leftCount = LEAF_CAPACITY;
+			} else if (leftmost && pos == 0) {
+				leftCount = 1;
+			}
+			return splitLeaf(leaf, leftCount);
+		}
+
+		Internal in = (Internal) node;
+		int i = childIndex(in, e);
+		Node sibling = insert(in.children[i], e, leftmost && i == 0, rightmost && i == in.n - 1);
+		if (added) {
+			in.counts[i]++;
+		}
+		if (sibling == null) {
+			return null;
+		}
+		//Link in the new child after the one that split
+		int siblingSize = sizeOf(sibling);
+		in.counts[i] -= siblingSize;
+		System.arraycopy(in.children, i + 1, in.children, i + 2, in.n - i - 1);
+		System.arraycopy(in.counts, i + 1, in.counts, i + 2, in.n - i - 1);
+		System.arraycopy(in.seps, i, in.seps, i + 1, in.n - i - 1);
+		in.children[i + 1] = sibling;
+		in.counts[i + 1] = siblingSize;
+		in.seps[i] = splitKey;
+		in.n++;
+		if (in.n <= INTERNAL_CAPACITY) {
+			return null;
+		}
+		int leftCount = in.n / 2;
+		if (rightmost && i + 1 == in.n - 1) {
+			leftCount = INTERNAL_CAPACITY;
+		} else if (leftmost && i == 0) {
+			leftCount = 2;
+		}
+		return splitInternal(in, leftCount);
+	}
+
+	/**
+	 * Moves the elements of the leaf after the first leftCount into a new leaf that
+	 * is linked in after it.
+	 *
+	 * @param leaf the leaf to split
+	 * @param leftCount the number of elements to leave in the leaf
+	 * @return the new leaf, with its first element in splitKey
+	 */
+	private Leaf splitLeaf(Leaf leaf, int leftCount) {
+		Leaf right = new Leaf();
+		right.n = leaf.n - leftCount;
+		System.arraycopy(leaf.keys, leftCount, right.keys, 0, right.n);
+		clear(leaf.keys, leftCount, leaf.n);
+		leaf.n = leftCount;
+		right.next = leaf.next;
+		if (right.next != null) {
+			right.next.prev = right;
+		}
+		right.prev = leaf;
+		leaf.next = right;
+		splitKey = right.keys[0];
+		return right;
+	}
+
+	/**
+	 * Moves the children of the node after the first leftCount into a new node.
+	 *
+	 * @param in the node to split
+	 * @param leftCount the number of children to leave in the node
+	 * @return the new node, with the separator between the two nodes in splitKey
+	 */
+	private Internal splitInternal(Internal in, int leftCount) {
+		Internal right = new Internal();
+		right.n = in.n - leftCount;
+		System.arraycopy(in.children, leftCount, right.children, 0, right.n);
+		System.arraycopy(in.counts, leftCount, right.counts, 0, right.n);
+		System.arraycopy(in.seps, leftCount, right.seps, 0, right.n - 1);
+		splitKey = in.seps[leftCount - 1];
+		clear(in.children, leftCount, in.n);
+		clear(in.seps, leftCount - 1, in.n - 1);
+		in.n = leftCount;
+		return right;
+	}
+
+	/**
+	 * Adds all of the elements in the specified collection to this list in sorted
+	 * order, ignoring any elements that are already in the list or repeated in the
+	 * collection. If the list is empty, the tree is built bottom up from the sorted
+	 * elements with full nodes. Otherwise the sorted elements are added one at a
+	 * time, which keeps each search on the same path as the last.
+	 *
+	 * @param c collection containing elements to be added to this list
+	 * @return true if this list changed as a result of the call
+	 * @throws NullPointerException if the specified collection or any of its
+	 *             elements is null
+	 */
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		E[] batch = SortedArrayList.sortedBatch(c, comparator);
+		if (batch.length == 0) {
+			return false;
+		}
+		if (size > 0) {
+			boolean changed = false;
+			for (int i = 0; i < batch.length; i++) {
+				changed |= addIfAbsent(batch[i]);
+			}
+			return changed;
+		}
+		bulkLoad(batch);
+		return true;
+	}
+
+	/**
+	 * Builds the tree bottom up from a sorted array of distinct elements. Each level
+	 * is filled left to right with full nodes, and if the last node on a level would
+	 * be underfull it shares the children of the node before it.
+	 *
+	 * @param batch the sorted elements
+	 */
+	private void bulkLoad(Object[] batch) {
+		int n = batch.length;
+		int leafCount = (n + LEAF_CAPACITY - 1) / LEAF_CAPACITY;
+		Node[] level = new Node[leafCount];
+		Object[] mins = new Object[leafCount];
+		int[] sizes = new int[leafCount];
+		Leaf prev = null;
+		int start = 0;
+		for (int i = 0; i < leafCount; i++) {
+			int count = chunkSize(n, start, LEAF_CAPACITY, LEAF_MIN);
+			Leaf leaf = new Leaf();
+			System.arraycopy(batch, start, leaf.keys, 0, count);
+			leaf.n = count;
+			leaf.prev = prev;
+			if (prev != null) {
+				prev.next = leaf;
+			} else {
+				first = leaf;
+			}
+			prev = leaf;
+			level[i] = leaf;
+			mins[i] = leaf.keys[0];
+			sizes[i] = count;
+			start += count;
+		}
+		int count = leafCount;
+		while (count > 1) {
+			int parents = (count + INTERNAL_CAPACITY - 1) / INTERNAL_CAPACITY;
+			start = 0;
+			for (int p = 0; p < parents; p++) {
+				int children = chunkSize(count, start, INTERNAL_CAPACITY, INTERNAL_MIN);
+				Internal in = new Internal();
+				int total = 0;
+				for (int j = 0; j < children; j++) {
+					in.children[j] = level[start + j];
+					in.counts[j] = sizes[start + j];
+					if (j > 0) {
+						in.seps[j - 1] = mins[start + j];
+					}
+					total += sizes[start + j];
+				}
+				in.n = children;
+				//Safe to overwrite in place, since p <= start
+				mins[p] = mins[start];
+				level[p] = in;
+				sizes[p] = total;
+				start += children;
+			}
+			count = parents;
+		}
+		root = level[0];
+		size = n;
+		modCount++;
+	}
+
+	/**
+	 * Returns the size of the next chunk when splitting total items into chunks of at
+	 * most capacity items, where the last two chunks are evened out if the last one
+	 * would otherwise have fewer than min items.
+	 *
+	 * @param total the total number of items
+	 * @param start the index of the first item in the chunk
+	 * @param capacity the maximum chunk size
+	 * @param min the minimum chunk size, unless there is only one chunk
+	 * @return the number of items in the chunk starting at start
+	 */
+	private static int chunkSize(int total, int start, int capacity, int min) {
+		int remaining = total - start;
+		if (remaining <= capacity) {
+			return remaining;
+		}
+		if (remaining < capacity + min) {
+			//This chunk and the last share the remaining items
+			return remaining - remaining / 2;
+		}
+		return capacity;
+	}
+
+	/**
+	 * Returns the element at the specified position in this list, in O(log n) time.
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified position in this list
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+		Node x = root;
+		while (x instanceof Internal) {
+			Internal in = (Internal) x;
+			int i = 0;
+			while (index >= in.counts[i]) {
+				index -= in.counts[i];
+				i++;
+			}
+			x = in.children[i];
+		}
+		return (E) ((Leaf) x).keys[index];
+	}
+
+	/**
+	 * Removes the element at the specified position in this list, in O(log n) time.
+	 * Any subsequent elements have their indices reduced by one, but only the
+	 * elements in the same leaf are moved.
+	 *
+	 * @param index the index of the element to be removed
+	 * @return the element previously at the specified position
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	public E remove(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+		E removed = remove(root, index);
+		size--;
+		modCount++;
+		if (size == 0) {
+			root = null;
+			first = null;
+		} else if (root instanceof Internal && ((Internal) root).n == 1) {
+			//The root has a single child, so the tree shrinks a level
+			root = ((Internal) root).children[0];
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes the element at the given index of the subtree rooted at the given node,
+	 * rebalancing any child that becomes underfull.
+	 *
+	 * @param node the root of the subtree
+	 * @param index the index of the element in the subtree
+	 * @return the removed element
+	 */
+	@SuppressWarnings("unchecked")
+	private E remove(Node node, int index) {
+		if (node instanceof Leaf) {
+			Leaf leaf = (Leaf) node;
+			E removed = (E) leaf.keys[index];
+			System.arraycopy(leaf.keys, index + 1, leaf.keys, index, leaf.n - index - 1);
+			leaf.keys[--leaf.n] = null;
+			return removed;
+		}
+		Internal in = (Internal) node;
+		int i = 0;
+		while (index >= in.counts[i]) {
+			index -= in.counts[i];
+			i++;
+		}
+		E removed = remove(in.children[i], index);
+		in.counts[i]--;
+		Node child = in.children[i];
+		if (child instanceof Leaf ? ((Leaf) child).n < LEAF_MIN : ((Internal) child).n < INTERNAL_MIN) {
+			rebalance(in, i);
+		}
+		return removed;
+	}
+
+	/**
+	 * Fixes an underfull child by borrowing from a sibling that has elements to spare,
+	 * or otherwise merging it with a sibling.
+	 *
+	 * @param p the parent of the underfull child
+	 * @param i the index of the underfull child
+	 */
+	private void rebalance(Internal p, int i) {
+		Node left = (i > 0) ? p.children[i - 1] : null;
+		Node right = (i < p.n - 1) ? p.children[i + 1] : null;
+		if (p.children[i] instanceof Leaf) {
+			Leaf c = (Leaf) p.children[i];
+			if (left != null && ((Leaf) left).n > LEAF_MIN) {
+				Leaf l = (Leaf) left;
+				System.arraycopy(c.keys, 0, c.keys, 1, c.n);
+				c.keys[0] = l.keys[l.n - 1];
+				l.keys[--l.n] = null;
+				c.n++;
+				p.seps[i - 1] = c.keys[0];
+				p.counts[i - 1]--;
+				p.counts[i]++;
+			} else if (right != null && ((Leaf) right).n > LEAF_MIN) {
+				Leaf r = (Leaf) right;
+				c.keys[c.n++] = r.keys[0];
+				System.arraycopy(r.keys, 1, r.keys, 0, r.n - 1);
+				r.keys[--r.n] = null;
+				p.seps[i] = r.keys[0];
+				p.counts[i]++;
+				p.counts[i + 1]--;
+			} else if (left != null) {
+				mergeLeaves(p, i - 1);
+			} else if (right != null) {
+				mergeLeaves(p, i);
+			}
+			return;
+		}
+		Internal c = (Internal) p.children[i];
+		if (left != null && ((Internal) left).n > INTERNAL_MIN) {
+			Internal l = (Internal) left;
+			System.arraycopy(c.children, 0, c.children, 1, c.n);
+			System.arraycopy(c.counts, 0, c.counts, 1, c.n);
+			System.arraycopy(c.seps, 0, c.seps, 1, c.n - 1);
+			c.children[0] = l.children[l.n - 1];
+			c.counts[0] = l.counts[l.n - 1];
+			c.seps[0] = p.seps[i - 1];
+			p.seps[i - 1] = l.seps[l.n - 2];
+			l.children[l.n - 1] = null;
+			l.seps[l.n - 2] = null;
+			l.n--;
+			c.n++;
+			p.counts[i - 1] -= c.counts[0];
+			p.counts[i] += c.counts[0];
+		} else if (right != null && ((Internal) right).n > INTERNAL_MIN) {
+			Internal r = (Internal) right;
+			c.children[c.n] = r.children[0];
+			c.counts[c.n] = r.counts[0];
+			c.seps[c.n - 1] = p.seps[i];
+			c.n++;
+			p.seps[i] = r.seps[0];
+			int moved = r.counts[0];
+			System.arraycopy(r.children, 1, r.children, 0, r.n - 1);
+			System.arraycopy(r.counts, 1, r.counts, 0, r.n - 1);
+			System.arraycopy(r.seps, 1, r.seps, 0, r.n - 2);
+			r.children[r.n - 1] = null;
+			r.seps[r.n - 2] = null;
+			r.n--;
+			p.counts[i] += moved;
+			p.counts[i + 1] -= moved;
+		} else if (left != null) {
+			mergeInternals(p, i - 1);
+		} else if (right != null) {
+			mergeInternals(p, i);
+		}
+	}
+
+	/**
+	 * Merges the leaf at index i + 1 of the parent into the leaf at index i.
+	 *
+	 * @param p the parent of the leaves
+	 * @param i the index of the left leaf
+	 */
+	private void mergeLeaves(Internal p, int i) {
+		Leaf l = (Leaf) p.children[i];
+		Leaf r = (Leaf) p.children[i + 1];
+		System.arraycopy(r.keys, 0, l.keys, l.n, r.n);
+		l.n += r.n;
+		l.next = r.next;
+		if (r.next != null) {
+			r.next.prev = l;
+		}
+		p.counts[i] += p.counts[i + 1];
+		removeChild(p, i + 1);
+	}
+
+	/**
+	 * Merges the internal node at index i + 1 of the parent into the node at index i.
+	 *
+	 * @param p the parent of the nodes
+	 * @param i the index of the left node
+	 */
+	private void mergeInternals(Internal p, int i) {
+		Internal l = (Internal) p.children[i];
+		Internal r = (Internal) p.children[i + 1];
+		l.seps[l.n - 1] = p.seps[i];
+		System.arraycopy(r.seps, 0, l.seps, l.n, r.n - 1);
+		System.arraycopy(r.children, 0, l.children, l.n, r.n);
+		System.arraycopy(r.counts, 0, l.counts, l.n, r.n);
+		l.n += r.n;
+		p.counts[i] += p.counts[i + 1];
+		removeChild(p, i + 1);
+	}
+
+	/**
+	 * Removes the child at index j (j > 0) of the node, along with the separator
+	 * before it.
+	 *
+	 * @param p the node
+	 * @param j the index of the child to remove
+	 */
+	private static void removeChild(Internal p, int j) {
+		System.arraycopy(p.children, j + 1, p.children, j, p.n - j - 1);
+		System.arraycopy(p.counts, j + 1, p.counts, j, p.n - j - 1);
+		System.arraycopy(p.seps, j, p.seps, j - 1, p.n - j - 1);
+		p.n--;
+		p.children[p.n] = null;
+		p.seps[p.n - 1] = null;
+	}
+
+	/**
+	 * Returns the index of the specified element in this list, or -1 if this list
+	 * does not contain the element, in O(log n) time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the element in this list, or -1 if this list does not
+	 *         contain the element
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int indexOf(E e) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		if (root == null) {
+			return -1;
+		}
+		int rank = 0;
+		Node x = root;
+		while (x instanceof Internal) {
+			Internal in = (Internal) x;
+			int i = childIndex(in, e);
+			for (int j = 0; j < i; j++) {
+				rank += in.counts[j];
+			}
+			x = in.children[i];
+		}
+		int pos = leafSearch((Leaf) x, e);
+		return (pos >= 0) ? rank + pos : -1;
+	}
+
+	/**
+	 * Returns the index of the first element in this list that is greater than or
+	 * equal to the specified element, or size() if there is no such element, in
+	 * O(log n) time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is not less than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int lowerBound(E e) {
+		return rank(e, false);
+	}
+
+	/**
+	 * Returns the index of the first element in this list that is strictly greater
+	 * than the specified element, or size() if there is no such element, in O(log n)
+	 * time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is greater than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int upperBound(E e) {
+		return rank(e, true);
+	}
+
+	/**
+	 * Counts the number of elements less than (or, if inclusive is true, less than or
+	 * equal to) the given element by summing the counts of the children to the left
+	 * of the search path.
+	 *
+	 * @param e the element to search for
+	 * @param inclusive true to also count an element equal to e
+	 * @return the number of elements before e
+	 */
+	private int rank(E e, boolean inclusive) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		if (root == null) {
+			return 0;
+		}
+		int rank = 0;
+		Node x = root;
+		while (x instanceof Internal) {
+			Internal in = (Internal) x;
+			int i = childIndex(in, e);
+			for (int j = 0; j < i; j++) {
+				rank += in.counts[j];
+			}
+			x = in.children[i];
+		}
+		Leaf leaf = (Leaf) x;
+		int pos = leafSearch(leaf, e);
+		if (pos < 0) {
+			return rank - (pos + 1);
+		}
+		return inclusive ? rank + pos + 1 : rank + pos;
+	}
+
+	/**
+	 * Returns a read-only view of the portion of this list whose elements are greater
+	 * than or equal to from and strictly less than to. The view's iterator walks the
+	 * linked leaves, so scanning the range takes O(log n + k) time for k elements.
+	 * The view is only valid until this list is next structurally modified.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return a view of the elements in the range, in sorted order
+	 * @throws NullPointerException if either endpoint is null
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	@Override
+	public List<E> rangeView(E from, E to) {
+		if ((comparator == null ? from.compareTo(to) : comparator.compare(from, to)) > 0) {
+			throw new IllegalArgumentException("Range start cannot be greater than range end");
+		}
+		return new LeafRangeView(lowerBound(from), lowerBound(to));
+	}
+
+	/**
+	 * Returns a String representation of the list, in the form [a, b, c]
+	 *
+	 * @return a String representation of the list
+	 */
+	@Override
+	public String toString() {
+		StringBuilder out = new StringBuilder("[");
+		for (Leaf leaf = first; leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.n; i++) {
+				if (out.length() > 1) {
+					out.append(", ");
+				}
+				out.append(leaf.keys[i]);
+			}
+		}
+		return out.append("]").toString();
+	}
+
+	/**
+	 * Returns the height of the tree, which is 0 for an empty list and 1 for a list
+	 * that fits in a single leaf.
+	 *
+	 * @return the height of the tree
+	 */
+	int height() {
+		int height = 0;
+		for (Node x = root; x != null; x = (x instanceof Internal) ? ((Internal) x).children[0] : null) {
+			height++;
+		}
+		return height;
+	}
+
+	/**
+	 * Binary searches a leaf for the element.
+	 *
+	 * @param leaf the leaf to search
+	 * @param e the element to search for
+	 * @return the index of the element in the leaf if it is there, otherwise
+	 * (-(insertion point) - 1)
+	 */
+	@SuppressWarnings("unchecked")
+	private int leafSearch(Leaf leaf, E e) {
+		int min = 0;
+		int max = leaf.n - 1;
+		while (min <= max) {
+			int mid = (min + max) >>> 1;
+			int cmp = compare((E) leaf.keys[mid], e);
+			if (cmp < 0) {
+				min = mid + 1;
+			} else if (cmp > 0) {
+				max = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(min + 1);
+	}
+
+	/**
+	 * Binary searches an internal node for the child whose subtree would contain the
+	 * element, which is the number of separators less than or equal to the element.
+	 *
+	 * @param in the node to search
+	 * @param e the element to search for
+	 * @return the index of the child to descend into
+	 */
+	@SuppressWarnings("unchecked")
+	private int childIndex(Internal in, E e) {
+		int min = 0;
+		int max = in.n - 1;
+		while (min < max) {
+			int mid = (min + max) >>> 1;
+			if (compare((E) in.seps[mid], e) <= 0) {
+				min = mid + 1;
+			} else {
+				max = mid;
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * Compares two elements using the list's Comparator, or their natural ordering
+	 * if the list has no Comparator.
+	 *
+	 * @param a the first element
+	 * @param b the second element
+	 * @return a negative integer, zero, or a positive integer as a is less than, equal
+	 * to, or greater than b
+	 */
+	private int compare(E a, E b) {
+		return (comparator == null) ? a.compareTo(b) : comparator.compare(a, b);
+	}
+
+	/**
+	 * Returns the number of elements in the subtree rooted at the node.
+	 *
+	 * @param node the root of the subtree
+	 * @return the number of elements in the subtree
+	 */
+	private static int sizeOf(Node node) {
+		if (node instanceof Leaf) {
+			return ((Leaf) node).n;
+		}
+		Internal in = (Internal) node;
+		int total = 0;
+		for (int i = 0; i < in.n; i++) {
+			total += in.counts[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Nulls out a range of an array so that the elements can be garbage collected.
+	 *
+	 * @param a the array
+	 * @param from the first index to clear
+	 * @param to the index after the last to clear
+	 */
+	private static void clear(Object[] a, int from, int to) {
+		for (int i = from; i < to; i++) {
+			a[i] = null;
+		}
+	}
+
+	/**
+	 * Finds the leaf holding the element at the given index, and the element's
+	 * position in that leaf.
+	 *
+	 * @param index the index of the element, which must be in range
+	 * @return the leaf and offset of the element
+	 */
+	private Cursor cursorAt(int index) {
+		Node x = root;
+		while (x instanceof Internal) {
+			Internal in = (Internal) x;
+			int i = 0;
+			while (index >= in.counts[i]) {
+				index -= in.counts[i];
+				i++;
+			}
+			x = in.children[i];
+		}
+		return new Cursor((Leaf) x, index);
+	}
+
+	/**
+	 * A node in the tree.
+	 */
+	private abstract static class Node {
+		// Marker type for Leaf and Internal
+	}
+
+	/**
+	 * A leaf, which holds up to LEAF_CAPACITY elements in sorted order and is linked
+	 * to its neighbors. The array has one extra slot so an element can be added
+	 * before the leaf splits.
+	 */
+	private static final class Leaf extends Node {
+		/** The elements in the leaf */
+		private final Object[] keys = new Object[LEAF_CAPACITY + 1];
+		/** Number of elements in the leaf */
+		private int n;
+		/** The next leaf in sorted order */
+		private Leaf next;
+		/** The previous leaf in sorted order */
+		private Leaf prev;
+	}
+
+	/**
+	 * An internal node, which holds up to INTERNAL_CAPACITY children. seps[i] is a
+	 * key that is greater than every element under children[i] and less than or equal
+	 * to every element under children[i + 1], and counts[i] is the number of elements
+	 * under children[i]. The arrays have one extra slot so a child can be added before
+	 * the node splits.
+	 */
+	private static final class Internal extends Node {
+		/** The children of the node */
+		private final Node[] children = new Node[INTERNAL_CAPACITY + 1];
+		/** Number of elements under each child */
+		private final int[] counts = new int[INTERNAL_CAPACITY + 1];
+		/** Separator keys between the children */
+		private final Object[] seps = new Object[INTERNAL_CAPACITY];
+		/** Number of children */
+		private int n;
+	}
+
+	/**
+	 * A position in the linked leaves.
+	 */
+	private static final class Cursor {
+		/** The current leaf */
+		private Leaf leaf;
+		/** The position in the current leaf */
+		private int offset;
+
+		/**
+		 * Constructs a cursor at the given position.
+		 *
+		 * @param leaf the leaf
+		 * @param offset the position in the leaf
+		 */
+		Cursor(Leaf leaf, int offset) {
+			this.leaf = leaf;
+			this.offset = offset;
+		}
+
+		/**
+		 * Returns the element at the cursor and moves it forward.
+		 *
+		 * @return the element at the cursor
+		 */
+		Object advance() {
+			Object value = leaf.keys[offset++];
+			if (offset == leaf.n && leaf.next != null) {
+				leaf = leaf.next;
+				offset = 0;
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Fail-fast iterator that walks the linked leaves over a range of indices.
+	 *
+	 * @author Noah Benveniste
+	 */
+	private class LeafIterator implements Iterator<E> {
+		/** Position of the next element, or null if it has not been found yet */
+		private Cursor cursor;
+		/** Index of the next element to return */
+		private int index;
+		/** Index after the last element to return */
+		private int end;
+		/** Whether remove() is supported */
+		private final boolean removable;
+		/** Index of the last element returned, or -1 if remove() cannot be called */
+		private int lastReturned = -1;
+		/** The modCount that the list is expected to have */
+		private int expectedModCount = modCount;
+
+		/**
+		 * Constructs an iterator over the elements from index start to end.
+		 *
+		 * @param start the index of the first element
+		 * @param end the index after the last element
+		 * @param removable whether remove() is supported
+		 */
+		LeafIterator(int start, int end, boolean removable) {
+			this.index = start;
+			this.end = end;
+			this.removable = removable;
+		}
+
+		/**
+		 * Returns true if the iteration has more elements.
+		 *
+		 * @return true if the iteration has more elements
+		 */
+		@Override
+		public boolean hasNext() {
+			return index < end;
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 *
+		 * @return the next element in the iteration
+		 * @throws NoSuchElementException if the iteration has no more elements
+		 * @throws ConcurrentModificationException if the list was modified outside of
+		 *             the iterator
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException("List was modified during iteration");
+			}
+			if (index >= end) {
+				throw new NoSuchElementException("No more elements in the list");
+			}
+			if (cursor == null) {
+				cursor = cursorAt(index);
+			}
+			lastReturned = index++;
+			return (E) cursor.advance();
+		}
+
+		/**
+		 * Removes the last element returned by next() from the list.
+		 *
+		 * @throws UnsupportedOperationException if the iterator is over a read-only view
+		 * @throws IllegalStateException if next() has not been called since the last
+		 *             call to remove()
+		 * @throws ConcurrentModificationException if the list was modified outside of
+		 *             the iterator
+		 */
+		@Override
+		public void remove() {
+			if (!removable) {
+				throw new UnsupportedOperationException("The view is read-only");
+			}
+			if (lastReturned < 0) {
+				throw new IllegalStateException("next() must be called before remove()");
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException("List was modified during iteration");
+			}
+			SortedBPlusTreeList.this.remove(lastReturned);
+			index = lastReturned;
+			end--;
+			lastReturned = -1;
+			//Removing can move elements between leaves, so find the next element again
+			cursor = null;
+			expectedModCount = modCount;
+		}
+	}
+
+	/**
+	 * A read-only view of a range of indices, whose iterator walks the linked leaves.
+	 *
+	 * @author Noah Benveniste
+	 */
+	private class LeafRangeView extends AbstractList<E> implements RandomAccess {
+		/** Index of the first element in the view */
+		private final int fromIndex;
+		/** Index after the last element in the view */
+		private final int toIndex;
+
+		/**
+		 * Constructs a view of the elements from fromIndex to toIndex.
+		 *
+		 * @param fromIndex index of the first element in the view
+		 * @param toIndex index after the last element in the view
+		 */
+		LeafRangeView(int fromIndex, int toIndex) {
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+		}
+
+		@Override
+		public E get(int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+			}
+			return SortedBPlusTreeList.this.get(fromIndex + index);
+		}
+
+		@Override
+		public int size() {
+			return toIndex - fromIndex;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return new LeafIterator(fromIndex, toIndex, false);
+		}
+	}
+
+	/**
+	 * Fail-fast Spliterator over a range of indices, which splits in half by index and
+	 * walks the linked leaves once traversal starts. The fence and expected modCount
+	 * are bound when the Spliterator is first used.
+	 *
+	 * @author Noah Benveniste
+	 */
+	private class LeafSpliterator implements Spliterator<E> {
+		/** Index of the next element to traverse */
+		private int index;
+		/** Index after the last element to traverse, or -1 until first use */
+		private int fence;
+		/** The modCount that the list is expected to have, once the fence is set */
+		private int expectedModCount;
+		/** Position of the next element, or null if traversal has not started */
+		private Cursor cursor;
+
+		/**
+		 * Creates a Spliterator over the given index range.
+		 *
+		 * @param origin the first index to traverse
+		 * @param fence the index after the last element to traverse, or -1 to bind it
+		 *            to the size of the list on first use
+		 * @param expectedModCount the expected modCount of the list
+		 */
+		LeafSpliterator(int origin, int fence, int expectedModCount) {
+			this.index = origin;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+		}
+
+		/**
+		 * Sets the fence to the size of the list on first use.
+		 *
+		 * @return the fence
+		 */
+		private int getFence() {
+			if (fence < 0) {
+				expectedModCount = modCount;
+				fence = size;
+			}
+			return fence;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean tryAdvance(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException("Action cannot be null");
+			}
+			int hi = getFence();
+			if (index >= hi) {
+				return false;
+			}
+			if (cursor == null) {
+				cursor = cursorAt(index);
+			}
+			index++;
+			action.accept((E) cursor.advance());
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException("List was modified during iteration");
+			}
+			return true;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void forEachRemaining(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException("Action cannot be null");
+			}
+			int hi = getFence();
+			if (index < hi) {
+				if (cursor == null) {
+					cursor = cursorAt(index);
+				}
+				//The cursor walks the live leaves, so check for modification before each step
+				for (; index < hi; index++) {
+					if (modCount != expectedModCount) {
+						throw new ConcurrentModificationException("List was modified during iteration");
+					}
+					action.accept((E) cursor.advance());
+				}
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException("List was modified during iteration");
+			}
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			int hi = getFence();
+			int lo = index;
+			int mid = (lo + hi) >>> 1;
+			if (lo >= mid) {
+				return null;
+			}
+			index = mid;
+			cursor = null;
+			return new LeafSpliterator(lo, mid, expectedModCount);
+		}
+
+		@Override
+		public long estimateSize() {
+			return getFence() - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED
+					| Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL;
+		}
+
+		/**
+		 * Returns the list's Comparator, which is null if the elements are sorted by
+		 * their natural order.
+		 *
+		 * @return the list's Comparator, or null
+		 */
+		@Override
+		public Comparator<? super E> getComparator() {
+			return comparator;
+		}
+	}
+
+}
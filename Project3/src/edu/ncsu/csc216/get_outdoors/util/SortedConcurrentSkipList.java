@@ -0,0 +1,434 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe SortedList for many threads writing at once, backed by a lock-free
+ * concurrent skip list. add(E), contains(E), removeElement(E), floor(E) and
+ * ceiling(E) are linearizable and take O(log n) expected time without locking, so
+ * writers on different parts of the list do not block each other and throughput
+ * grows with the number of cores.
+ *
+ * A skip list does not track positions, so the operations that deal in indices are
+ * weakly consistent and take O(n) time: get(int), remove(int), indexOf(E),
+ * lowerBound(E), upperBound(E), countBetween(E, E) and rangeView(E, E) each walk the
+ * list, and if other threads write during the walk the result may reflect some of
+ * those writes and not others. size() is exact once writers are quiescent. They are
+ * meant for reporting rather than for coordinating between threads; use
+ * SortedCopyOnWriteArrayList when readers need positional access to a consistent
+ * snapshot.
+ *
+ * Iterators and spliterators are weakly consistent: they never throw
+ * ConcurrentModificationException, return each element at most once in sorted
+ * order, and may or may not reflect writes made after they were created.
+ *
+ * Elements are kept in their natural order unless the list is constructed with a
+ * Comparator. An element that compares equal to one already in the list is not
+ * added.
+ *
+ * @author Noah Benveniste
+ *
+ * @param <E> the type of element in the list
+ */
+public class SortedConcurrentSkipList<E extends Comparable<E>> implements SortedList<E> {
+
+	/** The elements of the list */
+	private final ConcurrentSkipListSet<E> set;
+	/** The Comparator used to order the list, or null if the list uses natural ordering */
+	private final Comparator<? super E> comparator;
+
+	/**
+	 * Constructs an empty list that uses the natural ordering of its elements.
+	 */
+	public SortedConcurrentSkipList() {
+		this((Comparator<? super E>) null);
+	}
+
+	/**
+	 * Constructs an empty list whose elements are ordered by the given Comparator.
+	 *
+	 * @param comparator the Comparator used to order the list, or null to use the
+	 * elements' natural ordering
+	 */
+	public SortedConcurrentSkipList(Comparator<? super E> comparator) {
+		this.comparator = comparator;
+		this.set = new ConcurrentSkipListSet<E>(comparator);
+	}
+
+	/**
+	 * Constructs a list containing the elements of the given collection, ignoring
+	 * any repeated elements.
+	 *
+	 * @param c the collection whose elements are to be placed in the list
+	 * @throws NullPointerException if the collection or any of its elements is null
+	 */
+	public SortedConcurrentSkipList(Collection<? extends E> c) {
+		this((Comparator<? super E>) null);
+		addAll(c);
+	}
+
+	/**
+	 * Returns the number of the elements in the list, in O(n) time. The result is
+	 * only exact if no other thread writes to the list during the call.
+	 *
+	 * @return the number of elements in this list
+	 */
+	@Override
+	public int size() {
+		return set.size();
+	}
+
+	/**
+	 * Returns true if this list contains no elements.
+	 *
+	 * @return true if this list contains no elements
+	 */
+	@Override
+	public boolean isEmpty() {
+		return set.isEmpty();
+	}
+
+	/**
+	 * Returns true if this list contains the specified element, in O(log n) time.
+	 *
+	 * @param e element whose presence in this list is to be tested
+	 * @return true if this list contains the specified element
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public boolean contains(E e) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		return set.contains(e);
+	}
+
+	/**
+	 * Returns the Comparator used to order this list, or null if the list uses the
+	 * natural ordering of its elements.
+	 *
+	 * @return the Comparator used to order this list, or null
+	 */
+	@Override
+	public Comparator<? super E> comparator() {
+		return comparator;
+	}
+
+	/**
+	 * Returns a weakly consistent iterator over the elements in this list in sorted
+	 * order. The iterator supports remove().
+	 *
+	 * @return an iterator over the elements in this list in sorted order
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return set.iterator();
+	}
+
+	/**
+	 * Creates a weakly consistent Spliterator over the elements in this list that
+	 * reports CONCURRENT, ORDERED, SORTED, DISTINCT and NONNULL.
+	 *
+	 * @return a Spliterator over the elements in this list
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return set.spliterator();
+	}
+
+	/**
+	 * Adds the specified element to list in sorted order, in O(log n) expected time
+	 * without locking. Null elements are not allowed, and an element that compares
+	 * equal to one already in the list is rejected.
+	 *
+	 * @param e element to be added to this list
+	 * @return true (as specified by {@link Collection#add})
+	 * @throws NullPointerException if the element is null
+	 * @throws IllegalArgumentException if an equal element is already in the list
+	 */
+	@Override
+	public boolean add(E e) {
+		if (e == null) {
+			throw new NullPointerException("Cannot add null elements");
+		}
+		if (!set.add(e)) {
+			throw new IllegalArgumentException("Cannot add duplicate elements");
+		}
+		return true;
+	}
+
+	/**
+	 * Adds all of the elements in the specified collection to this list, ignoring any
+	 * elements that are already in the list or repeated in the collection. Each
+	 * element is added separately, so other threads may see some of the elements
+	 * before the call returns.
+	 *
+	 * @param c collection containing elements to be added to this list
+	 * @return true if this list changed as a result of the call
+	 * @throws NullPointerException if the specified collection or any of its
+	 *             elements is null
+	 */
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		//Sorting first means every element is checked for null before any is added
+		E[] batch = SortedArrayList.sortedBatch(c, comparator);
+		boolean changed = false;
+		for (int i = 0; i < batch.length; i++) {
+			changed |= set.add(batch[i]);
+		}
+		return changed;
+	}
+
+	/**
+	 * Removes the specified element from this list if it is present, in O(log n)
+	 * expected time without locking.
+	 *
+	 * @param e the element to remove
+	 * @return true if the element was in the list
+	 * @throws NullPointerException if the specified element is null
+	 */
+	public boolean removeElement(E e) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		return set.remove(e);
+	}
+
+	/**
+	 * Removes all of the elements of this list that satisfy the given predicate, in
+	 * one weakly consistent pass. Each element is removed separately, so other
+	 * threads may see some of the removals before the call returns.
+	 *
+	 * @param filter a predicate which returns true for elements to be removed
+	 * @return true if any elements were removed
+	 * @throws NullPointerException if the filter is null
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		if (filter == null) {
+			throw new NullPointerException("Filter cannot be null");
+		}
+		return set.removeIf(filter);
+	}
+
+	/**
+	 * Removes all of the elements of this list that are also contained in the
+	 * specified collection, in O(k log n) expected time for k elements. Each element
+	 * is removed separately, so other threads may see some of the removals before the
+	 * call returns.
+	 *
+	 * @param c collection containing elements to be removed from this list
+	 * @return true if this list changed as a result of the call
+	 * @throws NullPointerException if the specified collection or any of its
+	 *             elements is null
+	 */
+	@Override
+	public boolean removeAll(Collection<? extends E> c) {
+		if (c == null) {
+			throw new NullPointerException("Collection cannot be null");
+		}
+		for (E e : c) {
+			if (e == null) {
+				throw new NullPointerException("List cannot have null elements");
+			}
+		}
+		boolean removed = false;
+		for (E e : c) {
+			removed |= set.remove(e);
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns the element at the specified position in this list, in O(n) time. The
+	 * position is only meaningful if no other thread writes to the list during the
+	 * call.
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified position in this list
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	public E get(int index) {
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+		int i = 0;
+		for (E e : set) {
+			if (i++ == index) {
+				return e;
+			}
+		}
+		throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+	}
+
+	/**
+	 * Removes the element at the specified position in this list, in O(n) time. The
+	 * element is found by walking the list and then removed by value, so if another
+	 * thread removes it first, the next element at that position is removed instead.
+	 *
+	 * @param index the index of the element to be removed
+	 * @return the element that was removed
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	public E remove(int index) {
+		while (true) {
+			E e = get(index);
+			if (set.remove(e)) {
+				return e;
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the specified element in this list, or -1 if this list
+	 * does not contain the element, in O(n) time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the element in this list, or -1 if this list does not
+	 *         contain the element
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int indexOf(E e) {
+		return contains(e) ? lowerBound(e) : -1;
+	}
+
+	/**
+	 * Returns the number of elements in this list that are less than the specified
+	 * element, in O(n) time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is not less than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int lowerBound(E e) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		return set.headSet(e, false).size();
+	}
+
+	/**
+	 * Returns the number of elements in this list that are less than or equal to the
+	 * specified element, in O(n) time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is greater than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int upperBound(E e) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		return set.headSet(e, true).size();
+	}
+
+	/**
+	 * Returns the greatest element in this list less than or equal to the specified
+	 * element, or null if there is no such element, in O(log n) expected time.
+	 *
+	 * @param e the element to search for
+	 * @return the greatest element less than or equal to e, or null
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public E floor(E e) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		return set.floor(e);
+	}
+
+	/**
+	 * Returns the least element in this list greater than or equal to the specified
+	 * element, or null if there is no such element, in O(log n) expected time.
+	 *
+	 * @param e the element to search for
+	 * @return the least element greater than or equal to e, or null
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public E ceiling(E e) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		return set.ceiling(e);
+	}
+
+	/**
+	 * Returns the number of elements in this list that are greater than or equal to
+	 * from and strictly less than to, in O(log n + k) time for k elements in range.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return the number of elements in the range
+	 * @throws NullPointerException if either endpoint is null
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	@Override
+	public int countBetween(E from, E to) {
+		return subSet(from, to).size();
+	}
+
+	/**
+	 * Returns an immutable copy of the elements in this list that are greater than or
+	 * equal to from and strictly less than to, in O(log n + k) time for k elements
+	 * in range. Unlike the views of the other SortedList implementations, the copy
+	 * does not reflect later changes to the list.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return the elements in the range, in sorted order
+	 * @throws NullPointerException if either endpoint is null
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	@Override
+	public List<E> rangeView(E from, E to) {
+		return Collections.unmodifiableList(new ArrayList<E>(subSet(from, to)));
+	}
+
+	/**
+	 * Returns a String representation of the list, in the form [a, b, c]
+	 *
+	 * @return a String representation of the list
+	 */
+	@Override
+	public String toString() {
+		return set.toString();
+	}
+
+	/**
+	 * Returns a view of the elements in the range [from, to).
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return a view of the range
+	 * @throws NullPointerException if either endpoint is null
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	private NavigableSet<E> subSet(E from, E to) {
+		if (from == null || to == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		if ((comparator == null ? from.compareTo(to) : comparator.compare(from, to)) > 0) {
+			throw new IllegalArgumentException("Range start cannot be greater than range end");
+		}
+		return set.subSet(from, true, to, false);
+	}
+
+}
@@ -0,0 +1,691 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe SortedList in which every write publishes a new sorted array.
+ * Reads never lock: each read operation works on the array that was current when
+ * it started, so it always sees a consistent snapshot of the list even while
+ * another thread is writing. Writes are serialized on a lock, copy the current
+ * array once, and publish the copy with a single volatile write.
+ *
+ * Since each write copies the whole array, a group of changes should be applied
+ * through update(Consumer), which copies the array once for the whole group, or
+ * addAll(Collection), which merges a sorted batch in one pass. Iterators,
+ * spliterators and range views are over the snapshot they were created from, so
+ * they never throw ConcurrentModificationException and do not support removal.
+ *
+ * Elements are kept in their natural order unless the list is constructed with a
+ * Comparator. An element that compares equal to one already in the list is not
+ * added.
+ *
+ * @author Noah Benveniste
+ *
+ * @param <E> the type of element in the list
+ */
+public class SortedCopyOnWriteArrayList<E extends Comparable<E>> implements SortedList<E> {
+
+	/** Lock held by writers */
+	private final Object lock = new Object();
+	/** The current elements in sorted order, with no spare slots. Only replaced, never modified */
+	private volatile E[] array;
+	/** The Comparator used to order the list, or null if the list uses natural ordering */
+	private final Comparator<? super E> comparator;
+
+	/**
+	 * Constructs an empty list that uses the natural ordering of its elements.
+	 */
+	public SortedCopyOnWriteArrayList() {
+		this((Comparator<? super E>) null);
+	}
+
+	/**
+	 * Constructs an empty list whose elements are ordered by the given Comparator.
+	 *
+	 * @param comparator the Comparator used to order the list, or null to use the
+	 * elements' natural ordering
+	 */
+	@SuppressWarnings("unchecked")
+	public SortedCopyOnWriteArrayList(Comparator<? super E> comparator) {
+		this.comparator = comparator;
+		this.array = (E[]) new Comparable<?>[0];
+	}
+
+	/**
+	 * Constructs a list containing the elements of the given collection, ignoring
+	 * any repeated elements.
+	 *
+	 * @param c the collection whose elements are to be placed in the list
+	 * @throws NullPointerException if the collection or any of its elements is null
+	 */
+	public SortedCopyOnWriteArrayList(Collection<? extends E> c) {
+		this.comparator = null;
+		this.array = SortedArrayList.sortedBatch(c, null);
+	}
+
+	/**
+	 * Returns the number of the elements in the list.
+	 *
+	 * @return the number of elements in this list
+	 */
+	@Override
+	public int size() {
+		return array.length;
+	}
+
+	/**
+	 * Returns true if this list contains no elements.
+	 *
+	 * @return true if this list contains no elements
+	 */
+	@Override
+	public boolean isEmpty() {
+		return array.length == 0;
+	}
+
+	/**
+	 * Returns true if this list contains the specified element.
+	 *
+	 * @param e element whose presence in this list is to be tested
+	 * @return true if this list contains the specified element
+	 */
+	@Override
+	public boolean contains(E e) {
+		return binarySearch(array, e) >= 0;
+	}
+
+	/**
+	 * Returns the Comparator used to order this list, or null if the list uses the
+	 * natural ordering of its elements.
+	 *
+	 * @return the Comparator used to order this list, or null
+	 */
+	@Override
+	public Comparator<? super E> comparator() {
+		return comparator;
+	}
+
+	/**
+	 * Returns an immutable view of the list as it is now. Later writes to the list
+	 * are not reflected in the view, so a reader can make any number of calls on it
+	 * and see the same elements each time.
+	 *
+	 * @return an immutable snapshot of the elements in this list
+	 */
+	public List<E> snapshot() {
+		return Collections.unmodifiableList(Arrays.asList(array));
+	}
+
+	/**
+	 * Returns an iterator over a snapshot of the elements in this list. The iterator
+	 * does not reflect later writes and does not support remove().
+	 *
+	 * @return an iterator over the elements in this list in sorted order
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new SnapshotIterator(array);
+	}
+
+	/**
+	 * Creates a Spliterator over a snapshot of the elements in this list that reports
+	 * IMMUTABLE, SIZED, SUBSIZED, ORDERED, SORTED, DISTINCT and NONNULL.
+	 *
+	 * @return a Spliterator over the elements in this list
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new SnapshotSpliterator(Spliterators.spliterator(array, Spliterator.IMMUTABLE
+				| Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL));
+	}
+
+	/**
+	 * Adds the specified element to list in sorted order, copying the array once.
+	 * Null elements are not allowed, and an element that compares equal to one
+	 * already in the list is rejected.
+	 *
+	 * @param e element to be added to this list
+	 * @return true (as specified by {@link Collection#add})
+	 * @throws NullPointerException if the element is null
+	 * @throws IllegalArgumentException if an equal element is already in the list
+	 */
+	@Override
+	public boolean add(E e) {
+		if (e == null) {
+			throw new NullPointerException("Cannot add null elements");
+		}
+		synchronized (lock) {
+			E[] current = array;
+			int index = binarySearch(current, e);
+			if (index >= 0) {
+				throw new IllegalArgumentException("Cannot add duplicate elements");
+			}
+			index = -(index + 1);
+			E[] next = Arrays.copyOf(current, current.length + 1);
+			System.arraycopy(current, index, next, index + 1, current.length - index);
+			next[index] = e;
+			array = next;
+			return true;
+		}
+	}
+
+	/**
+	 * Adds all of the elements in the specified collection to this list in sorted
+	 * order, ignoring any elements that are already in the list or repeated in the
+	 * collection. The collection is sorted before taking the lock and then merged
+	 * with the current elements into a single new array.
+	 *
+	 * @param c collection containing elements to be added to this list
+	 * @return true if this list changed as a result of the call
+	 * @throws NullPointerException if the specified collection or any of its
+	 *             elements is null
+	 */
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		E[] batch = SortedArrayList.sortedBatch(c, comparator);
+		if (batch.length == 0) {
+			return false;
+		}
+		synchronized (lock) {
+			E[] current = array;
+			E[] merged = Arrays.copyOf(current, current.length + batch.length);
+			int i = 0;
+			int j = 0;
+			int k = 0;
+			while (i < current.length && j < batch.length) {
+				int cmp = compare(current[i], batch[j]);
+				if (cmp < 0) {
+					merged[k++] = current[i++];
+				} else if (cmp > 0) {
+					merged[k++] = batch[j++];
+				} else {
+					//The element is already in the list, so only keep the copy in the list
+					merged[k++] = current[i++];
+					j++;
+				}
+			}
+			System.arraycopy(current, i, merged, k, current.length - i);
+			k += current.length - i;
+			System.arraycopy(batch, j, merged, k, batch.length - j);
+			k += batch.length - j;
+			if (k == current.length) {
+				return false;
+			}
+			array = (k == merged.length) ? merged : Arrays.copyOf(merged, k);
+			return true;
+		}
+	}
+
+	/**
+	 * Applies a group of changes to the list as a single write. The changes are made
+	 * to a private SortedArrayList copy of the current elements, which is published
+	 * when the batch returns, so the array is copied once for the whole group rather
+	 * than once per change. Readers see either none of the changes or all of them. If
+	 * the batch throws an exception, none of its changes are published.
+	 *
+	 * The list passed to the batch must not be used after the batch returns, and the
+	 * batch must not write to this list directly.
+	 *
+	 * @param batch the changes to make, applied to a copy of the list
+	 * @throws NullPointerException if the batch is null
+	 */
+	public void update(Consumer<? super SortedList<E>> batch) {
+		if (batch == null) {
+			throw new NullPointerException("Batch cannot be null");
+		}
+		publishIf(working -> {
+			batch.accept(working);
+			return true;
+		});
+	}
+
+	/**
+	 * Removes all of the elements of this list that satisfy the given predicate as a
+	 * single write, copying the array once.
+	 *
+	 * @param filter a predicate which returns true for elements to be removed
+	 * @return true if any elements were removed
+	 * @throws NullPointerException if the filter is null
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		if (filter == null) {
+			throw new NullPointerException("Filter cannot be null");
+		}
+		return publishIf(working -> working.removeIf(filter));
+	}
+
+	/**
+	 * Removes all of the elements of this list that are also contained in the
+	 * specified collection as a single write, copying the array once.
+	 *
+	 * @param c collection containing elements to be removed from this list
+	 * @return true if this list changed as a result of the call
+	 * @throws NullPointerException if the specified collection or any of its
+	 *             elements is null
+	 */
+	@Override
+	public boolean removeAll(Collection<? extends E> c) {
+		return publishIf(working -> working.removeAll(c));
+	}
+
+	/**
+	 * Removes all of the elements whose index is between fromIndex, inclusive, and
+	 * toIndex, exclusive, as a single write, copying the array once.
+	 *
+	 * @param fromIndex index of the first element to be removed
+	 * @param toIndex index after the last element to be removed
+	 * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size() or
+	 *             fromIndex > toIndex
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		publishIf(working -> {
+			working.removeRange(fromIndex, toIndex);
+			return fromIndex < toIndex;
+		});
+	}
+
+	/**
+	 * Applies a change to a private SortedArrayList copy of the current elements while
+	 * holding the write lock, and publishes the copy if the change modified it.
+	 *
+	 * @param change the change to make, which returns true if it modified the copy
+	 * @return true if the copy was published
+	 */
+	private boolean publishIf(Predicate<SortedArrayList<E>> change) {
+		synchronized (lock) {
+			SortedArrayList<E> working = new SortedArrayList<E>(array.clone(), comparator);
+			if (!change.test(working)) {
+				return false;
+			}
+			array = working.toSortedArray();
+			return true;
+		}
+	}
+
+	/**
+	 * Returns the element at the specified position in this list.
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified position in this list
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	public E get(int index) {
+		E[] current = array;
+		if (index < 0 || index >= current.length) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+		return current[index];
+	}
+
+	/**
+	 * Removes the element at the specified position in this list, copying the array
+	 * once.
+	 *
+	 * @param index the index of the element to be removed
+	 * @return the element previously at the specified position
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	public E remove(int index) {
+		synchronized (lock) {
+			E[] current = array;
+			if (index < 0 || index >= current.length) {
+				throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+			}
+			E removed = current[index];
+			E[] next = Arrays.copyOf(current, current.length - 1);
+			System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+			array = next;
+			return removed;
+		}
+	}
+
+	/**
+	 * Returns the index of the specified element in this list, or -1 if this list
+	 * does not contain the element.
+	 *
+	 * @param e element to search for
+	 * @return the index of the element in this list, or -1 if this list does not
+	 *         contain the element
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int indexOf(E e) {
+		int index = binarySearch(array, e);
+		return (index >= 0) ? index : -1;
+	}
+
+	/**
+	 * Returns the index of the first element in this list that is greater than or
+	 * equal to the specified element, or size() if there is no such element.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is not less than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int lowerBound(E e) {
+		return bound(array, e, false);
+	}
+
+	/**
+	 * Returns the index of the first element in this list that is strictly greater
+	 * than the specified element, or size() if there is no such element.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is greater than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int upperBound(E e) {
+		return bound(array, e, true);
+	}
+
+	/**
+	 * Returns the element at the given percentile using the nearest-rank method. The
+	 * size and the read are taken from the same snapshot.
+	 *
+	 * @param p the percentile, from 0 to 100
+	 * @return the element at the percentile
+	 * @throws IllegalArgumentException if p is not between 0 and 100
+	 * @throws NoSuchElementException if the list is empty
+	 */
+	@Override
+	public E percentile(double p) {
+		E[] current = array;
+		return current[SortedLists.percentileIndex(p, current.length)];
+	}
+
+	/**
+	 * Returns the greatest element in this list less than or equal to the specified
+	 * element, or null if there is no such element. The search and the read are made
+	 * on the same snapshot.
+	 *
+	 * @param e the element to search for
+	 * @return the greatest element less than or equal to e, or null
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public E floor(E e) {
+		E[] current = array;
+		int index = bound(current, e, true);
+		return (index == 0) ? null : current[index - 1];
+	}
+
+	/**
+	 * Returns the least element in this list greater than or equal to the specified
+	 * element, or null if there is no such element. The search and the read are made
+	 * on the same snapshot.
+	 *
+	 * @param e the element to search for
+	 * @return the least element greater than or equal to e, or null
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public E ceiling(E e) {
+		E[] current = array;
+		int index = bound(current, e, false);
+		return (index == current.length) ? null : current[index];
+	}
+
+	/**
+	 * Returns the number of elements in this list that are greater than or equal to
+	 * from and strictly less than to, with both bounds found on the same snapshot.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return the number of elements in the range
+	 * @throws NullPointerException if either endpoint is null
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	@Override
+	public int countBetween(E from, E to) {
+		checkRange(from, to);
+		E[] current = array;
+		return bound(current, to, false) - bound(current, from, false);
+	}
+
+	/**
+	 * Returns an immutable view of the elements in this list that are greater than or
+	 * equal to from and strictly less than to, taken from a single snapshot. Unlike
+	 * the views of the other SortedList implementations, the view stays valid after
+	 * the list is modified, and does not reflect the change.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return a view of the elements in the range, in sorted order
+	 * @throws NullPointerException if either endpoint is null
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	@Override
+	public List<E> rangeView(E from, E to) {
+		checkRange(from, to);
+		E[] current = array;
+		int fromIndex = bound(current, from, false);
+		int toIndex = bound(current, to, false);
+		return Collections.unmodifiableList(Arrays.asList(current).subList(fromIndex, toIndex));
+	}
+
+	/**
+	 * Returns a String representation of the list, in the form [a, b, c]
+	 *
+	 * @return a String representation of the list
+	 */
+	@Override
+	public String toString() {
+		return Arrays.toString(array);
+	}
+
+	/**
+	 * Checks that a range's start is not greater than its end.
+	 *
+	 * @param from low endpoint of the range
+	 * @param to high endpoint of the range
+	 * @throws NullPointerException if either endpoint is null
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	private void checkRange(E from, E to) {
+		if (from == null || to == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		if (compare(from, to) > 0) {
+			throw new IllegalArgumentException("Range start cannot be greater than range end");
+		}
+	}
+
+	/**
+	 * Compares two elements using the list's Comparator, or their natural ordering
+	 * if the list has no Comparator.
+	 *
+	 * @param a the first element
+	 * @param b the second element
+	 * @return a negative integer, zero, or a positive integer as a is less than, equal
+	 * to, or greater than b
+	 */
+	private int compare(E a, E b) {
+		return (comparator == null) ? a.compareTo(b) : comparator.compare(a, b);
+	}
+
+	/**
+	 * Finds the first index in a snapshot whose element is not less than (or, if
+	 * strict is true, is greater than) the given element.
+	 *
+	 * @param a the snapshot to search
+	 * @param e the element to search for
+	 * @param strict true to skip past an element equal to e
+	 * @return the first index whose element is past e, or a.length if there is none
+	 */
+	private int bound(E[] a, E e, boolean strict) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		int min = 0;
+		int max = a.length;
+		while (min < max) {
+			int mid = (min + max) >>> 1;
+			int cmp = compare(a[mid], e);
+			if (cmp < 0 || (strict && cmp == 0)) {
+				min = mid + 1;
+			} else {
+				max = mid;
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * Searches a snapshot for the given element.
+	 *
+	 * @param a the snapshot to search
+	 * @param e the element to search for
+	 * @return the index of the element if it is in the snapshot, otherwise
+	 * (-(insertion point) - 1)
+	 */
+	private int binarySearch(E[] a, E e) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		int min = 0;
+		int max = a.length - 1;
+		while (min <= max) {
+			int mid = (min + max) >>> 1;
+			int cmp = compare(a[mid], e);
+			if (cmp < 0) {
+				min = mid + 1;
+			} else if (cmp > 0) {
+				max = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(min + 1);
+	}
+
+	/**
+	 * Iterator over a snapshot of the list, which does not support remove().
+	 *
+	 * @author Noah Benveniste
+	 */
+	private class SnapshotIterator implements Iterator<E> {
+		/** The snapshot being iterated over */
+		private final E[] snapshot;
+		/** Index of the next element to return */
+		private int cursor;
+
+		/**
+		 * Constructs an iterator over the given snapshot.
+		 *
+		 * @param snapshot the elements to iterate over
+		 */
+		SnapshotIterator(E[] snapshot) {
+			this.snapshot = snapshot;
+		}
+
+		/**
+		 * Returns true if the iteration has more elements.
+		 *
+		 * @return true if the iteration has more elements
+		 */
+		@Override
+		public boolean hasNext() {
+			return cursor < snapshot.length;
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 *
+		 * @return the next element in the iteration
+		 * @throws NoSuchElementException if the iteration has no more elements
+		 */
+		@Override
+		public E next() {
+			if (cursor >= snapshot.length) {
+				throw new NoSuchElementException("No more elements in the list");
+			}
+			return snapshot[cursor++];
+		}
+
+		/**
+		 * Not supported, since the iterator is over a snapshot.
+		 *
+		 * @throws UnsupportedOperationException always
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("Cannot remove from a snapshot");
+		}
+	}
+
+	/**
+	 * Spliterator over a snapshot of the list, which adds SORTED and the list's
+	 * Comparator to an array Spliterator.
+	 *
+	 * @author Noah Benveniste
+	 */
+	private class SnapshotSpliterator implements Spliterator<E> {
+		/** The array Spliterator over the snapshot */
+		private final Spliterator<E> delegate;
+
+		/**
+		 * Wraps the given array Spliterator.
+		 *
+		 * @param delegate the Spliterator over the snapshot
+		 */
+		SnapshotSpliterator(Spliterator<E> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			return delegate.tryAdvance(action);
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			delegate.forEachRemaining(action);
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			Spliterator<E> prefix = delegate.trySplit();
+			return (prefix == null) ? null : new SnapshotSpliterator(prefix);
+		}
+
+		@Override
+		public long estimateSize() {
+			return delegate.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return delegate.characteristics() | Spliterator.SORTED;
+		}
+
+		/**
+		 * Returns the list's Comparator, which is null if the elements are sorted by
+		 * their natural order.
+		 *
+		 * @return the list's Comparator, or null
+		 */
+		@Override
+		public Comparator<? super E> getComparator() {
+			return comparator;
+		}
+	}
+
+}
@@ -0,0 +1,365 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A sorted list of double values stored in a double[], for numeric data such as
+ * park distances that would otherwise be boxed into Doubles. Adding, searching and
+ * counting never allocate, except when the array grows.
+ *
+ * Values are ordered as by Double.compare, so -0.0 comes before 0.0. NaN has no
+ * place in a sorted numeric list and is rejected. As with SortedIntList, the list
+ * may hold the same value more than once, and a value is added after any equal
+ * values.
+ *
+ * @author Noah Benveniste
+ */
+public class SortedDoubleList {
+
+	/** Number of values the list can hold before its first resize */
+	private static final int DEFAULT_CAPACITY = 10;
+	/** Largest array the list will try to allocate */
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/** The values, in ascending order, followed by unused slots */
+	private double[] values;
+	/** Number of values in the list */
+	private int size;
+
+	/**
+	 * Constructs an empty list.
+	 */
+	public SortedDoubleList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty list with the given initial capacity.
+	 *
+	 * @param capacity the initial capacity of the list
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public SortedDoubleList(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity cannot be negative");
+		}
+		this.values = new double[capacity];
+	}
+
+	/**
+	 * Constructs a list containing the given values, which are copied and sorted once.
+	 *
+	 * @param values the values to place in the list
+	 * @throws NullPointerException if the array is null
+	 * @throws IllegalArgumentException if any value is NaN
+	 */
+	public SortedDoubleList(double[] values) {
+		if (values == null) {
+			throw new NullPointerException("Values cannot be null");
+		}
+		checkValues(values);
+		this.values = values.clone();
+		this.size = values.length;
+		Arrays.sort(this.values);
+	}
+
+	/**
+	 * Returns the number of values in the list.
+	 *
+	 * @return the number of values
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the list has no values.
+	 *
+	 * @return true if the list has no values
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of values the list can hold before its array has to grow.
+	 *
+	 * @return the capacity of the list
+	 */
+	public int capacity() {
+		return values.length;
+	}
+
+	/**
+	 * Grows the array, if necessary, so that it can hold at least minCapacity values.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > values.length) {
+			int newCapacity = (int) Math.min(MAX_CAPACITY, values.length + (values.length >> 1) + 1L);
+			values = Arrays.copyOf(values, Math.max(newCapacity, minCapacity));
+		}
+	}
+
+	/**
+	 * Shrinks the array to hold exactly size() values.
+	 */
+	public void trimToSize() {
+		if (values.length > size) {
+			values = Arrays.copyOf(values, size);
+		}
+	}
+
+	/**
+	 * Adds the value to the list in sorted order, after any equal values.
+	 *
+	 * @param value the value to add
+	 * @throws IllegalArgumentException if the value is NaN
+	 */
+	public void add(double value) {
+		if (Double.isNaN(value)) {
+			throw new IllegalArgumentException("Value cannot be NaN");
+		}
+		int index = upperBound(value);
+		if (size == values.length) {
+			ensureCapacity(size + 1);
+		}
+		System.arraycopy(values, index, values, index + 1, size - index);
+		values[index] = value;
+		size++;
+	}
+
+	/**
+	 * Adds all of the given values to the list. The values are sorted once and merged
+	 * into the list from the back, so each value already in the list moves at most
+	 * once.
+	 *
+	 * @param batch the values to add
+	 * @throws NullPointerException if the array is null
+	 * @throws IllegalArgumentException if any value is NaN, in which case the list is
+	 *             unchanged
+	 */
+	public void addAll(double[] batch) {
+		if (batch == null) {
+			throw new NullPointerException("Values cannot be null");
+		}
+		checkValues(batch);
+		double[] sorted = batch.clone();
+		Arrays.sort(sorted);
+		ensureCapacity(size + sorted.length);
+		int i = size - 1;
+		int j = sorted.length - 1;
+		int k = size + sorted.length - 1;
+		while (j >= 0) {
+			if (i >= 0 && Double.compare(values[i], sorted[j]) > 0) {
+				values[k--] = values[i--];
+			} else {
+				values[k--] = sorted[j--];
+			}
+		}
+		size += sorted.length;
+	}
+
+	/**
+	 * Returns the value at the specified position in the list.
+	 *
+	 * @param index index of the value to return
+	 * @return the value at the specified position
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	public double get(int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	/**
+	 * Removes the value at the specified position in the list, and shifts any
+	 * subsequent values to the left.
+	 *
+	 * @param index the index of the value to be removed
+	 * @return the value that was removed
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	public double remove(int index) {
+		checkIndex(index);
+		double removed = values[index];
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+		return removed;
+	}
+
+	/**
+	 * Removes one occurrence of the value, if it is in the list.
+	 *
+	 * @param value the value to remove
+	 * @return true if the value was removed
+	 */
+	public boolean removeValue(double value) {
+		int index = indexOf(value);
+		if (index < 0) {
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	/**
+	 * Removes every value from the list, keeping its array.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Returns true if the list contains the value.
+	 *
+	 * @param value the value to search for
+	 * @return true if the value is in the list
+	 */
+	public boolean contains(double value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the value, or -1 if it is not in
+	 * the list.
+	 *
+	 * @param value the value to search for
+	 * @return the index of the first occurrence, or -1
+	 */
+	public int indexOf(double value) {
+		int index = lowerBound(value);
+		return (index < size && Double.compare(values[index], value) == 0) ? index : -1;
+	}
+
+	/**
+	 * Returns the index of the first value that is greater than or equal to the given
+	 * value, or size() if there is no such value. This is also the number of values
+	 * less than the given value.
+	 *
+	 * @param value the value to search for
+	 * @return the index of the first value that is not less than the given value
+	 */
+	public int lowerBound(double value) {
+		int min = 0;
+		int max = size;
+		while (min < max) {
+			int mid = (min + max) >>> 1;
+			if (Double.compare(values[mid], value) < 0) {
+				min = mid + 1;
+			} else {
+				max = mid;
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the index of the first value that is greater than the given value, or
+	 * size() if there is no such value. This is also the number of values less than
+	 * or equal to the given value.
+	 *
+	 * @param value the value to search for
+	 * @return the index of the first value that is greater than the given value
+	 */
+	public int upperBound(double value) {
+		int min = 0;
+		int max = size;
+		while (min < max) {
+			int mid = (min + max) >>> 1;
+			if (Double.compare(values[mid], value) <= 0) {
+				min = mid + 1;
+			} else {
+				max = mid;
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the number of values greater than or equal to from and strictly less
+	 * than to.
+	 *
+	 * @param from low endpoint (inclusive) of the range
+	 * @param to high endpoint (exclusive) of the range
+	 * @return the number of values in the range
+	 * @throws IllegalArgumentException if from is greater than to
+	 */
+	public int countBetween(double from, double to) {
+		if (Double.compare(from, to) > 0) {
+			throw new IllegalArgumentException("Range start cannot be greater than range end");
+		}
+		return lowerBound(to) - lowerBound(from);
+	}
+
+	/**
+	 * Returns the value at the given percentile using the nearest-rank method: the
+	 * smallest value such that at least p percent of the values are less than or
+	 * equal to it. Percentile 0 is the smallest value and 100 the largest.
+	 *
+	 * @param p the percentile, from 0 to 100
+	 * @return the value at the percentile
+	 * @throws IllegalArgumentException if p is not between 0 and 100
+	 * @throws NoSuchElementException if the list is empty
+	 */
+	public double percentile(double p) {
+		return values[SortedLists.percentileIndex(p, size)];
+	}
+
+	/**
+	 * Returns a copy of the values in ascending order.
+	 *
+	 * @return the values in the list
+	 */
+	public double[] toArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	/**
+	 * Returns a String representation of the list, in the form [1.0, 2.5, 3.0]
+	 *
+	 * @return a String representation of the list
+	 */
+	@Override
+	public String toString() {
+		StringBuilder out = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				out.append(", ");
+			}
+			out.append(values[i]);
+		}
+		return out.append("]").toString();
+	}
+
+	/**
+	 * Checks that none of the values is NaN.
+	 *
+	 * @param batch the values to check
+	 * @throws IllegalArgumentException if any value is NaN
+	 */
+	private static void checkValues(double[] batch) {
+		for (double value : batch) {
+			if (Double.isNaN(value)) {
+				throw new IllegalArgumentException("Value cannot be NaN");
+			}
+		}
+	}
+
+	/**
+	 * Checks that an index refers to a value in the list.
+	 *
+	 * @param index the index to check
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+	}
+
+}
@@ -1,9 +1,554 @@
 package edu.ncsu.csc216.get_outdoors.util;
 
-public class SortedLinkedList<E> {
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
 
+/**
+ * A SortedList implemented as an indexable skip list. Each node is linked into a
+ * random number of levels, and each link also records how many elements it skips
+ * over (its span), so that searching, adding and removing by either element or
+ * index take O(log n) expected time. Unlike SortedArrayList, no elements are ever
+ * shifted, which makes this list a better fit for heavy insert/remove churn.
+ *
+ * Elements are kept in their natural order unless the list is constructed with a
+ * Comparator. An element that compares equal to one already in the list is not
+ * added.
+ *
+ * @author Noah Benveniste
+ *
+ * @param <E> the type of element in the list
+ */
+public class SortedLinkedList<E extends Comparable<E>> implements SortedList<E> {
+
+	/** The maximum number of levels a node can be linked into */
+	private static final int MAX_LEVEL = 32;
+	/** Probability that a node linked into a level is also linked into the level above */
+	private static final double LEVEL_PROBABILITY = 0.25;
+
+	/** Sentinel node before the first element, which is linked into every level */
+	private final Node<E> head;
+	/** Number of levels currently in use */
+	private int level;
+	/** Number of elements in the list */
+	private int size;
+	/** Number of times the list has been structurally modified, used to make iterators fail-fast */
+	private int modCount;
+	/** The Comparator used to order the list, or null if the list uses natural ordering */
+	private final Comparator<? super E> comparator;
+	/** Source of node levels */
+	private final Random random;
+
+	/**
+	 * Constructs an empty list that uses the natural ordering of its elements.
+	 */
 	public SortedLinkedList() {
-		// TODO Auto-generated constructor stub
+		this((Comparator<? super E>) null);
+	}
+
+	/**
+	 * Constructs an empty list whose elements are ordered by the given Comparator.
+	 *
+	 * @param comparator the Comparator used to order the list, or null to use the
+	 * elements' natural ordering
+	 */
+	public SortedLinkedList(Comparator<? super E> comparator) {
+		this.head = new Node<E>(null, MAX_LEVEL);
+		this.level = 1;
+		this.size = 0;
+		this.comparator = comparator;
+		this.random = new Random();
+	}
+
+	/**
+	 * Constructs a list containing the elements of the given collection, ignoring
+	 * any repeated elements.
+	 *
+	 * @param c the collection whose elements are to be placed in the list
+	 * @throws NullPointerException if the collection or any of its elements is null
+	 */
+	public SortedLinkedList(Collection<? extends E> c) {
+		this();
+		addAll(c);
+	}
+
+	/**
+	 * Returns the number of the elements in the list.
+	 *
+	 * @return the number of elements in this list
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this list contains no elements.
+	 *
+	 * @return true if this list contains no elements
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns true if this list contains the specified element, in O(log n) expected
+	 * time.
+	 *
+	 * @param e element whose presence in this list is to be tested
+	 * @return true if this list contains the specified element
+	 */
+	@Override
+	public boolean contains(E e) {
+		return indexOf(e) >= 0;
+	}
+
+	/**
+	 * Returns the Comparator used to order this list, or null if the list uses the
+	 * natural ordering of its elements.
+	 *
+	 * @return the Comparator used to order this list, or null
+	 */
+	@Override
+	public Comparator<? super E> comparator() {
+		return comparator;
+	}
+
+	/**
+	 * Returns a fail-fast iterator over the elements in this list in sorted order.
+	 * The iterator walks the bottom level of the skip list, so a full iteration takes
+	 * O(n) time.
+	 *
+	 * @return an iterator over the elements in this list in sorted order
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new SkipListIterator();
+	}
+
+	/**
+	 * Adds the specified element to list in sorted order, in O(log n) expected time.
+	 * Null elements are not allowed, and an element that compares equal to one
+	 * already in the list is rejected.
+	 *
+	 * @param e element to be added to this list
+	 * @return true (as specified by {@link Collection#add})
+	 * @throws NullPointerException if the element is null
+	 * @throws IllegalArgumentException if an equal element is already in the list
+	 */
+	@Override
+	public boolean add(E e) {
+		if (e == null) {
+			throw new NullPointerException("Cannot add null elements");
+		}
+		if (!addIfAbsent(e)) {
+			throw new IllegalArgumentException("Cannot add duplicate elements");
+		}
+		return true;
+	}
+
+	/**
+	 * Adds a non-null element to the list in sorted order, unless an equal element is
+	 * already in it.
+	 *
+	 * @param e the element to add
+	 * @return true if the element was added, or false if it is already in the list
+	 */
+	private boolean addIfAbsent(E e) {
+		@SuppressWarnings("unchecked")
+		Node<E>[] update = (Node<E>[]) new Node<?>[MAX_LEVEL];
+		int[] rank = new int[MAX_LEVEL];
+
+		//Find the last node before e on each level, and its position in the list
+		Node<E> x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+			while (x.next[i] != null && compare(x.next[i].value, e) < 0) {
+				rank[i] += x.span[i];
+				x = x.next[i];
+			}
+			update[i] = x;
+		}
+
+		//Check for repeat elements
+		if (x.next[0] != null && compare(x.next[0].value, e) == 0) {
+			return false;
+		}
+
+		int nodeLevel = randomLevel();
+		if (nodeLevel > level) {
+			//New levels start out as a single link from the head to the end of the list
+			for (int i = level; i < nodeLevel; i++) {
+				rank[i] = 0;
+				update[i] = head;
+				head.span[i] = size;
+			}
+			level = nodeLevel;
+		}
+
+		//Link the new node in after the update nodes, splitting their spans
+		Node<E> node = new Node<E>(e, nodeLevel);
+		for (int i = 0; i < nodeLevel; i++) {
+			node.next[i] = update[i].next[i];
+			update[i].next[i] = node;
+			node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+			update[i].span[i] = (rank[0] - rank[i]) + 1;
+		}
+		//Links above the new node now skip over one more element
+		for (int i = nodeLevel; i < level; i++) {
+			update[i].span[i]++;
+		}
+
+		size++;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Adds all of the elements in the specified collection to this list in sorted
+	 * order, ignoring any elements that are already in the list or repeated in the
+	 * collection. The collection is checked for null elements before any are added.
+	 *
+	 * @param c collection containing elements to be added to this list
+	 * @return true if this list changed as a result of the call
+	 * @throws NullPointerException if the specified collection or any of its
+	 *             elements is null
+	 */
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		if (c == null) {
+			throw new NullPointerException("Cannot add a null collection");
+		}
+		Object[] batch = c.toArray();
+		for (int i = 0; i < batch.length; i++) {
+			if (batch[i] == null) {
+				throw new NullPointerException("Cannot add null elements");
+			}
+		}
+		//Adding in sorted order keeps each search short, since the search paths overlap
+		Arrays.sort(batch, 0, batch.length, toObjectComparator());
+		boolean changed = false;
+		for (int i = 0; i < batch.length; i++) {
+			@SuppressWarnings("unchecked")
+			E e = (E) batch[i];
+			changed |= addIfAbsent(e);
+		}
+		return changed;
+	}
+
+	/**
+	 * Returns the element at the specified position in this list, in O(log n)
+	 * expected time.
+	 *
+	 * @param index index of the element to return
+	 * @return the element at the specified position in this list
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+		//Positions are counted from 1 so that the head is at position 0
+		int target = index + 1;
+		int traversed = 0;
+		Node<E> x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			while (x.next[i] != null && traversed + x.span[i] <= target) {
+				traversed += x.span[i];
+				x = x.next[i];
+			}
+			if (traversed == target) {
+				return x.value;
+			}
+		}
+		//Unreachable as long as the spans are consistent with the size
+		throw new IllegalStateException("Skip list spans are inconsistent");
+	}
+
+	/**
+	 * Removes the element at the specified position in this list, in O(log n)
+	 * expected time. Any subsequent elements have their indices reduced by one, but
+	 * are not moved.
+	 *
+	 * @param index the index of the element to be removed
+	 * @return the element previously at the specified position
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+	 *             index >= size())
+	 */
+	@Override
+	public E remove(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+		}
+		@SuppressWarnings("unchecked")
+		Node<E>[] update = (Node<E>[]) new Node<?>[MAX_LEVEL];
+
+		//Find the last node before the index on each level
+		int target = index + 1;
+		int traversed = 0;
+		Node<E> x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			while (x.next[i] != null && traversed + x.span[i] < target) {
+				traversed += x.span[i];
+				x = x.next[i];
+			}
+			update[i] = x;
+		}
+		Node<E> node = x.next[0];
+
+		//Unlink the node, merging its spans into the links that pointed to it
+		for (int i = 0; i < level; i++) {
+			if (update[i].next[i] == node) {
+				update[i].span[i] += node.span[i] - 1;
+				update[i].next[i] = node.next[i];
+			} else {
+				update[i].span[i]--;
+			}
+		}
+		while (level > 1 && head.next[level - 1] == null) {
+			level--;
+		}
+
+		size--;
+		modCount++;
+		return node.value;
+	}
+
+	/**
+	 * Returns the index of the specified element in this list, or -1 if this list
+	 * does not contain the element, in O(log n) expected time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the element in this list, or -1 if this list does not
+	 *         contain the element
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int indexOf(E e) {
+		int index = lowerBound(e);
+		if (index < size && compare(get(index), e) == 0) {
+			return index;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the first element in this list that is greater than or
+	 * equal to the specified element, or size() if there is no such element, in
+	 * O(log n) expected time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is not less than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int lowerBound(E e) {
+		return rank(e, false);
+	}
+
+	/**
+	 * Returns the index of the first element in this list that is strictly greater
+	 * than the specified element, or size() if there is no such element, in O(log n)
+	 * expected time.
+	 *
+	 * @param e element to search for
+	 * @return the index of the first element that is greater than e
+	 * @throws NullPointerException if the specified element is null
+	 */
+	@Override
+	public int upperBound(E e) {
+		return rank(e, true);
+	}
+
+	/**
+	 * Counts the number of elements less than (or, if inclusive is true, less than or
+	 * equal to) the given element by summing the spans along the search path.
+	 *
+	 * @param e the element to search for
+	 * @param inclusive true to also count an element equal to e
+	 * @return the number of elements before e
+	 */
+	private int rank(E e, boolean inclusive) {
+		if (e == null) {
+			throw new NullPointerException("List cannot have null elements");
+		}
+		int rank = 0;
+		Node<E> x = head;
+		for (int i = level - 1; i >= 0; i--) {
+			while (x.next[i] != null) {
+				int cmp = compare(x.next[i].value, e);
+				if (cmp < 0 || (inclusive && cmp == 0)) {
+					rank += x.span[i];
+					x = x.next[i];
+				} else {
+					break;
+				}
+			}
+		}
+		return rank;
+	}
+
+	/**
+	 * Returns a String representation of the list, in the form [a, b, c]
+	 *
+	 * @return a String representation of the list
+	 */
+	@Override
+	public String toString() {
+		StringBuilder out = new StringBuilder("[");
+		for (Node<E> x = head.next[0]; x != null; x = x.next[0]) {
+			out.append(x.value);
+			if (x.next[0] != null) {
+				out.append(", ");
+			}
+		}
+		return out.append("]").toString();
+	}
+
+	/**
+	 * Compares two elements using the list's Comparator, or their natural ordering
+	 * if the list has no Comparator.
+	 *
+	 * @param a the first element
+	 * @param b the second element
+	 * @return a negative integer, zero, or a positive integer as a is less than, equal
+	 * to, or greater than b
+	 */
+	private int compare(E a, E b) {
+		return (comparator == null) ? a.compareTo(b) : comparator.compare(a, b);
+	}
+
+	/**
+	 * Returns a Comparator over Objects that orders them as this list would, for
+	 * sorting batches of elements.
+	 *
+	 * @return a Comparator for sorting elements as Objects
+	 */
+	@SuppressWarnings("unchecked")
+	private Comparator<Object> toObjectComparator() {
+		return (a, b) -> compare((E) a, (E) b);
+	}
+
+	/**
+	 * Picks the number of levels for a new node. Each node is linked into level 1,
+	 * and into each level above with probability LEVEL_PROBABILITY, so the expected
+	 * number of links per node is 1 / (1 - LEVEL_PROBABILITY).
+	 *
+	 * @return the number of levels to link the new node into
+	 */
+	private int randomLevel() {
+		int lvl = 1;
+		while (lvl < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+			lvl++;
+		}
+		return lvl;
+	}
+
+	/**
+	 * A node in the skip list. next[i] is the following node on level i, and span[i]
+	 * is the number of positions that link moves forward in the list.
+	 *
+	 * @author Noah Benveniste
+	 *
+	 * @param <E> the type of element in the node
+	 */
+	private static class Node<E> {
+		/** The element stored in this node */
+		private final E value;
+		/** The following node on each level */
+		private final Node<E>[] next;
+		/** The number of positions that each link skips over */
+		private final int[] span;
+
+		/**
+		 * Constructs a node linked into the given number of levels.
+		 *
+		 * @param value the element to store
+		 * @param levels the number of levels to link the node into
+		 */
+		@SuppressWarnings("unchecked")
+		Node(E value, int levels) {
+			this.value = value;
+			this.next = (Node<E>[]) new Node<?>[levels];
+			this.span = new int[levels];
+		}
+	}
+
+	/**
+	 * Fail-fast iterator over the bottom level of the skip list.
+	 *
+	 * @author Noah Benveniste
+	 */
+	private class SkipListIterator implements Iterator<E> {
+		/** The next node to return */
+		private Node<E> nextNode = head.next[0];
+		/** Index of the next node to return */
+		private int cursor;
+		/** Index of the last element returned, or -1 if remove() cannot be called */
+		private int lastReturned = -1;
+		/** The modCount that the list is expected to have */
+		private int expectedModCount = modCount;
+
+		/**
+		 * Returns true if the iteration has more elements.
+		 *
+		 * @return true if the iteration has more elements
+		 */
+		@Override
+		public boolean hasNext() {
+			return nextNode != null;
+		}
+
+		/**
+		 * Returns the next element in the iteration.
+		 *
+		 * @return the next element in the iteration
+		 * @throws NoSuchElementException if the iteration has no more elements
+		 * @throws ConcurrentModificationException if the list was modified outside of
+		 *             the iterator
+		 */
+		@Override
+		public E next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException("List was modified during iteration");
+			}
+			if (nextNode == null) {
+				throw new NoSuchElementException("No more elements in the list");
+			}
+			E value = nextNode.value;
+			nextNode = nextNode.next[0];
+			lastReturned = cursor++;
+			return value;
+		}
+
+		/**
+		 * Removes the last element returned by next() from the list.
+		 *
+		 * @throws IllegalStateException if next() has not been called since the last
+		 *             call to remove()
+		 * @throws ConcurrentModificationException if the list was modified outside of
+		 *             the iterator
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException("next() must be called before remove()");
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException("List was modified during iteration");
+			}
+			SortedLinkedList.this.remove(lastReturned);
+			cursor = lastReturned;
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
 	}
 
 }
@@ -1,8 +1,13 @@
 package edu.ncsu.csc216.get_outdoors.util;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
 /**
  * This interface is a subset of the java.util.List interface and requires that
  * elements be stored in sorted order based on Comparable. No duplicate items.
+ * The operations that only read the list are declared in SortedListView.
  * 
  * This interface is adapted from java.util.List.
  * 
@@ -57,34 +62,7 @@ package edu.ncsu.csc216.get_outdoors.util;
  * @since 1.2
  */
 
-public interface SortedList<E extends Comparable<E>> {
-
-    // Query Operations
-
-    /**
-     * Returns the number of elements in this list. If this list contains more than
-     * Integer.MAX_VALUE elements, returns Integer.MAX_VALUE.
-     *
-     * @return the number of elements in this list
-     */
-    int size();
-
-    /**
-     * Returns true if this list contains no elements.
-     *
-     * @return true if this list contains no elements
-     */
-    boolean isEmpty();
-
-    /**
-     * Returns true if this list contains the specified element. More formally,
-     * returns true if and only if this list contains at least one element a such
-     * that (o==null ? a==null : o.equals(a)).
-     *
-     * @param e element whose presence in this list is to be tested
-     * @return true if this list contains the specified element
-     */
-    boolean contains(E e);
+public interface SortedList<E extends Comparable<E>> extends SortedListView<E> {
 
     // Modification Operations
 
@@ -97,22 +75,31 @@ public interface SortedList<E extends Comparable<E>> {
      * may be added. List classes should clearly specify in their documentation any
      * restrictions on what elements may be added.
      *
+     * A SortedList holds no duplicate items, so an element that compares equal to
+     * one already in the list is rejected and the list is left unchanged.
+     *
      * @param e element to be appended to this list
      * @return true (as specified by {@link Collection#add})
+     * @throws NullPointerException if the element is null
+     * @throws IllegalArgumentException if an equal element is already in the list
      */
     boolean add(E e);
 
-    // Positional Access Operations
-
     /**
-     * Returns the element at the specified position in this list.
+     * Adds all of the elements in the specified collection to this list in sorted
+     * order. Elements of the collection that are already in this list, or that are
+     * repeated within the collection, are only added once. Implementations may add
+     * the whole collection in a single operation rather than adding the elements
+     * one at a time.
      *
-     * @param index index of the element to return
-     * @return the element at the specified position in this list
-     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
-     *             index >= size())
+     * @param c collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection or any of its
+     *             elements is null
      */
-    E get(int index);
+    boolean addAll(Collection<? extends E> c);
+
+    // Positional Modification Operations
 
     /**
      * Removes the element at the specified position in this list (optional
@@ -126,18 +113,81 @@ public interface SortedList<E extends Comparable<E>> {
      */
     E remove(int index);
 
-    // Search Operations
+    /**
+     * Removes all of the elements of this list that satisfy the given predicate. The
+     * default implementation removes each match through the list's iterator.
+     * Implementations backed by an array should override this to compact the array
+     * in a single pass.
+     *
+     * @param filter a predicate which returns true for elements to be removed
+     * @return true if any elements were removed
+     * @throws NullPointerException if the filter is null
+     */
+    default boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new NullPointerException("Filter cannot be null");
+        }
+        boolean removed = false;
+        Iterator<E> it = iterator();
+        while (it.hasNext()) {
+            if (filter.test(it.next())) {
+                it.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all of the elements of this list that are also contained in the
+     * specified collection. The default implementation searches for and removes each
+     * element of the collection in turn. Implementations backed by an array should
+     * override this to compact the array in a single pass.
+     *
+     * @param c collection containing elements to be removed from this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection or any of its
+     *             elements is null
+     */
+    default boolean removeAll(Collection<? extends E> c) {
+        if (c == null) {
+            throw new NullPointerException("Collection cannot be null");
+        }
+        //Check every element before removing any, so a null leaves the list unchanged
+        for (E e : c) {
+            if (e == null) {
+                throw new NullPointerException("List cannot have null elements");
+            }
+        }
+        boolean removed = false;
+        for (E e : c) {
+            int index = indexOf(e);
+            if (index >= 0) {
+                remove(index);
+                removed = true;
+            }
+        }
+        return removed;
+    }
 
     /**
-     * Returns the index of the first occurrence of the specified element in this
-     * list, or -1 if this list does not contain the element. More formally, returns
-     * the lowest index i such that (o==null ? get(i)==null : o.equals(get(i))), or
-     * -1 if there is no such index.
+     * Removes all of the elements whose index is between fromIndex, inclusive, and
+     * toIndex, exclusive. Shifts any subsequent elements to the left. The default
+     * implementation removes the elements one at a time. Implementations backed by an
+     * array should override this to move the tail of the array once.
      *
-     * @param e element to search for
-     * @return the index of the first occurrence of the specified element in this
-     *         list, or -1 if this list does not contain the element
+     * @param fromIndex index of the first element to be removed
+     * @param toIndex index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size() or
+     *             fromIndex > toIndex
      */
-    int indexOf(E e);
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Index is outside the acceptable range");
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
 
 }
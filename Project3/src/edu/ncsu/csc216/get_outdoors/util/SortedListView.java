@@ -0,0 +1,271 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The read-only operations of a list whose elements are stored in sorted order with
+ * no duplicate items: size, positional access, search, range and order statistic
+ * queries. SortedList adds the operations that modify the list in place. A list
+ * that never changes, such as a version of a PersistentSortedList, implements only
+ * this interface, so it has no add or remove methods to reject.
+ *
+ * @author Noah Benveniste
+ *
+ * @param <E> the type of element in the list
+ */
+public interface SortedListView<E extends Comparable<E>> extends Iterable<E> {
+
+    // Query Operations
+
+    /**
+     * Returns the number of elements in this list. If this list contains more than
+     * Integer.MAX_VALUE elements, returns Integer.MAX_VALUE.
+     *
+     * @return the number of elements in this list
+     */
+    int size();
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns true if this list contains the specified element. More formally,
+     * returns true if and only if this list contains at least one element a such
+     * that (o==null ? a==null : o.equals(a)).
+     *
+     * @param e element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    boolean contains(E e);
+
+    /**
+     * Returns an iterator over the elements in this list in sorted order. A list
+     * that can be modified should make the iterator fail-fast, throwing a
+     * ConcurrentModificationException if the list is structurally modified while
+     * the iteration is in progress other than through the iterator's own remove.
+     *
+     * @return an iterator over the elements in this list in sorted order
+     */
+    @Override
+    Iterator<E> iterator();
+
+    /**
+     * Returns the comparator used to order the elements in this list, or null if
+     * this list uses the natural ordering of its elements.
+     *
+     * @return the comparator used to order this list, or null
+     */
+    default Comparator<? super E> comparator() {
+        return null;
+    }
+
+    /**
+     * Creates a Spliterator over the elements in this list that reports SIZED,
+     * ORDERED, SORTED, DISTINCT and NONNULL, and whose getComparator() returns
+     * comparator(). The default implementation splits from the list's iterator, so
+     * implementations with positional access should override it to split evenly by
+     * index (and also report SUBSIZED).
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        return new SortedLists.SortedSpliterator<E>(Spliterators.spliterator(iterator(), size(), characteristics),
+                comparator());
+    }
+
+    /**
+     * Returns a sequential Stream with this list as its source.
+     *
+     * @return a sequential Stream over the elements in this list
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel Stream with this list as its source.
+     *
+     * @return a possibly parallel Stream over the elements in this list
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // Positional Access Operations
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+     *             index >= size())
+     */
+    E get(int index);
+
+    // Search Operations
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this
+     * list, or -1 if this list does not contain the element. More formally, returns
+     * the lowest index i such that (o==null ? get(i)==null : o.equals(get(i))), or
+     * -1 if there is no such index.
+     *
+     * @param e element to search for
+     * @return the index of the first occurrence of the specified element in this
+     *         list, or -1 if this list does not contain the element
+     */
+    int indexOf(E e);
+
+    // Range and Navigation Operations
+
+    /**
+     * Returns the index of the first element in this list that is greater than or
+     * equal to the specified element, or size() if there is no such element. This is
+     * the index that the element would be added at, and also the number of elements
+     * in this list that are less than the specified element.
+     *
+     * @param e element to search for
+     * @return the index of the first element that is not less than e
+     * @throws NullPointerException if the specified element is null
+     */
+    int lowerBound(E e);
+
+    /**
+     * Returns the index of the first element in this list that is strictly greater
+     * than the specified element, or size() if there is no such element. This is
+     * also the number of elements in this list that are less than or equal to the
+     * specified element.
+     *
+     * @param e element to search for
+     * @return the index of the first element that is greater than e
+     * @throws NullPointerException if the specified element is null
+     */
+    int upperBound(E e);
+
+    /**
+     * Returns the greatest element in this list less than or equal to the specified
+     * element, or null if there is no such element.
+     *
+     * @param e the value to match
+     * @return the greatest element less than or equal to e, or null if there is no
+     *         such element
+     * @throws NullPointerException if the specified element is null
+     */
+    default E floor(E e) {
+        int index = upperBound(e);
+        return (index == 0) ? null : get(index - 1);
+    }
+
+    /**
+     * Returns the least element in this list greater than or equal to the specified
+     * element, or null if there is no such element.
+     *
+     * @param e the value to match
+     * @return the least element greater than or equal to e, or null if there is no
+     *         such element
+     * @throws NullPointerException if the specified element is null
+     */
+    default E ceiling(E e) {
+        int index = lowerBound(e);
+        return (index == size()) ? null : get(index);
+    }
+
+    /**
+     * Returns the number of elements in this list that are greater than or equal to
+     * from and strictly less than to.
+     *
+     * @param from low endpoint (inclusive) of the range
+     * @param to high endpoint (exclusive) of the range
+     * @return the number of elements in the range
+     * @throws NullPointerException if either endpoint is null
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    default int countBetween(E from, E to) {
+        Comparator<? super E> c = (comparator() == null) ? Comparator.<E>naturalOrder() : comparator();
+        if (c.compare(from, to) > 0) {
+            throw new IllegalArgumentException("Range start cannot be greater than range end");
+        }
+        return lowerBound(to) - lowerBound(from);
+    }
+
+    // Order Statistics
+
+    /**
+     * Returns the rank of the specified element: the number of elements in this list
+     * that are strictly less than it. If the element is in this list, this is its
+     * index. The default implementation returns lowerBound(e), so it takes the same
+     * time as lowerBound: O(log n) for array and tree lists.
+     *
+     * @param e the element to rank
+     * @return the number of elements less than e
+     * @throws NullPointerException if the specified element is null
+     */
+    default int rank(E e) {
+        return lowerBound(e);
+    }
+
+    /**
+     * Returns the element of rank k: the (k + 1)th smallest element in this list. The
+     * default implementation returns get(k), so it takes the same time as get: O(1)
+     * for array lists and O(log n) for tree lists.
+     *
+     * @param k the rank of the element to return
+     * @return the element of rank k
+     * @throws IndexOutOfBoundsException if k is out of range (k < 0 || k >= size())
+     */
+    default E select(int k) {
+        return get(k);
+    }
+
+    /**
+     * Returns the element at the given percentile using the nearest-rank method: the
+     * smallest element such that at least p percent of the elements are less than or
+     * equal to it. Percentile 0 is the first element, 50 the lower median and 100 the
+     * last element.
+     *
+     * @param p the percentile, from 0 to 100
+     * @return the element at the percentile
+     * @throws IllegalArgumentException if p is not between 0 and 100
+     * @throws NoSuchElementException if the list is empty
+     */
+    default E percentile(double p) {
+        return select(SortedLists.percentileIndex(p, size()));
+    }
+
+    /**
+     * Returns a read-only view of the portion of this list whose elements are greater
+     * than or equal to from and strictly less than to. The view is backed by this
+     * list and does not copy any elements, so reading from it costs the same as
+     * reading from this list. If this list can be modified, the view is only valid
+     * until this list is next structurally modified (by an add or remove), after
+     * which its behavior is undefined.
+     *
+     * @param from low endpoint (inclusive) of the range
+     * @param to high endpoint (exclusive) of the range
+     * @return a view of the elements in the range, in sorted order
+     * @throws NullPointerException if either endpoint is null
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    default List<E> rangeView(E from, E to) {
+        Comparator<? super E> c = (comparator() == null) ? Comparator.<E>naturalOrder() : comparator();
+        if (c.compare(from, to) > 0) {
+            throw new IllegalArgumentException("Range start cannot be greater than range end");
+        }
+        return new RangeView<E>(this, lowerBound(from), lowerBound(to));
+    }
+
+}
@@ -0,0 +1,493 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Static utility methods that operate on several SortedLists at once.
+ *
+ * @author Noah Benveniste
+ */
+public final class SortedLists {
+
+	/**
+	 * Not instantiable.
+	 */
+	private SortedLists() {
+		// Static methods only
+	}
+
+	/**
+	 * Returns a lazy iterator over the elements of all the given lists, in natural
+	 * order. Elements that appear in more than one list are returned once per list.
+	 *
+	 * @param <E> the type of element in the lists
+	 * @param lists the lists to merge, each in natural order
+	 * @return an iterator over the merged elements
+	 * @throws NullPointerException if the collection or any of its lists is null
+	 * @see #mergedIterator(Collection, Comparator, boolean)
+	 */
+	public static <E extends Comparable<E>> Iterator<E> mergedIterator(Collection<? extends SortedList<E>> lists) {
+		return mergedIterator(lists, null, false);
+	}
+
+	/**
+	 * Returns a lazy iterator over the elements of all the given lists in sorted order,
+	 * which merges the lists' own iterators with a heap of size N for N lists. Taking
+	 * each element costs O(log N) comparisons, so iterating over all T elements takes
+	 * O(T log N) time, and no list is copied. Elements that compare equal are returned
+	 * in the order of the lists they come from, or only once if distinct is true.
+	 *
+	 * Each list must be sorted by the given Comparator. The iterator is backed by the
+	 * lists' iterators, so it fails in the same way they do if a list is modified
+	 * while it is in use. The iterator does not support remove().
+	 *
+	 * @param <E> the type of element in the lists
+	 * @param lists the lists to merge
+	 * @param comparator the Comparator the lists are sorted by, or null for natural
+	 * ordering
+	 * @param distinct true to return only the first of any elements that compare
+	 * equal
+	 * @return an iterator over the merged elements
+	 * @throws NullPointerException if the collection or any of its lists is null
+	 */
+	public static <E extends Comparable<E>> Iterator<E> mergedIterator(Collection<? extends SortedList<E>> lists,
+			Comparator<? super E> comparator, boolean distinct) {
+		return new MergingIterator<E>(checkLists(lists), comparator, distinct);
+	}
+
+	/**
+	 * Returns a lazy view of the elements of all the given lists in sorted order. Each
+	 * call to the view's iterator() or stream() starts a new merge of the lists as
+	 * they are at that time, as described in
+	 * {@link #mergedIterator(Collection, Comparator, boolean)}.
+	 *
+	 * @param <E> the type of element in the lists
+	 * @param lists the lists to merge
+	 * @param comparator the Comparator the lists are sorted by, or null for natural
+	 * ordering
+	 * @param distinct true to return only the first of any elements that compare
+	 * equal
+	 * @return a view of the merged elements
+	 * @throws NullPointerException if the collection or any of its lists is null
+	 */
+	public static <E extends Comparable<E>> MergedView<E> mergedView(Collection<? extends SortedList<E>> lists,
+			Comparator<? super E> comparator, boolean distinct) {
+		return new MergedView<E>(checkLists(lists), comparator, distinct);
+	}
+
+	/**
+	 * Returns the key at the given percentile of a group of items, using the
+	 * nearest-rank method: the smallest key such that at least p percent of the keys
+	 * are less than or equal to it. This is for keys the items are not sorted by, such
+	 * as the snow depth of parks kept in name order. The keys are extracted into an
+	 * array and the one of the right rank is found with a quickselect, which takes
+	 * O(n) expected time and does not sort the keys. For a SortedList ordered by the
+	 * key itself, SortedList.percentile(p) takes O(log n) time or better.
+	 *
+	 * @param <T> the type of item
+	 * @param <K> the type of key
+	 * @param items the items
+	 * @param key extracts the key of an item
+	 * @param p the percentile, from 0 to 100
+	 * @return the key at the percentile
+	 * @throws NullPointerException if the items, the key extractor or any key is null
+	 * @throws IllegalArgumentException if p is not between 0 and 100
+	 * @throws NoSuchElementException if there are no items
+	 */
+	public static <T, K extends Comparable<? super K>> K percentile(Iterable<? extends T> items,
+			Function<? super T, ? extends K> key, double p) {
+		if (items == null || key == null) {
+			throw new NullPointerException("Items and key cannot be null");
+		}
+		List<K> keys = new ArrayList<K>();
+		for (T item : items) {
+			K k = key.apply(item);
+			if (k == null) {
+				throw new NullPointerException("Keys cannot be null");
+			}
+			keys.add(k);
+		}
+		Object[] a = keys.toArray();
+		return select(a, percentileIndex(p, a.length));
+	}
+
+	/**
+	 * Returns the index of the element at the given percentile by the nearest-rank
+	 * method, for a sorted list of the given size. Every percentile method in this
+	 * package uses it, so they all agree on the rank.
+	 *
+	 * @param p the percentile, from 0 to 100
+	 * @param size the number of elements
+	 * @return the index of the element at the percentile
+	 * @throws IllegalArgumentException if p is not between 0 and 100
+	 * @throws NoSuchElementException if size is 0
+	 */
+	static int percentileIndex(double p, int size) {
+		if (!(p >= 0 && p <= 100)) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100");
+		}
+		if (size == 0) {
+			throw new NoSuchElementException("List is empty");
+		}
+		//Multiply before dividing, so that an integral percentile gives an exact rank
+		int rank = (int) Math.ceil(p * size / 100.0);
+		return Math.max(rank, 1) - 1;
+	}
+
+	/**
+	 * Rearranges the array so that the key of rank k is at index k, and returns it. Each
+	 * round partitions the remaining range three ways around the median of its first,
+	 * middle and last keys, so runs of equal keys are settled in a single round.
+	 *
+	 * @param <K> the type of key
+	 * @param a the keys
+	 * @param k the rank of the key to find
+	 * @return the key of rank k
+	 */
+	@SuppressWarnings("unchecked")
+	private static <K extends Comparable<? super K>> K select(Object[] a, int k) {
+		int lo = 0;
+		int hi = a.length - 1;
+		while (lo < hi) {
+			K pivot = medianOf((K) a[lo], (K) a[(lo + hi) >>> 1], (K) a[hi]);
+			int lt = lo;
+			int gt = hi;
+			int i = lo;
+			while (i <= gt) {
+				int cmp = ((K) a[i]).compareTo(pivot);
+				if (cmp < 0) {
+					swap(a, lt++, i++);
+				} else if (cmp > 0) {
+					swap(a, i, gt--);
+				} else {
+					i++;
+				}
+			}
+			//Keys in [lt, gt] equal the pivot and are in their final place
+			if (k < lt) {
+				hi = lt - 1;
+			} else if (k > gt) {
+				lo = gt + 1;
+			} else {
+				return pivot;
+			}
+		}
+		return (K) a[k];
+	}
+
+	/**
+	 * Returns the median of three keys.
+	 *
+	 * @param <K> the type of key
+	 * @param a the first key
+	 * @param b the second key
+	 * @param c the third key
+	 * @return the key that is neither the smallest nor the largest
+	 */
+	private static <K extends Comparable<? super K>> K medianOf(K a, K b, K c) {
+		if (a.compareTo(b) > 0) {
+			K temp = a;
+			a = b;
+			b = temp;
+		}
+		if (b.compareTo(c) <= 0) {
+			return b;
+		}
+		return (a.compareTo(c) > 0) ? a : c;
+	}
+
+	/**
+	 * Swaps two entries of an array.
+	 *
+	 * @param a the array
+	 * @param i the index of one entry
+	 * @param j the index of the other entry
+	 */
+	private static void swap(Object[] a, int i, int j) {
+		Object temp = a[i];
+		a[i] = a[j];
+		a[j] = temp;
+	}
+
+	/**
+	 * Copies the collection of lists, checking that none of them is null.
+	 *
+	 * @param <E> the type of element in the lists
+	 * @param lists the lists
+	 * @return a copy of the collection
+	 * @throws NullPointerException if the collection or any of its lists is null
+	 */
+	private static <E extends Comparable<E>> List<SortedList<E>> checkLists(Collection<? extends SortedList<E>> lists) {
+		if (lists == null) {
+			throw new NullPointerException("Lists cannot be null");
+		}
+		List<SortedList<E>> copy = new ArrayList<SortedList<E>>(lists);
+		for (SortedList<E> list : copy) {
+			if (list == null) {
+				throw new NullPointerException("Lists cannot be null");
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * A lazy, repeatable view of several SortedLists merged into one sorted sequence.
+	 *
+	 * @author Noah Benveniste
+	 *
+	 * @param <E> the type of element in the lists
+	 */
+	public static final class MergedView<E extends Comparable<E>> implements Iterable<E> {
+		/** The lists to merge */
+		private final List<SortedList<E>> lists;
+		/** The Comparator the lists are sorted by, or null for natural ordering */
+		private final Comparator<? super E> comparator;
+		/** Whether elements that compare equal are only returned once */
+		private final boolean distinct;
+
+		/**
+		 * Constructs a view of the given lists.
+		 *
+		 * @param lists the lists to merge
+		 * @param comparator the Comparator the lists are sorted by, or null
+		 * @param distinct whether equal elements are only returned once
+		 */
+		private MergedView(List<SortedList<E>> lists, Comparator<? super E> comparator, boolean distinct) {
+			this.lists = lists;
+			this.comparator = comparator;
+			this.distinct = distinct;
+		}
+
+		/**
+		 * Returns a new merging iterator over the lists.
+		 *
+		 * @return an iterator over the merged elements
+		 */
+		@Override
+		public Iterator<E> iterator() {
+			return new MergingIterator<E>(lists, comparator, distinct);
+		}
+
+		/**
+		 * Returns a sequential Stream over the merged elements.
+		 *
+		 * @return a Stream over the merged elements
+		 */
+		public Stream<E> stream() {
+			int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+			if (distinct) {
+				characteristics |= Spliterator.DISTINCT;
+			}
+			if (comparator == null) {
+				characteristics |= Spliterator.SORTED;
+			}
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), characteristics), false);
+		}
+	}
+
+	/**
+	 * Iterator that merges the iterators of several lists using a heap keyed on the
+	 * next element of each list.
+	 *
+	 * @author Noah Benveniste
+	 *
+	 * @param <E> the type of element in the lists
+	 */
+	private static final class MergingIterator<E extends Comparable<E>> implements Iterator<E> {
+		/** One cursor per list that still has elements, ordered by their next element */
+		private final PriorityQueue<Cursor<E>> heap;
+		/** The Comparator the lists are sorted by, or null for natural ordering */
+		private final Comparator<? super E> comparator;
+		/** Whether elements that compare equal are only returned once */
+		private final boolean distinct;
+		/** The last element returned, used to skip repeats when distinct */
+		private E last;
+
+		/**
+		 * Starts a merge of the given lists.
+		 *
+		 * @param lists the lists to merge
+		 * @param comparator the Comparator the lists are sorted by, or null
+		 * @param distinct whether equal elements are only returned once
+		 */
+		MergingIterator(List<SortedList<E>> lists, Comparator<? super E> comparator, boolean distinct) {
+			this.comparator = comparator;
+			this.distinct = distinct;
+			this.heap = new PriorityQueue<Cursor<E>>(Math.max(1, lists.size()), (a, b) -> {
+				int cmp = compare(a.head, b.head);
+				//Break ties by list so equal elements come out in list order
+				return (cmp != 0) ? cmp : Integer.compare(a.source, b.source);
+			});
+			for (int i = 0; i < lists.size(); i++) {
+				Iterator<E> it = lists.get(i).iterator();
+				if (it.hasNext()) {
+					heap.add(new Cursor<E>(it, i));
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (distinct && last != null) {
+				skipRepeats();
+			}
+			return !heap.isEmpty();
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more elements in the lists");
+			}
+			Cursor<E> cursor = heap.poll();
+			E next = cursor.head;
+			if (cursor.advance()) {
+				heap.add(cursor);
+			}
+			last = next;
+			return next;
+		}
+
+		/**
+		 * Drops the heads of any lists that are equal to the last element returned.
+		 */
+		private void skipRepeats() {
+			while (!heap.isEmpty() && compare(heap.peek().head, last) == 0) {
+				Cursor<E> cursor = heap.poll();
+				if (cursor.advance()) {
+					heap.add(cursor);
+				}
+			}
+		}
+
+		/**
+		 * Compares two elements using the Comparator, or their natural ordering if
+		 * there is no Comparator.
+		 *
+		 * @param a the first element
+		 * @param b the second element
+		 * @return a negative integer, zero, or a positive integer as a is less than,
+		 * equal to, or greater than b
+		 */
+		private int compare(E a, E b) {
+			return (comparator == null) ? a.compareTo(b) : comparator.compare(a, b);
+		}
+	}
+
+	/**
+	 * The position of a merge in one list.
+	 *
+	 * @param <E> the type of element in the list
+	 */
+	private static final class Cursor<E> {
+		/** The list's iterator, positioned after head */
+		private final Iterator<E> it;
+		/** The index of the list among those being merged */
+		private final int source;
+		/** The next element of the list */
+		private E head;
+
+		/**
+		 * Creates a cursor at the first element of a non-empty list.
+		 *
+		 * @param it the list's iterator
+		 * @param source the index of the list
+		 */
+		Cursor(Iterator<E> it, int source) {
+			this.it = it;
+			this.source = source;
+			this.head = it.next();
+		}
+
+		/**
+		 * Moves to the next element of the list.
+		 *
+		 * @return true if the list had another element
+		 */
+		boolean advance() {
+			if (!it.hasNext()) {
+				head = null;
+				return false;
+			}
+			head = it.next();
+			return true;
+		}
+	}
+
+	/**
+	 * Spliterator that adds SORTED and a list's Comparator to another Spliterator over
+	 * the list's elements, so that it reports the same characteristics as the
+	 * Spliterators of the array-backed lists.
+	 *
+	 * @author Noah Benveniste
+	 *
+	 * @param <E> the type of element
+	 */
+	static final class SortedSpliterator<E> implements Spliterator<E> {
+		/** The Spliterator over the elements */
+		private final Spliterator<E> delegate;
+		/** The list's Comparator, or null for natural ordering */
+		private final Comparator<? super E> comparator;
+
+		/**
+		 * Wraps the given Spliterator.
+		 *
+		 * @param delegate the Spliterator over the elements, in sorted order
+		 * @param comparator the list's Comparator, or null for natural ordering
+		 */
+		SortedSpliterator(Spliterator<E> delegate, Comparator<? super E> comparator) {
+			this.delegate = delegate;
+			this.comparator = comparator;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			return delegate.tryAdvance(action);
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			delegate.forEachRemaining(action);
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			Spliterator<E> prefix = delegate.trySplit();
+			return (prefix == null) ? null : new SortedSpliterator<E>(prefix, comparator);
+		}
+
+		@Override
+		public long estimateSize() {
+			return delegate.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return delegate.characteristics() | Spliterator.SORTED;
+		}
+
+		/**
+		 * Returns the list's Comparator, which is null if the elements are sorted by
+		 * their natural order.
+		 *
+		 * @return the list's Comparator, or null
+		 */
+		@Override
+		public Comparator<? super E> getComparator() {
+			return comparator;
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package edu.ncsu.csc216.get_outdoors.model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for ActivityIDs.
+ * @author Noah Benveniste
+ */
+public class ActivityIDsTest {
+
+	/**
+	 * Tests that format() builds the string of an issued number once, and parse()
+	 * reverses it
+	 */
+	@Test
+	public void testFormatParse() {
+		assertEquals("act-0", ActivityIDs.format(0));
+		ActivityIDs.issued(12345);
+		assertEquals("act-12345", ActivityIDs.format(12345));
+		assertSame(ActivityIDs.format(12345), ActivityIDs.format(12345));
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, ActivityIDs.parse(ActivityIDs.format(i)));
+		}
+		assertEquals(Integer.MAX_VALUE, ActivityIDs.parse("act-" + Integer.MAX_VALUE));
+		try {
+			ActivityIDs.format(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Activity ID number cannot be negative", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests that parse() rejects strings that format() would not make
+	 */
+	@Test
+	public void testParseInvalid() {
+		assertEquals(-1, ActivityIDs.parse(null));
+		assertEquals(-1, ActivityIDs.parse(""));
+		assertEquals(-1, ActivityIDs.parse("act-"));
+		assertEquals(-1, ActivityIDs.parse("act-01"));
+		assertEquals(-1, ActivityIDs.parse("act--1"));
+		assertEquals(-1, ActivityIDs.parse("act-+1"));
+		assertEquals(-1, ActivityIDs.parse("act-1a"));
+		assertEquals(-1, ActivityIDs.parse("ACT-1"));
+		assertEquals(-1, ActivityIDs.parse(" act-1"));
+		assertEquals(-1, ActivityIDs.parse("act-" + (Integer.MAX_VALUE + 1L)));
+		assertEquals(-1, ActivityIDs.parse("park-1"));
+	}
+
+	/**
+	 * Tests that numbers far beyond any issued ID are formatted without growing the
+	 * table, and that issuing a number only lets the table grow to the next power of two
+	 */
+	@Test
+	public void testLargeNumbers() {
+		int before = ActivityIDs.tableSize();
+		assertEquals("act-" + Integer.MAX_VALUE, ActivityIDs.format(Integer.MAX_VALUE));
+		assertEquals("act-1500000000", ActivityIDs.format(ActivityIDs.parse("act-1500000000")));
+		assertEquals("act-100000000", ActivityIDs.format(100000000));
+		assertNotSame(ActivityIDs.format(100000000), ActivityIDs.format(100000000));
+		assertEquals(before, ActivityIDs.tableSize());
+
+		ActivityIDs.issued(5000);
+		assertSame(ActivityIDs.format(5000), ActivityIDs.format(5000));
+		assertTrue(ActivityIDs.tableSize() <= Math.max(before, 8192));
+		ActivityIDs.issued(Integer.MAX_VALUE);
+		assertEquals("act-" + Integer.MAX_VALUE, ActivityIDs.format(Integer.MAX_VALUE));
+		assertTrue(ActivityIDs.tableSize() <= ActivityIDs.MAX_CACHED);
+	}
+
+}
@@ -2,6 +2,10 @@ package edu.ncsu.csc216.get_outdoors.model;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -178,4 +182,174 @@ public class ActivityListTest {
 			}
 		}
 	}
+	
+	/**
+	 * Tests that indexOfID() finds each activity at its sorted position as activities
+	 * are added out of name order, and that rejected duplicates do not use up an ID.
+	 */
+	@Test
+	public void testIndexOfID() {
+		// setUp() adds ACTIVITY_NAME as act-0.
+		for (int i = 1; i <= 50; i++) {
+			assertTrue(activityList.addActivity("Activity " + (char) ('z' - i % 26) + i, DESC, false, i));
+		}
+		assertFalse(activityList.addActivity(ACTIVITY_NAME, DESC, false, 0));
+		assertTrue(activityList.addActivity("AAA" + ACTIVITY_NAME, DESC, false, 0));
+		assertEquals(52, activityList.size());
+		for (int i = 0; i < activityList.size(); i++) {
+			Activity a = activityList.getActivityAt(i);
+			assertEquals(i, activityList.indexOfID(a.getActivityID()));
+			assertEquals(i, activityList.indexOfID(a.getIDNumber()));
+		}
+		assertEquals(0, activityList.indexOfID("act-51"));
+		assertEquals(0, activityList.indexOfID(51));
+		assertEquals(-1, activityList.indexOfID("act-52"));
+		assertEquals(-1, activityList.indexOfID(52));
+		assertEquals(-1, activityList.indexOfID(-1));
+		assertEquals(-1, activityList.indexOfID("ACT-0"));
+		assertEquals(-1, activityList.indexOfID("act-00"));
+		assertEquals(-1, activityList.indexOfID(null));
+	}
+	
+	/**
+	 * Tests that indexOfName() finds activities by their trimmed names, and that names
+	 * already in the list are rejected whatever the other fields are.
+	 */
+	@Test
+	public void testIndexOfName() {
+		assertEquals(0, activityList.indexOfName(ACTIVITY_NAME));
+		assertTrue(activityList.addActivity("  AAA  ", "Second " + DESC, false, 0));
+		assertEquals(0, activityList.indexOfName("AAA"));
+		assertEquals(1, activityList.indexOfName(ACTIVITY_NAME));
+		assertEquals(-1, activityList.indexOfName("  AAA  "));
+		assertEquals(-1, activityList.indexOfName(null));
+		assertFalse(activityList.addActivity("AAA ", "Third " + DESC, true, 9));
+		assertEquals(2, activityList.size());
+		assertEquals("Second " + DESC, activityList.getActivityAt(0).getDescription());
+		assertEquals(-1, activityList.indexOfID("act-2"));
+	}
+	
+	/**
+	 * Tests that listeners are told when an activity is added, with its index, and once
+	 * per edit to an activity in the list, with the fields that changed.
+	 */
+	@Test
+	public void testListenerEvents() {
+		List<String> events = new ArrayList<String>();
+		ModelListener<Activity> listener = new ModelListener<Activity>() {
+			@Override
+			public void entityAdded(Object source, Activity a, int index) {
+				assertSame(activityList, source);
+				events.add("added " + a.getName() + " at " + index);
+			}
+			
+			@Override
+			public void entityChanged(Object source, Activity a, int fieldMask) {
+				assertSame(activityList, source);
+				events.add("changed " + a.getName() + " " + fieldMask);
+			}
+		};
+		activityList.addListener(listener);
+		assertTrue(activityList.addActivity("AAA", DESC, false, 0));
+		assertFalse(activityList.addActivity("AAA", DESC, false, 0));
+		Activity a = activityList.getActivityAt(1);
+		a.edit(edit -> edit.setDescription("Edited").setNeedSnow(false).setSnowBoundary(0));
+		assertEquals("Edited", activityList.get2DArray()[1][2]);
+		activityList.getActivityAt(0).setSnowBoundary(3);
+		assertEquals(Arrays.asList("added AAA at 0", "changed " + ACTIVITY_NAME + " 7", "changed AAA 4"), events);
+		
+		assertTrue(activityList.removeListener(listener));
+		assertFalse(activityList.removeListener(listener));
+		activityList.addActivity("BBB", DESC, false, 0);
+		assertEquals(3, events.size());
+	}
+	
+	/**
+	 * Tests that applying getChangesSince() to an old copy of get2DArray() gives the
+	 * current get2DArray(), and that a reader too far behind gets a full refresh.
+	 */
+	@Test
+	public void testGetChangesSince() {
+		long v0 = activityList.getVersion();
+		List<Object[]> copy = new ArrayList<Object[]>(Arrays.asList(activityList.get2DArray()));
+		assertEquals(0, activityList.getChangesSince(v0).size());
+		assertFalse(activityList.getChangesSince(v0).isFullRefresh());
+		
+		activityList.addActivity("CCC", DESC, false, 0);
+		activityList.addActivity("AAA", DESC, false, 0);
+		activityList.getActivityAt(0).setDescription("Edited");
+		assertFalse(activityList.addActivity("AAA", DESC, false, 0));
+		TableDelta delta = activityList.getChangesSince(v0);
+		assertEquals(v0 + 3, activityList.getVersion());
+		assertEquals(v0, delta.getFromVersion());
+		assertEquals(activityList.getVersion(), delta.getToVersion());
+		assertEquals(3, delta.size());
+		assertEquals(TableDelta.Kind.INSERTED, delta.getKind(0));
+		assertEquals(0, delta.getRow(0));
+		assertEquals(TableDelta.Kind.INSERTED, delta.getKind(1));
+		assertEquals(0, delta.getRow(1));
+		assertEquals(TableDelta.Kind.UPDATED, delta.getKind(2));
+		assertEquals(0, delta.getRow(2));
+		//Values are read when the delta is built
+		assertEquals("Edited", delta.getValues(1)[2]);
+		
+		for (int i = 0; i < delta.size(); i++) {
+			if (delta.getKind(i) == TableDelta.Kind.INSERTED) {
+				copy.add(delta.getRow(i), delta.getValues(i));
+			} else {
+				copy.set(delta.getRow(i), delta.getValues(i));
+			}
+		}
+		assertTrue(Arrays.deepEquals(activityList.get2DArray(), copy.toArray(new Object[0][])));
+		assertEquals(1, activityList.getChangesSince(delta.getToVersion() - 1).size());
+		
+		//Only the most recent changes are kept
+		long v1 = activityList.getVersion();
+		for (int i = 0; i < ActivityList.CHANGE_LOG_SIZE; i++) {
+			activityList.getActivityAt(1).setSnowBoundary(i + 1);
+		}
+		assertEquals(ActivityList.CHANGE_LOG_SIZE, activityList.getChangesSince(v1).size());
+		assertFalse(activityList.getChangesSince(v1).isFullRefresh());
+		assertTrue(activityList.getChangesSince(v1 - 1).isFullRefresh());
+		assertEquals(0, activityList.getChangesSince(v1 - 1).size());
+		assertTrue(activityList.getChangesSince(activityList.getVersion() + 1).isFullRefresh());
+		assertTrue(activityList.getChangesSince(-1).isFullRefresh());
+	}
+	
+	/**
+	 * Tests that the TabularView methods read the same values as get2DArray(), and
+	 * see changes to the list without being rebuilt.
+	 */
+	@Test
+	public void testTabularView() {
+		activityList.addActivity("AAA", DESC, false, 0);
+		TabularView view = activityList;
+		assertEquals(2, view.rowCount());
+		assertEquals(5, view.columnCount());
+		Object[][] arr = activityList.get2DArray();
+		for (int row = 0; row < view.rowCount(); row++) {
+			for (int col = 0; col < view.columnCount(); col++) {
+				assertEquals(arr[row][col], view.valueAt(row, col));
+			}
+		}
+		
+		activityList.getActivityAt(1).setSnowBoundary(SNOW_BOUNDARY + 1);
+		assertEquals(SNOW_BOUNDARY + 1, view.valueAt(1, 4));
+		activityList.addActivity("BBB", DESC, false, 0);
+		assertEquals(3, view.rowCount());
+		assertEquals("BBB", view.valueAt(1, 1));
+		
+		try {
+			view.valueAt(3, 0);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals("Index is outside of the acceptable range", e.getMessage());
+		}
+		try {
+			view.valueAt(0, 5);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals("Index is outside of the acceptable range", e.getMessage());
+		}
+	}
 }
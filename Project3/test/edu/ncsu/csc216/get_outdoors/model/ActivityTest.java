@@ -2,6 +2,12 @@ package edu.ncsu.csc216.get_outdoors.model;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.Test;
 
 /**
@@ -84,6 +90,7 @@ public class ActivityTest {
 
 			assertNotNull(activity);
 			assertEquals(ID, activity.getActivityID());
+			assertEquals(2, activity.getIDNumber());
 			assertEquals(NAME, activity.getName());
 			assertEquals(DESC, activity.getDescription());
 			assertFalse(activity.snowNeeded());
@@ -337,6 +344,20 @@ public class ActivityTest {
 		
 		// Tests that passing a non-Activity Object returns false.
 		assertFalse(activity1.equals("Not an Activity."));
+		
+		// Tests that Activities with equal names but different other fields hash alike,
+		// and that editing an Activity does not change its hash.
+		Activity activity4 = new Activity("other-id", NAME, "Other " + DESC, true, S_BOUND + 2);
+		assertTrue(activity1.equals(activity4));
+		assertEquals(activity1.hashCode(), activity4.hashCode());
+		Set<Activity> set = new HashSet<Activity>();
+		set.add(activity1);
+		activity1.setDescription("Edited " + DESC);
+		activity1.setNeedSnow(true);
+		activity1.setSnowBoundary(S_BOUND + 5);
+		assertTrue(set.contains(activity1));
+		assertTrue(set.contains(activity4));
+		assertFalse(set.contains(activity2));
 	}
 
 	/**
@@ -359,4 +380,94 @@ public class ActivityTest {
 		// Tests that compareTo returns 0 for an Activity with the identical name.
 		assertEquals(0, activityA.compareTo(activityA));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Tests that edit() validates every field before applying any, and notifies
+	 * observers once with the fields that changed.
+	 */
+	@Test
+	public void testEdit() {
+		Activity activity = new Activity(ID, NAME, DESC, false, S_BOUND);
+		List<Integer> masks = new ArrayList<Integer>();
+		activity.addListener(new ModelListener<Activity>() {
+			@Override
+			public void entityChanged(Object source, Activity a, int fieldMask) {
+				assertSame(activity, source);
+				assertSame(activity, a);
+				masks.add(fieldMask);
+			}
+		});
+		int all = Activity.Field.DESCRIPTION.mask() | Activity.Field.NEED_SNOW.mask()
+				| Activity.Field.SNOW_BOUNDARY.mask();
+		
+		activity.edit(edit -> edit.setDescription("  New " + DESC + " ").setNeedSnow(true).setSnowBoundary(S_BOUND + 1));
+		assertEquals("New " + DESC, activity.getDescription());
+		assertTrue(activity.snowNeeded());
+		assertEquals(S_BOUND + 1, activity.getSnowBoundary());
+		assertEquals(Arrays.asList(all), masks);
+		
+		// Only the fields whose values differ are in the mask.
+		activity.edit(edit -> edit.setDescription("New " + DESC).setSnowBoundary(S_BOUND));
+		assertEquals(2, masks.size());
+		assertEquals(Activity.Field.SNOW_BOUNDARY.mask(), (int) masks.get(1));
+		assertTrue(Activity.Field.SNOW_BOUNDARY.isIn(masks.get(1)));
+		assertFalse(Activity.Field.DESCRIPTION.isIn(masks.get(1)));
+		
+		// An edit that changes nothing sends no event.
+		activity.edit(edit -> edit.setNeedSnow(true));
+		assertEquals(2, masks.size());
+		
+		// Each setter sends its own event.
+		activity.setNeedSnow(false);
+		assertEquals(Activity.Field.NEED_SNOW.mask(), (int) masks.get(2));
+		activity.setNeedSnow(true);
+		assertEquals(4, masks.size());
+		
+		// An invalid value leaves every field unchanged.
+		try {
+			activity.edit(edit -> edit.setNeedSnow(false).setDescription(" ").setSnowBoundary(1));
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Description is either an empty string or only contains whitespace", e.getMessage());
+		}
+		try {
+			activity.edit(edit -> edit.setDescription("Valid").setSnowBoundary(-1));
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Activity snow boundary cannot be negative", e.getMessage());
+		}
+		assertEquals("New " + DESC, activity.getDescription());
+		assertTrue(activity.snowNeeded());
+		assertEquals(S_BOUND, activity.getSnowBoundary());
+		assertEquals(4, masks.size());
+	}
+
+	/**
+	 * Tests that an ID of the form "act-N" is kept as its number, and any other ID as
+	 * the string it was given.
+	 */
+	@Test
+	public void testIDNumber() {
+		Activity activity = new Activity(ID, NAME, DESC, false, S_BOUND);
+		assertEquals(2, activity.getIDNumber());
+		assertEquals(ActivityIDs.format(2), activity.getActivityID());
+
+		activity = new Activity("act-" + Integer.MAX_VALUE, NAME, DESC, false, S_BOUND);
+		assertEquals(Integer.MAX_VALUE, activity.getIDNumber());
+		assertEquals("act-" + Integer.MAX_VALUE, activity.getActivityID());
+
+		activity = new Activity("act-02", NAME, DESC, false, S_BOUND);
+		assertEquals(-1, activity.getIDNumber());
+		assertEquals("act-02", activity.getActivityID());
+
+		activity = new Activity(40, NAME, DESC, false, S_BOUND);
+		assertEquals(40, activity.getIDNumber());
+		assertEquals("act-40", activity.getActivityID());
+		try {
+			new Activity(-1, NAME, DESC, false, S_BOUND);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Activity ID number cannot be negative", e.getMessage());
+		}
+	}
+}
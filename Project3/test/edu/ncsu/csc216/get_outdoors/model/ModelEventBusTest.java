@@ -0,0 +1,131 @@
+package edu.ncsu.csc216.get_outdoors.model;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for ModelEventBus.
+ * @author Noah Benveniste
+ */
+public class ModelEventBusTest {
+
+	/**
+	 * A listener that records each event it receives as a string
+	 */
+	private static class Recorder implements ModelListener<String> {
+
+		/** The name written before each event */
+		private final String name;
+		/** The shared record of events */
+		private final List<String> log;
+
+		Recorder(String name, List<String> log) {
+			this.name = name;
+			this.log = log;
+		}
+
+		@Override
+		public void entityAdded(Object source, String entity, int index) {
+			log.add(name + " added " + entity + " " + index);
+		}
+
+		@Override
+		public void entityChanged(Object source, String entity, int fieldMask) {
+			log.add(name + " changed " + entity + " " + fieldMask);
+		}
+
+		@Override
+		public void entityRemoved(Object source, String entity, int index) {
+			log.add(name + " removed " + entity + " " + index);
+		}
+	}
+
+	/**
+	 * Tests that events reach every listener in the order they were added
+	 */
+	@Test
+	public void testFire() {
+		ModelEventBus<String> bus = new ModelEventBus<String>();
+		List<String> log = new ArrayList<String>();
+		assertFalse(bus.hasListeners());
+		bus.fireChanged(this, "x", 1);
+
+		bus.addListener(new Recorder("a", log));
+		bus.addListener(new Recorder("b", log));
+		assertTrue(bus.hasListeners());
+		assertEquals(2, bus.listenerCount());
+		bus.fireAdded(this, "x", 0);
+		bus.fireChanged(this, "x", 5);
+		bus.fireRemoved(this, "x", 3);
+		assertEquals(Arrays.asList("a added x 0", "b added x 0", "a changed x 5", "b changed x 5",
+				"a removed x 3", "b removed x 3"), log);
+	}
+
+	/**
+	 * Tests adding and removing listeners, including a listener added twice
+	 */
+	@Test
+	public void testAddRemove() {
+		ModelEventBus<String> bus = new ModelEventBus<String>();
+		List<String> log = new ArrayList<String>();
+		Recorder a = new Recorder("a", log);
+		Recorder b = new Recorder("b", log);
+		bus.addListener(a);
+		bus.addListener(b);
+		bus.addListener(a);
+		assertEquals(3, bus.listenerCount());
+
+		//The most recent occurrence is removed
+		assertTrue(bus.removeListener(a));
+		bus.fireChanged(this, "x", 1);
+		assertEquals(Arrays.asList("a changed x 1", "b changed x 1"), log);
+
+		assertTrue(bus.removeListener(a));
+		assertFalse(bus.removeListener(a));
+		assertTrue(bus.removeListener(b));
+		assertFalse(bus.hasListeners());
+		assertFalse(bus.removeListener(null));
+
+		try {
+			bus.addListener(null);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("Listener cannot be null", e.getMessage());
+			assertEquals(0, bus.listenerCount());
+		}
+	}
+
+	/**
+	 * Tests that listeners added or removed while an event is sent do not change who
+	 * receives that event
+	 */
+	@Test
+	public void testChangeDuringFire() {
+		ModelEventBus<String> bus = new ModelEventBus<String>();
+		List<String> log = new ArrayList<String>();
+		Recorder late = new Recorder("late", log);
+		Recorder b = new Recorder("b", log);
+		bus.addListener(new ModelListener<String>() {
+			@Override
+			public void entityChanged(Object source, String entity, int fieldMask) {
+				log.add("a changed " + entity);
+				bus.removeListener(b);
+				bus.addListener(late);
+			}
+		});
+		bus.addListener(b);
+		bus.fireChanged(this, "x", 1);
+		assertEquals(Arrays.asList("a changed x", "b changed x 1"), log);
+
+		log.clear();
+		assertEquals(2, bus.listenerCount());
+		bus.fireChanged(this, "y", 2);
+		assertEquals(Arrays.asList("a changed y", "late changed y 2"), log);
+	}
+
+}
@@ -0,0 +1,208 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc216.get_outdoors.util.AdaptiveSortedList.Layout;
+import edu.ncsu.csc216.get_outdoors.util.AdaptiveSortedList.Stats;
+
+/**
+ * Unit tests for AdaptiveSortedList. Runs every test in SortedArrayListTest against
+ * a list with small thresholds, so that the tests cross between layouts, plus tests
+ * of when the list switches.
+ * @author Noah Benveniste
+ */
+public class AdaptiveSortedListTest extends SortedArrayListTest {
+
+	@Override
+	protected <T extends Comparable<T>> SortedList<T> createList(Comparator<? super T> comparator) {
+		return new AdaptiveSortedList<T>(8, 2, comparator);
+	}
+
+	/**
+	 * Tests that the list moves to a tree past the grow threshold and back below the
+	 * shrink threshold, and reports it through stats()
+	 */
+	@Test
+	public void testSizeThresholds() {
+		AdaptiveSortedList<Integer> list = new AdaptiveSortedList<Integer>();
+		Stats stats = list.stats();
+		assertEquals(Layout.ARRAY, stats.getLayout());
+		assertEquals(AdaptiveSortedList.DEFAULT_GROW_THRESHOLD, stats.getGrowThreshold());
+		assertEquals(AdaptiveSortedList.DEFAULT_SHRINK_THRESHOLD, stats.getShrinkThreshold());
+		assertEquals(2 * AdaptiveSortedList.DEFAULT_SHRINK_THRESHOLD, stats.getWorkloadMinSize());
+
+		//Appends never trigger the workload check
+		for (int i = 0; i < AdaptiveSortedList.DEFAULT_GROW_THRESHOLD; i++) {
+			assertTrue(list.add(i));
+		}
+		assertEquals(Layout.ARRAY, list.stats().getLayout());
+		assertEquals(0, list.stats().getWindowMidInserts());
+		assertTrue(list.add(AdaptiveSortedList.DEFAULT_GROW_THRESHOLD));
+		stats = list.stats();
+		assertEquals(Layout.TREE, stats.getLayout());
+		assertEquals(1, stats.getConversionsToTree());
+		assertEquals(AdaptiveSortedList.DEFAULT_GROW_THRESHOLD + 1, stats.getSize());
+		for (int i = 0; i < list.size(); i++) {
+			assertEquals(Integer.valueOf(i), list.get(i));
+		}
+
+		//Staying at or above the shrink threshold keeps the tree
+		list.removeRange(AdaptiveSortedList.DEFAULT_SHRINK_THRESHOLD, list.size());
+		assertEquals(Layout.TREE, list.stats().getLayout());
+		list.remove(0);
+		stats = list.stats();
+		assertEquals(Layout.ARRAY, stats.getLayout());
+		assertEquals(1, stats.getConversionsToArray());
+		assertEquals(Integer.valueOf(1), list.get(0));
+		assertEquals(AdaptiveSortedList.DEFAULT_SHRINK_THRESHOLD - 1, list.size());
+
+		//addAll past the grow threshold switches once
+		List<Integer> batch = new ArrayList<Integer>();
+		for (int i = 0; i < 2 * AdaptiveSortedList.DEFAULT_GROW_THRESHOLD; i++) {
+			batch.add(-i);
+		}
+		assertTrue(list.addAll(batch));
+		assertEquals(Layout.TREE, list.stats().getLayout());
+		assertEquals(2, list.stats().getConversionsToTree());
+	}
+
+	/**
+	 * Tests that a window of mostly mid-list adds moves a list to a tree once it holds
+	 * the workload minimum, and that appends do not
+	 */
+	@Test
+	public void testWorkloadThreshold() {
+		AdaptiveSortedList<Integer> list = new AdaptiveSortedList<Integer>(100000, 200, null);
+		assertEquals(400, list.stats().getWorkloadMinSize());
+		//Descending adds all land before the last element, but the list is too small
+		for (int i = 0; i < AdaptiveSortedList.WORKLOAD_WINDOW; i++) {
+			list.add(-2 * i);
+		}
+		assertEquals(Layout.ARRAY, list.stats().getLayout());
+		assertEquals(0, list.stats().getWindowAdds());
+
+		//Mostly appends, with a few mid-list adds, stays an array
+		int next = 1;
+		for (int i = 0; i < AdaptiveSortedList.WORKLOAD_WINDOW; i++) {
+			if (i % 4 == 0) {
+				list.add(-2 * i - 1);
+			} else {
+				list.add(next++);
+			}
+		}
+		assertEquals(Layout.ARRAY, list.stats().getLayout());
+
+		//A window of adds that each land before the last element moves it to a tree
+		for (int i = 0; i < AdaptiveSortedList.WORKLOAD_WINDOW - 1; i++) {
+			list.add(-100000 - i);
+		}
+		Stats stats = list.stats();
+		assertEquals(Layout.ARRAY, stats.getLayout());
+		assertEquals(AdaptiveSortedList.WORKLOAD_WINDOW - 1, stats.getWindowAdds());
+		assertEquals(AdaptiveSortedList.WORKLOAD_WINDOW - 1, stats.getWindowMidInserts());
+		//Adds of elements already in the list do not count
+		try {
+			list.add(-100000);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(AdaptiveSortedList.WORKLOAD_WINDOW - 1, list.stats().getWindowAdds());
+		}
+		assertTrue(list.add(-200000));
+		assertEquals(Layout.TREE, list.stats().getLayout());
+		assertTrue(list.stats().toString().startsWith("TREE size=" + list.size()));
+	}
+
+	/**
+	 * Tests that an iterator fails fast across a change of layout, and that removing
+	 * through it defers the change to the next add or remove
+	 */
+	@Test
+	public void testIteratorAcrossLayouts() {
+		AdaptiveSortedList<Integer> list = new AdaptiveSortedList<Integer>(8, 4, null);
+		for (int i = 0; i < 8; i++) {
+			list.add(i);
+		}
+		Iterator<Integer> it = list.iterator();
+		assertEquals(Integer.valueOf(0), it.next());
+		list.add(8);
+		assertEquals(Layout.TREE, list.stats().getLayout());
+		try {
+			it.next();
+			fail();
+		} catch (ConcurrentModificationException e) {
+			assertEquals(9, list.size());
+		}
+
+		it = list.iterator();
+		for (int i = 0; i < 6; i++) {
+			it.next();
+			it.remove();
+		}
+		assertEquals(3, list.size());
+		assertEquals(Layout.TREE, list.stats().getLayout());
+		assertEquals(Integer.valueOf(6), it.next());
+		list.remove(0);
+		assertEquals(Layout.ARRAY, list.stats().getLayout());
+		assertEquals("[7, 8]", list.toString());
+	}
+
+	/**
+	 * Tests a long random sequence of adds and removes against a SortedArrayList while
+	 * the list switches layouts many times
+	 */
+	@Test
+	public void testAgainstSortedArrayList() {
+		Random rand = new Random(216);
+		AdaptiveSortedList<Integer> adaptive = new AdaptiveSortedList<Integer>(64, 16, null);
+		SortedArrayList<Integer> array = new SortedArrayList<Integer>();
+		for (int i = 0; i < 20000; i++) {
+			//Alternate growing and shrinking phases
+			boolean growing = (i / 500) % 2 == 0;
+			if (array.isEmpty() || rand.nextInt(4) < (growing ? 3 : 1)) {
+				Integer x = rand.nextInt(1000);
+				if (array.contains(x)) {
+					assertTrue(adaptive.contains(x));
+				} else {
+					assertTrue(array.add(x));
+					assertTrue(adaptive.add(x));
+				}
+			} else {
+				int index = rand.nextInt(array.size());
+				assertEquals(array.remove(index), adaptive.remove(index));
+			}
+			assertEquals(array.size(), adaptive.size());
+		}
+		assertEquals(array.toString(), adaptive.toString());
+		assertTrue(adaptive.stats().getConversionsToTree() > 1);
+		assertTrue(adaptive.stats().getConversionsToArray() > 1);
+	}
+
+	/**
+	 * Tests that the thresholds are validated
+	 */
+	@Test
+	public void testInvalidThresholds() {
+		try {
+			new AdaptiveSortedList<Integer>(10, 10, null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Shrink threshold must be at least 0 and less than grow threshold", e.getMessage());
+		}
+		try {
+			new AdaptiveSortedList<Integer>(10, -1, null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Shrink threshold must be at least 0 and less than grow threshold", e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for OffHeapDoubleIndex
+ * @author Noah Benveniste
+ */
+public class OffHeapDoubleIndexTest {
+
+	/**
+	 * Tests that keys are ordered as by Double.compare
+	 */
+	@Test
+	public void testOrder() {
+		double[] keys = { 3.5, -0.0, 0.0, -2.25, Double.NEGATIVE_INFINITY, Double.MAX_VALUE,
+				Double.MIN_VALUE, -Double.MIN_VALUE, Double.POSITIVE_INFINITY };
+		OffHeapDoubleIndex index = new OffHeapDoubleIndex();
+		for (int row = 0; row < keys.length; row++) {
+			assertTrue(index.add(keys[row], row));
+		}
+		double[] sorted = keys.clone();
+		Arrays.sort(sorted);
+		for (int i = 0; i < sorted.length; i++) {
+			assertEquals(0, Double.compare(sorted[i], index.keyAt(i)));
+			assertEquals(sorted[i], OffHeapDoubleIndex.decode(OffHeapDoubleIndex.encode(sorted[i])), 0);
+		}
+		assertEquals(1, index.indexOf(-2.25, 3));
+	}
+
+	/**
+	 * Tests the range operations and NaN keys
+	 */
+	@Test
+	public void testRange() {
+		OffHeapDoubleIndex index = new OffHeapDoubleIndex(2);
+		assertTrue(index.addAll(new double[] { 1.5, 0.5, 2.5, 1.5 }, new int[] { 7, 8, 9, 6 }));
+		assertEquals("[0.5=8, 1.5=6, 1.5=7, 2.5=9]", index.toString());
+		assertTrue(index.contains(1.5));
+		assertEquals(3, index.countBetween(1.0, 3.0));
+		assertArrayEquals(new int[] { 8, 6, 7 }, index.rowsBetween(0.0, 2.0));
+		final int[] sum = new int[1];
+		index.scan(1.5, 2.5, row -> sum[0] += row);
+		assertEquals(13, sum[0]);
+		assertTrue(index.remove(1.5, 6));
+		assertEquals(1, index.upperBound(1.0));
+		assertEquals(2, index.upperBound(1.5));
+
+		try {
+			index.add(Double.NaN, 0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Key cannot be NaN", e.getMessage());
+		}
+		try {
+			index.rowsBetween(2.0, 1.0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Range start cannot be greater than range end", e.getMessage());
+		}
+	}
+
+}
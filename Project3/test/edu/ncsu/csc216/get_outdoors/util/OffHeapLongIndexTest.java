@@ -0,0 +1,193 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for OffHeapLongIndex
+ * @author Noah Benveniste
+ */
+public class OffHeapLongIndexTest {
+
+	private OffHeapLongIndex index;
+
+	/**
+	 * Sets up an OffHeapLongIndex object to be used throughout testing
+	 */
+	@Before
+	public void setUp() {
+		index = new OffHeapLongIndex();
+	}
+
+	/**
+	 * Tests add(key, row), remove(key, row) and the positional operations
+	 */
+	@Test
+	public void testAdd() {
+		assertTrue(index.isEmpty());
+		assertEquals("[]", index.toString());
+		assertTrue(index.add(50, 1));
+		assertTrue(index.add(-7, 2));
+		assertTrue(index.add(50, 0));
+		assertTrue(index.add(Long.MAX_VALUE, 3));
+		assertFalse(index.add(50, 1));
+		assertEquals(4, index.size());
+		assertEquals("[-7=2, 50=0, 50=1, " + Long.MAX_VALUE + "=3]", index.toString());
+		assertEquals(-7, index.keyAt(0));
+		assertEquals(0, index.rowAt(1));
+		assertEquals(2, index.indexOf(50, 1));
+		assertEquals(-1, index.indexOf(50, 2));
+		assertTrue(index.contains(50));
+		assertFalse(index.contains(49));
+
+		assertTrue(index.remove(50, 0));
+		assertFalse(index.remove(50, 0));
+		assertEquals(2, index.remove(0));
+		assertEquals("[50=1, " + Long.MAX_VALUE + "=3]", index.toString());
+		try {
+			index.keyAt(2);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(2, index.size());
+		}
+		try {
+			index.rowAt(-1);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(2, index.size());
+		}
+		index.clear();
+		assertTrue(index.isEmpty());
+	}
+
+	/**
+	 * Tests the range operations
+	 */
+	@Test
+	public void testRange() {
+		for (int row = 0; row < 10; row++) {
+			index.add(row / 2 * 10, row);
+		}
+		//Keys are 0, 0, 10, 10, 20, 20, 30, 30, 40, 40
+		assertEquals(2, index.lowerBound(10));
+		assertEquals(4, index.upperBound(10));
+		assertEquals(4, index.countBetween(5, 25));
+		assertArrayEquals(new int[] { 2, 3, 4, 5 }, index.rowsBetween(10, 30));
+		final List<Integer> rows = new ArrayList<Integer>();
+		index.scan(30, 100, rows::add);
+		assertEquals(Arrays.asList(6, 7, 8, 9), rows);
+		assertEquals(0, index.rowsBetween(41, 41).length);
+
+		index.removeRange(2, 8);
+		assertEquals("[0=0, 0=1, 40=8, 40=9]", index.toString());
+		try {
+			index.countBetween(10, 5);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Range start cannot be greater than range end", e.getMessage());
+		}
+		try {
+			index.removeRange(3, 5);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(4, index.size());
+		}
+	}
+
+	/**
+	 * Tests addAll, growing the buffer and trimToSize()
+	 */
+	@Test
+	public void testAddAll() {
+		Random rand = new Random(216);
+		int n = 10000;
+		long[] keys = new long[n];
+		int[] rows = new int[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = rand.nextInt(1000) - 500;
+			rows[i] = rand.nextInt(20);
+		}
+		long[] keysCopy = keys.clone();
+		assertTrue(index.addAll(keys, rows));
+		assertArrayEquals(keysCopy, keys);
+		assertFalse(index.addAll(keys, rows));
+
+		//Adding one at a time gives the same index
+		OffHeapLongIndex single = new OffHeapLongIndex(0);
+		for (int i = 0; i < n; i++) {
+			single.add(keys[i], rows[i]);
+		}
+		assertEquals(single.toString(), index.toString());
+		for (int i = 1; i < index.size(); i++) {
+			assertTrue(index.keyAt(i - 1) < index.keyAt(i)
+					|| (index.keyAt(i - 1) == index.keyAt(i) && index.rowAt(i - 1) < index.rowAt(i)));
+		}
+
+		//Merge a second batch into a non-empty index
+		assertTrue(index.addAll(new long[] { -1000, 1000, 0 }, new int[] { 0, 0, 99 }));
+		assertEquals(-1000, index.keyAt(0));
+		assertEquals(1000, index.keyAt(index.size() - 1));
+		assertTrue(index.indexOf(0, 99) >= 0);
+
+		index.trimToSize();
+		assertEquals(index.size(), index.capacity());
+		assertEquals(12L * index.size(), index.memoryBytes());
+		try {
+			index.addAll(new long[2], new int[1]);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Keys and rows must have the same length", e.getMessage());
+		}
+		try {
+			new OffHeapLongIndex(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Capacity is outside the acceptable range", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests random adds, removes and range removes against a SortedArrayList of the
+	 * same entries, so that blocks of entries are shifted both ways across the buffer
+	 */
+	@Test
+	public void testAgainstSortedArrayList() {
+		Random rand = new Random(216);
+		//Each entry is kept in the array as key * 64 + row, which sorts the same way
+		SortedArrayList<Long> array = new SortedArrayList<Long>();
+		for (int i = 0; i < 5000; i++) {
+			int op = rand.nextInt(10);
+			if (array.isEmpty() || op < 6) {
+				long key = rand.nextInt(2000) - 1000;
+				int row = rand.nextInt(64);
+				boolean added = !array.contains(key * 64 + row);
+				if (added) {
+					array.add(key * 64 + row);
+				}
+				assertEquals(added, index.add(key, row));
+			} else if (op < 9) {
+				int position = rand.nextInt(array.size());
+				long entry = array.remove(position);
+				assertEquals((int) (entry & 63), index.remove(position));
+			} else {
+				int from = rand.nextInt(array.size());
+				int to = from + rand.nextInt(Math.min(20, array.size() - from) + 1);
+				array.removeRange(from, to);
+				index.removeRange(from, to);
+			}
+			assertEquals(array.size(), index.size());
+		}
+		for (int i = 0; i < array.size(); i++) {
+			assertEquals(array.get(i) >> 6, index.keyAt(i));
+			assertEquals((int) (array.get(i) & 63), index.rowAt(i));
+		}
+	}
+
+}
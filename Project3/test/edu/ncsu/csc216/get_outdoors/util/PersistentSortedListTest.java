@@ -0,0 +1,181 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for PersistentSortedList
+ * @author Noah Benveniste
+ */
+public class PersistentSortedListTest {
+
+	/**
+	 * Tests insert(e) and that old versions are unchanged
+	 */
+	@Test
+	public void testInsert() {
+		PersistentSortedList<String> v0 = new PersistentSortedList<String>();
+		assertTrue(v0.isEmpty());
+		assertEquals("[]", v0.toString());
+		PersistentSortedList<String> v1 = v0.insert("d");
+		PersistentSortedList<String> v2 = v1.insert("b").insert("g");
+		assertEquals("[]", v0.toString());
+		assertEquals("[d]", v1.toString());
+		assertEquals("[b, d, g]", v2.toString());
+		assertSame(v2, v2.insert("b"));
+
+		try {
+			v2.insert(null);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("Cannot add null elements", e.getMessage());
+		}
+		//A version has the read-only operations only, so it cannot be changed in place
+		Object version = v2;
+		assertTrue(version instanceof SortedListView);
+		assertFalse(version instanceof SortedList);
+		try {
+			v2.iterator().remove();
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals(3, v2.size());
+		}
+	}
+
+	/**
+	 * Tests delete(int) and the search operations
+	 */
+	@Test
+	public void testDeleteAndSearch() {
+		PersistentSortedList<String> list = new PersistentSortedList<String>(
+				Arrays.asList("f", "b", "h", "d", "b"));
+		assertEquals("[b, d, f, h]", list.toString());
+		assertEquals("f", list.get(2));
+		assertEquals(1, list.indexOf("d"));
+		assertEquals(-1, list.indexOf("c"));
+		assertTrue(list.contains("h"));
+		assertEquals(1, list.lowerBound("c"));
+		assertEquals(2, list.upperBound("d"));
+		assertEquals("d", list.floor("e"));
+		assertEquals(Arrays.asList("d", "f"), list.rangeView("c", "g"));
+
+		PersistentSortedList<String> smaller = list.delete(1);
+		assertEquals("[b, f, h]", smaller.toString());
+		assertEquals("[b, d, f, h]", list.toString());
+		try {
+			list.delete(4);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(4, list.size());
+		}
+		try {
+			list.get(-1);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(4, list.size());
+		}
+	}
+
+	/**
+	 * Tests insertAll(Collection) for both small and large batches
+	 */
+	@Test
+	public void testInsertAll() {
+		PersistentSortedList<Integer> list = new PersistentSortedList<Integer>();
+		List<Integer> values = new ArrayList<Integer>();
+		for (int i = 0; i < 1000; i += 2) {
+			values.add(i);
+		}
+		list = list.insertAll(values);
+		assertEquals(500, list.size());
+		assertSame(list, list.insertAll(values));
+
+		//Small batch, inserted one at a time
+		PersistentSortedList<Integer> small = list.insertAll(Arrays.asList(1, 3, 2));
+		assertEquals(502, small.size());
+		assertEquals(Integer.valueOf(3), small.get(3));
+
+		//Large batch, merged and rebuilt
+		List<Integer> odds = new ArrayList<Integer>();
+		for (int i = 1; i < 1000; i += 2) {
+			odds.add(i);
+		}
+		PersistentSortedList<Integer> all = small.insertAll(odds);
+		assertEquals(1000, all.size());
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(Integer.valueOf(i), all.get(i));
+		}
+		assertEquals(502, small.size());
+		try {
+			list.insertAll(Arrays.asList(1, null));
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals(500, list.size());
+		}
+	}
+
+	/**
+	 * Tests a list ordered by a Comparator
+	 */
+	@Test
+	public void testComparator() {
+		PersistentSortedList<Integer> reversed = new PersistentSortedList<Integer>(Comparator.<Integer>reverseOrder());
+		reversed = reversed.insertAll(Arrays.asList(1, 5, 3, 2, 4));
+		assertEquals("[5, 4, 3, 2, 1]", reversed.toString());
+		assertEquals(1, reversed.indexOf(4));
+		assertEquals(2, reversed.countBetween(4, 2));
+		assertNotNull(reversed.comparator());
+		assertTrue(reversed.spliterator().hasCharacteristics(Spliterator.SORTED));
+		assertSame(reversed.comparator(), reversed.spliterator().getComparator());
+	}
+
+	/**
+	 * Tests a long random sequence of updates against a SortedArrayList, checking that
+	 * every tenth version is unchanged by later updates
+	 */
+	@Test
+	public void testVersions() {
+		Random rand = new Random(216);
+		PersistentSortedList<Integer> list = new PersistentSortedList<Integer>();
+		SortedArrayList<Integer> array = new SortedArrayList<Integer>();
+		List<PersistentSortedList<Integer>> versions = new ArrayList<PersistentSortedList<Integer>>();
+		List<String> expected = new ArrayList<String>();
+		for (int i = 0; i < 5000; i++) {
+			if (array.isEmpty() || rand.nextInt(3) > 0) {
+				Integer x = rand.nextInt(2000);
+				if (!array.contains(x)) {
+					array.add(x);
+				}
+				list = list.insert(x);
+			} else {
+				int index = rand.nextInt(array.size());
+				array.remove(index);
+				list = list.delete(index);
+			}
+			if (i % 10 == 0) {
+				versions.add(list);
+				expected.add(array.size() == 0 ? "[]" : array.toString());
+			}
+		}
+		Iterator<Integer> it = list.iterator();
+		for (int i = 0; i < array.size(); i++) {
+			assertEquals(array.get(i), list.get(i));
+			assertEquals(array.get(i), it.next());
+			assertEquals(i, list.indexOf(array.get(i)));
+		}
+		assertFalse(it.hasNext());
+		for (int i = 0; i < versions.size(); i++) {
+			assertEquals(expected.get(i), versions.get(i).toString());
+		}
+	}
+
+}
@@ -2,6 +2,18 @@ package edu.ncsu.csc216.get_outdoors.util;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -11,14 +23,51 @@ import org.junit.Test;
  */
 public class SortedArrayListTest {
 
-	private SortedArrayList<String> list;
+	private SortedList<String> list;
+	
+	/**
+	 * Integer wrapper that counts the number of times compareTo() is called, used to check
+	 * the number of comparisons the list makes on each operation
+	 */
+	private static class CountingKey implements Comparable<CountingKey> {
+		/** Number of comparisons made across all keys */
+		private static long compares = 0;
+		/** The wrapped value */
+		private final int value;
+		
+		/**
+		 * Wraps the given value
+		 * @param value the value to wrap
+		 */
+		CountingKey(int value) {
+			this.value = value;
+		}
+		
+		@Override
+		public int compareTo(CountingKey o) {
+			compares++;
+			return Integer.compare(value, o.value);
+		}
+	}
+	
+	/**
+	 * Creates the empty list that the tests are run against. Test classes for other
+	 * SortedList implementations extend this class and override this method so that
+	 * the same tests are run against their implementation.
+	 * 
+	 * @param comparator the Comparator to order the list by, or null for natural ordering
+	 * @return a new empty list
+	 */
+	protected <T extends Comparable<T>> SortedList<T> createList(Comparator<? super T> comparator) {
+		return new SortedArrayList<T>(comparator);
+	}
 	
 	/**
 	 * Sets up a SortedArrayList object to be used throughout testing
 	 */
 	@Before
 	public void setUp() {
-		list = new SortedArrayList<String>();
+		list = createList(null);
 	}
 
 	/**
@@ -227,6 +276,96 @@ public class SortedArrayListTest {
 		}
 	}
 	
+	/**
+	 * Tests removeIf(Predicate), removeAll(Collection) and removeRange(int, int)
+	 */
+	@Test
+	public void testBulkRemove() {
+		SortedList<Integer> ints = createList(null);
+		for (int i = 0; i < 1000; i++) {
+			ints.add(i);
+		}
+		
+		//Remove the multiples of three
+		assertTrue(ints.removeIf(x -> x % 3 == 0));
+		assertEquals(666, ints.size());
+		assertEquals(Integer.valueOf(1), ints.get(0));
+		assertEquals(Integer.valueOf(2), ints.get(1));
+		assertEquals(Integer.valueOf(4), ints.get(2));
+		assertFalse(ints.removeIf(x -> x % 3 == 0));
+		
+		//Remove some present and some absent elements
+		assertTrue(ints.removeAll(Arrays.asList(4, 3, 998, 2000, 4)));
+		assertEquals(664, ints.size());
+		assertEquals(-1, ints.indexOf(998));
+		assertEquals(Integer.valueOf(997), ints.get(ints.size() - 1));
+		assertFalse(ints.removeAll(Arrays.asList(3, 6)));
+		
+		//Remove a range of indices
+		ints.removeRange(1, 661);
+		assertEquals(Arrays.asList(1, 994, 995, 997), ints.stream().collect(Collectors.toList()));
+		ints.removeRange(2, 2);
+		assertEquals(4, ints.size());
+		try {
+			ints.removeRange(3, 2);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(4, ints.size());
+		}
+		try {
+			ints.removeRange(0, 5);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(4, ints.size());
+		}
+		ints.removeRange(0, 4);
+		assertTrue(ints.isEmpty());
+		assertTrue(ints.add(7));
+		
+		list.addAll(Arrays.asList("a", "b", "c"));
+		try {
+			list.removeIf(null);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals(3, list.size());
+		}
+		try {
+			list.removeAll(Arrays.asList("a", null));
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals(3, list.size());
+		}
+	}
+	
+	/**
+	 * Tests that removeIf(Predicate) compacts the array in place, nulling out the freed
+	 * slots, and leaves the list in order if the predicate throws
+	 */
+	@Test
+	public void testRemoveIfCompacts() {
+		SortedArrayList<Integer> ints = new SortedArrayList<Integer>();
+		for (int i = 0; i < 10; i++) {
+			ints.add(i);
+		}
+		try {
+			ints.removeIf(x -> {
+				if (x == 6) {
+					throw new IllegalStateException();
+				}
+				return x % 2 == 0;
+			});
+			fail();
+		} catch (IllegalStateException e) {
+			//0, 2 and 4 were matched before the predicate threw
+			assertEquals("[1, 3, 5, 6, 7, 8, 9]", ints.toString());
+		}
+		assertEquals(10, ints.capacity());
+		ints.removeIf(x -> x > 3);
+		assertEquals("[1, 3]", ints.toString());
+		ints.trimToSize();
+		assertEquals(2, ints.capacity());
+	}
+	
 	/**
 	 * Tests contains(e)
 	 */
@@ -301,5 +440,546 @@ public class SortedArrayListTest {
 			assertEquals("[a, b, c]", list.toString());
 		}
 	}
+	
+	/**
+	 * Tests that add(e) finds the insertion point and detects repeat elements with a binary
+	 * search i.e. makes O(log n) comparisons per insert, regardless of the insertion order
+	 */
+	@Test
+	public void testAddComparisons() {
+		int n = 1 << 14;
+		// A full binary search over n elements makes at most floor(log2(n)) + 1 comparisons
+		int maxComparesPerAdd = 15;
+		
+		//Ascending, descending and shuffled insertion orders
+		int[] ascending = new int[n];
+		int[] descending = new int[n];
+		int[] shuffled = new int[n];
+		for (int i = 0; i < n; i++) {
+			ascending[i] = i;
+			descending[i] = n - 1 - i;
+			shuffled[i] = i;
+		}
+		Random rand = new Random(216);
+		for (int i = n - 1; i > 0; i--) {
+			int j = rand.nextInt(i + 1);
+			int temp = shuffled[i];
+			shuffled[i] = shuffled[j];
+			shuffled[j] = temp;
+		}
+		
+		for (int[] order : new int[][] {ascending, descending, shuffled}) {
+			SortedList<CountingKey> keys = createList(null);
+			CountingKey.compares = 0;
+			for (int i = 0; i < n; i++) {
+				assertTrue(keys.add(new CountingKey(order[i])));
+			}
+			assertEquals(n, keys.size());
+			assertTrue(CountingKey.compares <= (long) n * maxComparesPerAdd);
+			for (int i = 0; i < n; i++) {
+				assertEquals(i, keys.get(i).value);
+			}
+			
+			//Repeat elements are also rejected in O(log n) comparisons
+			CountingKey.compares = 0;
+			try {
+				keys.add(new CountingKey(order[n / 2]));
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertTrue(CountingKey.compares <= maxComparesPerAdd);
+			}
+			assertEquals(n, keys.size());
+		}
+	}
+	
+	/**
+	 * Tests that the list grows geometrically, and tests ensureCapacity(int), trimToSize()
+	 * and capacity()
+	 */
+	@Test
+	public void testCapacity() {
+		SortedArrayList<String> list = new SortedArrayList<String>();
+		assertEquals(10, list.capacity());
+		
+		//Count the number of times the array grows while adding many elements
+		int grows = 0;
+		int lastCapacity = list.capacity();
+		for (int i = 0; i < 100000; i++) {
+			list.add("" + (100000 + i));
+			if (list.capacity() != lastCapacity) {
+				assertTrue(list.capacity() >= lastCapacity + lastCapacity / 2);
+				lastCapacity = list.capacity();
+				grows++;
+			}
+		}
+		assertEquals(100000, list.size());
+		assertTrue(grows < 30);
+		
+		//Give back the unused slots
+		list.trimToSize();
+		assertEquals(100000, list.capacity());
+		assertEquals("100000", list.get(0));
+		assertEquals("199999", list.get(99999));
+		
+		//Presize an empty list so that it never grows
+		SortedArrayList<String> presized = new SortedArrayList<String>(0);
+		assertEquals(0, presized.capacity());
+		presized.ensureCapacity(500);
+		assertEquals(500, presized.capacity());
+		for (int i = 0; i < 500; i++) {
+			presized.add("" + (1000 + i));
+		}
+		assertEquals(500, presized.capacity());
+		assertEquals(500, presized.size());
+		
+		//Asking for less than the current capacity does nothing
+		presized.ensureCapacity(10);
+		assertEquals(500, presized.capacity());
+		
+		//Growing past a presized capacity still works
+		assertTrue(presized.add("0"));
+		assertEquals(501, presized.size());
+		assertEquals("0", presized.get(0));
+		assertEquals("[0, 1000, 1001", presized.toString().substring(0, 14));
+		
+		//Trim an empty list
+		SortedArrayList<String> empty = new SortedArrayList<String>();
+		empty.trimToSize();
+		assertEquals(0, empty.capacity());
+		assertTrue(empty.add("a"));
+		assertEquals(1, empty.size());
+		
+		try {
+			new SortedArrayList<String>(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Capacity cannot be negative", e.getMessage());
+		}
+	}
+	
+	/**
+	 * Tests addAll(Collection)
+	 */
+	@Test
+	public void testAddAll() {
+		//Add to an empty list
+		assertFalse(list.addAll(new ArrayList<String>()));
+		assertTrue(list.addAll(Arrays.asList("d", "b", "f", "b")));
+		assertEquals(3, list.size());
+		assertEquals("[b, d, f]", list.toString());
+		
+		//Merge a batch that interleaves with, and repeats, elements in the list
+		assertTrue(list.addAll(Arrays.asList("g", "a", "d", "c", "a", "e", "f")));
+		assertEquals(7, list.size());
+		assertEquals("[a, b, c, d, e, f, g]", list.toString());
+		
+		//A batch of only repeated elements does not change the list
+		assertFalse(list.addAll(Arrays.asList("g", "a", "c")));
+		assertEquals(7, list.size());
+		assertEquals("[a, b, c, d, e, f, g]", list.toString());
+		
+		//Append to the back, then to the front
+		assertTrue(list.addAll(Arrays.asList("h", "g")));
+		assertEquals("[a, b, c, d, e, f, g, h]", list.toString());
+		assertTrue(list.addAll(Collections.singletonList("A")));
+		assertEquals("[A, a, b, c, d, e, f, g, h]", list.toString());
+		assertEquals(9, list.size());
+		
+		//Single adds still work after a bulk add
+		assertTrue(list.add("bb"));
+		assertEquals("[A, a, b, bb, c, d, e, f, g, h]", list.toString());
+		
+		//Null collections and elements are rejected without changing the list
+		try {
+			list.addAll(null);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("[A, a, b, bb, c, d, e, f, g, h]", list.toString());
+		}
+		try {
+			list.addAll(Arrays.asList("z", null));
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("[A, a, b, bb, c, d, e, f, g, h]", list.toString());
+		}
+		
+		//Compare a large merge (large enough to use the parallel sort) against single adds
+		Random rand = new Random(216);
+		SortedList<Integer> bulk = createList(null);
+		SortedList<Integer> single = new SortedArrayList<Integer>();
+		for (int round = 0; round < 3; round++) {
+			List<Integer> batch = new ArrayList<Integer>();
+			for (int i = 0; i < 20000; i++) {
+				batch.add(rand.nextInt(50000));
+			}
+			boolean changed = false;
+			for (Integer x : batch) {
+				if (!single.contains(x)) {
+					single.add(x);
+					changed = true;
+				}
+			}
+			assertEquals(changed, bulk.addAll(batch));
+			assertEquals(single.size(), bulk.size());
+			for (int i = 0; i < single.size(); i++) {
+				assertEquals(single.get(i), bulk.get(i));
+			}
+		}
+	}
+	
+	/**
+	 * Tests SortedArrayList(Collection)
+	 */
+	@Test
+	public void testSortedArrayListCollection() {
+		SortedArrayList<String> copy = new SortedArrayList<String>(Arrays.asList("c", "a", "b", "a", "c"));
+		assertEquals(3, copy.size());
+		assertEquals(3, copy.capacity());
+		assertEquals("[a, b, c]", copy.toString());
+		assertEquals(1, copy.indexOf("b"));
+		assertTrue(copy.add("d"));
+		assertEquals("[a, b, c, d]", copy.toString());
+		
+		SortedArrayList<String> empty = new SortedArrayList<String>(new ArrayList<String>());
+		assertTrue(empty.isEmpty());
+		assertTrue(empty.add("a"));
+		assertEquals("[a]", empty.toString());
+		
+		try {
+			new SortedArrayList<String>(Arrays.asList("a", null));
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("Cannot add null elements", e.getMessage());
+		}
+	}
+	
+	/**
+	 * Tests lowerBound(e), upperBound(e), floor(e) and ceiling(e)
+	 */
+	@Test
+	public void testNavigation() {
+		//Navigate an empty list
+		assertEquals(0, list.lowerBound("a"));
+		assertEquals(0, list.upperBound("a"));
+		assertNull(list.floor("a"));
+		assertNull(list.ceiling("a"));
+		
+		list.addAll(Arrays.asList("b", "d", "f", "h"));
+		assertEquals(0, list.lowerBound("a"));
+		assertEquals(0, list.lowerBound("b"));
+		assertEquals(1, list.upperBound("b"));
+		assertEquals(2, list.lowerBound("e"));
+		assertEquals(2, list.upperBound("e"));
+		assertEquals(3, list.lowerBound("h"));
+		assertEquals(4, list.upperBound("h"));
+		assertEquals(4, list.lowerBound("z"));
+		
+		assertNull(list.floor("a"));
+		assertEquals("b", list.floor("b"));
+		assertEquals("d", list.floor("e"));
+		assertEquals("h", list.floor("z"));
+		assertEquals("b", list.ceiling("a"));
+		assertEquals("d", list.ceiling("d"));
+		assertEquals("f", list.ceiling("e"));
+		assertNull(list.ceiling("i"));
+		
+		try {
+			list.lowerBound(null);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("List cannot have null elements", e.getMessage());
+		}
+	}
+	
+	/**
+	 * Tests rangeView(from, to) and countBetween(from, to)
+	 */
+	@Test
+	public void testRange() {
+		assertEquals(0, list.countBetween("a", "z"));
+		assertTrue(list.rangeView("a", "z").isEmpty());
+		
+		list.addAll(Arrays.asList("b", "d", "f", "h"));
+		assertEquals(4, list.countBetween("a", "z"));
+		assertEquals(2, list.countBetween("b", "f"));
+		assertEquals(2, list.countBetween("c", "g"));
+		assertEquals(0, list.countBetween("d", "d"));
+		assertEquals(0, list.countBetween("i", "z"));
+		
+		List<String> view = list.rangeView("c", "h");
+		assertEquals(2, view.size());
+		assertEquals("d", view.get(0));
+		assertEquals("f", view.get(1));
+		assertEquals("[d, f]", view.toString());
+		assertEquals(Arrays.asList("b", "d", "f", "h"), list.rangeView("b", "i"));
+		assertTrue(list.rangeView("i", "z").isEmpty());
+		
+		//The view is read-only
+		try {
+			view.add("e");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals("[b, d, f, h]", list.toString());
+		}
+		try {
+			view.get(2);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(2, view.size());
+		}
+		
+		try {
+			list.countBetween("f", "b");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Range start cannot be greater than range end", e.getMessage());
+		}
+		try {
+			list.rangeView("f", "b");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Range start cannot be greater than range end", e.getMessage());
+		}
+	}
+	
+	/**
+	 * Tests iterator()
+	 */
+	@Test
+	public void testIterator() {
+		assertFalse(list.iterator().hasNext());
+		list.addAll(Arrays.asList("c", "a", "b"));
+		
+		//Iterate in sorted order
+		String out = "";
+		for (String s : list) {
+			out += s;
+		}
+		assertEquals("abc", out);
+		
+		Iterator<String> it = list.iterator();
+		assertEquals("a", it.next());
+		assertEquals("b", it.next());
+		assertEquals("c", it.next());
+		assertFalse(it.hasNext());
+		try {
+			it.next();
+			fail();
+		} catch (NoSuchElementException e) {
+			assertEquals(3, list.size());
+		}
+		
+		//Remove through the iterator
+		it = list.iterator();
+		try {
+			it.remove();
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals(3, list.size());
+		}
+		it.next();
+		it.next();
+		it.remove();
+		assertEquals("[a, c]", list.toString());
+		assertEquals("c", it.next());
+		assertFalse(it.hasNext());
+		
+		//Modifying the list outside of the iterator makes it fail
+		it = list.iterator();
+		it.next();
+		list.add("b");
+		try {
+			it.next();
+			fail();
+		} catch (ConcurrentModificationException e) {
+			assertEquals("[a, b, c]", list.toString());
+		}
+		
+		//A repeat element does not modify the list, so the iterator can continue
+		it = list.iterator();
+		it.next();
+		try {
+			list.add("b");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("b", it.next());
+		}
+	}
+	
+	/**
+	 * Tests spliterator(), stream() and parallelStream()
+	 */
+	@Test
+	public void testSpliterator() {
+		SortedList<Integer> ints = createList(null);
+		for (int i = 0; i < 1000; i++) {
+			ints.add(i);
+		}
+		Spliterator<Integer> s = ints.spliterator();
+		assertTrue(s.hasCharacteristics(Spliterator.SIZED));
+		assertTrue(s.hasCharacteristics(Spliterator.SUBSIZED));
+		assertTrue(s.hasCharacteristics(Spliterator.ORDERED));
+		assertTrue(s.hasCharacteristics(Spliterator.SORTED));
+		assertTrue(s.hasCharacteristics(Spliterator.DISTINCT));
+		assertNull(s.getComparator());
+		assertEquals(1000, s.estimateSize());
+		
+		//Splits are even
+		Spliterator<Integer> prefix = s.trySplit();
+		assertEquals(500, prefix.estimateSize());
+		assertEquals(500, s.estimateSize());
+		final int[] first = new int[1];
+		assertTrue(prefix.tryAdvance(x -> first[0] = x));
+		assertEquals(0, first[0]);
+		assertTrue(s.tryAdvance(x -> first[0] = x));
+		assertEquals(500, first[0]);
+		
+		assertEquals(499500L, ints.stream().mapToLong(x -> x).sum());
+		assertEquals(499500L, ints.parallelStream().mapToLong(x -> x).sum());
+		assertEquals(ints.stream().collect(Collectors.toList()),
+				ints.parallelStream().collect(Collectors.toList()));
+		assertEquals(Integer.valueOf(999), ints.parallelStream().filter(x -> x % 3 == 0).reduce((a, b) -> b).get());
+		
+		//Modifying the list during traversal makes the Spliterator fail
+		try {
+			ints.spliterator().forEachRemaining(x -> {
+				if (x == 10) {
+					ints.add(1000);
+				}
+			});
+			fail();
+		} catch (ConcurrentModificationException e) {
+			assertEquals(1001, ints.size());
+		}
+	}
+	
+	/**
+	 * Tests a list ordered by a Comparator rather than natural ordering
+	 */
+	@Test
+	public void testComparator() {
+		assertNull(list.comparator());
+		
+		//Order by length, then alphabetically to break ties
+		Comparator<String> byLength = Comparator.comparingInt(String::length);
+		Comparator<String> cmp = byLength.thenComparing(Comparator.naturalOrder());
+		SortedList<String> words = createList(cmp);
+		assertSame(cmp, words.comparator());
+		assertTrue(words.add("ccc"));
+		assertTrue(words.add("a"));
+		assertTrue(words.add("bb"));
+		assertTrue(words.add("dddd"));
+		assertTrue(words.add("b"));
+		try {
+			words.add("bb");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("[a, b, bb, ccc, dddd]", words.toString());
+		}
+		assertEquals(2, words.indexOf("bb"));
+		assertTrue(words.contains("ccc"));
+		assertFalse(words.contains("cc"));
+		
+		//Bulk adds and range queries use the Comparator
+		assertTrue(words.addAll(Arrays.asList("eeeee", "aa", "a")));
+		assertEquals("[a, b, aa, bb, ccc, dddd, eeeee]", words.toString());
+		assertEquals(2, words.lowerBound("aa"));
+		assertEquals(4, words.upperBound("bb"));
+		assertEquals("ccc", words.ceiling("zz"));
+		assertEquals("bb", words.floor("zz"));
+		assertEquals(3, words.countBetween("aa", "dddd"));
+		assertEquals(Arrays.asList("aa", "bb", "ccc"), words.rangeView("aa", "dddd"));
+		try {
+			words.countBetween("dddd", "aa");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(7, words.size());
+		}
+		
+		//The Spliterator reports the Comparator
+		assertSame(cmp, words.spliterator().getComparator());
+		
+		//A Comparator that does not break ties treats elements that compare equal as repeats
+		SortedList<String> lengths = createList(byLength);
+		lengths.addAll(Arrays.asList("bb", "a", "cc", "ddd"));
+		assertEquals("[a, bb, ddd]", lengths.toString());
+		try {
+			lengths.add("ee");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("[a, bb, ddd]", lengths.toString());
+		}
+		
+		//Reverse natural ordering
+		SortedList<Integer> reversed = createList(Comparator.<Integer>reverseOrder());
+		for (int i = 0; i < 100; i++) {
+			assertTrue(reversed.add(i));
+		}
+		assertEquals(Integer.valueOf(99), reversed.get(0));
+		assertEquals(Integer.valueOf(0), reversed.get(99));
+		assertEquals(0, reversed.indexOf(99));
+	}
+
+	/**
+	 * Tests rank(e), select(k) and percentile(p), including with a Comparator
+	 */
+	@Test
+	public void testOrderStatistics() {
+		SortedList<Integer> ints = createList(null);
+		try {
+			ints.percentile(50);
+			fail();
+		} catch (NoSuchElementException e) {
+			assertEquals("List is empty", e.getMessage());
+		}
+		for (int i = 1; i <= 20; i++) {
+			ints.add(5 * i);
+		}
+		assertEquals(0, ints.rank(5));
+		assertEquals(0, ints.rank(-1));
+		assertEquals(2, ints.rank(12));
+		assertEquals(19, ints.rank(100));
+		assertEquals(20, ints.rank(101));
+		for (int k = 0; k < ints.size(); k++) {
+			assertEquals(k, ints.rank(ints.select(k)));
+		}
+		try {
+			ints.select(20);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(20, ints.size());
+		}
+		assertEquals(Integer.valueOf(5), ints.percentile(0));
+		assertEquals(Integer.valueOf(50), ints.percentile(50));
+		assertEquals(Integer.valueOf(55), ints.percentile(50.1));
+		assertEquals(Integer.valueOf(90), ints.percentile(90));
+		assertEquals(Integer.valueOf(100), ints.percentile(100));
+		try {
+			ints.percentile(-0.5);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Percentile must be between 0 and 100", e.getMessage());
+		}
+
+		SortedList<Integer> reversed = createList(Comparator.<Integer>reverseOrder());
+		reversed.addAll(Arrays.asList(1, 2, 3, 4));
+		assertEquals(Integer.valueOf(4), reversed.select(0));
+		assertEquals(1, reversed.rank(3));
+		assertEquals(Integer.valueOf(3), reversed.percentile(50));
+	}
 
+	/**
+	 * Tests that every whole percentile of the values 1 to 100 is its own value, which
+	 * fails if the rank picks up rounding error from dividing by 100 first
+	 */
+	@Test
+	public void testPercentileSweep() {
+		SortedList<Integer> ints = createList(null);
+		for (int i = 100; i >= 1; i--) {
+			ints.add(i);
+		}
+		for (int p = 0; p <= 100; p++) {
+			assertEquals(Integer.valueOf(Math.max(p, 1)), ints.percentile(p));
+		}
+	}
 }
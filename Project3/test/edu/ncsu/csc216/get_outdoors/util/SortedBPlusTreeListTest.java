@@ -0,0 +1,163 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for SortedBPlusTreeList. Runs every test in SortedArrayListTest against
+ * the tree, plus tests sized to split and merge nodes on several levels.
+ * @author Noah Benveniste
+ */
+public class SortedBPlusTreeListTest extends SortedArrayListTest {
+
+	@Override
+	protected <T extends Comparable<T>> SortedList<T> createList(Comparator<? super T> comparator) {
+		return new SortedBPlusTreeList<T>(comparator);
+	}
+
+	/**
+	 * Tests a long random sequence of adds and removes against a SortedArrayList, with
+	 * enough elements for the tree to grow to three levels and shrink again
+	 */
+	@Test
+	public void testAgainstSortedArrayList() {
+		Random rand = new Random(216);
+		SortedBPlusTreeList<Integer> tree = new SortedBPlusTreeList<Integer>();
+		SortedArrayList<Integer> array = new SortedArrayList<Integer>();
+		for (int i = 0; i < 400000; i++) {
+			//Grow for the first half, then shrink
+			if (array.isEmpty() || rand.nextInt(4) < (i < 200000 ? 3 : 1)) {
+				Integer x = rand.nextInt(1 << 20);
+				if (array.contains(x)) {
+					assertTrue(tree.contains(x));
+				} else {
+					assertTrue(array.add(x));
+					assertTrue(tree.add(x));
+				}
+			} else {
+				int index = rand.nextInt(array.size());
+				assertEquals(array.remove(index), tree.remove(index));
+			}
+			assertEquals(array.size(), tree.size());
+			if (i == 200000) {
+				assertEquals(3, tree.height());
+				checkSame(array, tree);
+			}
+		}
+		checkSame(array, tree);
+		for (int x = -1; x <= 1 << 20; x += 4099) {
+			assertEquals(array.lowerBound(x), tree.lowerBound(x));
+			assertEquals(array.upperBound(x), tree.upperBound(x));
+		}
+
+		while (!tree.isEmpty()) {
+			tree.remove(rand.nextInt(tree.size()));
+		}
+		assertEquals(0, tree.height());
+		assertEquals("[]", tree.toString());
+		assertTrue(tree.add(1));
+		assertEquals(Integer.valueOf(1), tree.get(0));
+	}
+
+	/**
+	 * Tests that adding in ascending and descending order packs the leaves full
+	 */
+	@Test
+	public void testSequentialAdds() {
+		int n = SortedBPlusTreeList.LEAF_CAPACITY * SortedBPlusTreeList.INTERNAL_CAPACITY;
+		SortedBPlusTreeList<Integer> up = new SortedBPlusTreeList<Integer>();
+		SortedBPlusTreeList<Integer> down = new SortedBPlusTreeList<Integer>();
+		for (int i = 0; i < n; i++) {
+			assertTrue(up.add(i));
+			assertTrue(down.add(n - 1 - i));
+		}
+		//Full leaves fit exactly under one root
+		assertEquals(2, up.height());
+		assertEquals(2, down.height());
+		for (int i = 0; i < n; i++) {
+			assertEquals(Integer.valueOf(i), up.get(i));
+			assertEquals(Integer.valueOf(i), down.get(i));
+		}
+	}
+
+	/**
+	 * Tests building the tree from a collection, then adding to and iterating over it
+	 */
+	@Test
+	public void testSortedBPlusTreeListCollection() {
+		Random rand = new Random(216);
+		List<Integer> values = new ArrayList<Integer>();
+		for (int i = 0; i < 100000; i++) {
+			values.add(rand.nextInt(1 << 18));
+		}
+		SortedBPlusTreeList<Integer> tree = new SortedBPlusTreeList<Integer>(values);
+		SortedArrayList<Integer> array = new SortedArrayList<Integer>(values);
+		checkSame(array, tree);
+		assertFalse(tree.addAll(values));
+
+		for (int i = 0; i < 1000; i++) {
+			Integer x = rand.nextInt(1 << 18);
+			if (array.contains(x)) {
+				assertTrue(tree.contains(x));
+			} else {
+				assertTrue(array.add(x));
+				assertTrue(tree.add(x));
+			}
+		}
+		checkSame(array, tree);
+
+		//Every other element removed through the iterator
+		Iterator<Integer> it = tree.iterator();
+		int count = 0;
+		while (it.hasNext()) {
+			it.next();
+			if (count++ % 2 == 0) {
+				it.remove();
+			}
+		}
+		assertEquals((array.size() + 1) / 2, array.size() - tree.size());
+		for (int i = 0; i < tree.size(); i++) {
+			assertEquals(array.get(2 * i + 1), tree.get(i));
+		}
+
+		//Range views and parallel streams walk the leaves
+		Integer from = tree.get(100);
+		Integer to = tree.get(5000);
+		assertEquals(tree.stream().skip(100).limit(4900).collect(Collectors.toList()),
+				new ArrayList<Integer>(tree.rangeView(from, to)));
+		assertEquals(tree.stream().collect(Collectors.toList()),
+				tree.parallelStream().collect(Collectors.toList()));
+
+		try {
+			new SortedBPlusTreeList<Integer>((List<Integer>) null);
+			fail();
+		} catch (NullPointerException e) {
+			//Expected
+		}
+	}
+
+	/**
+	 * Checks that the tree holds the same elements as the array list
+	 * @param array the expected elements
+	 * @param tree the tree to check
+	 */
+	private static void checkSame(SortedArrayList<Integer> array, SortedBPlusTreeList<Integer> tree) {
+		assertEquals(array.size(), tree.size());
+		Iterator<Integer> it = tree.iterator();
+		for (int i = 0; i < array.size(); i++) {
+			assertEquals(array.get(i), tree.get(i));
+			assertEquals(array.get(i), it.next());
+			assertEquals(i, tree.indexOf(array.get(i)));
+		}
+		assertFalse(it.hasNext());
+	}
+
+}
@@ -0,0 +1,197 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for SortedConcurrentSkipList
+ * @author Noah Benveniste
+ */
+public class SortedConcurrentSkipListTest {
+
+	private SortedConcurrentSkipList<String> list;
+
+	/**
+	 * Sets up a SortedConcurrentSkipList object to be used throughout testing
+	 */
+	@Before
+	public void setUp() {
+		list = new SortedConcurrentSkipList<String>();
+	}
+
+	/**
+	 * Tests add(e), contains(e) and removeElement(e)
+	 */
+	@Test
+	public void testAdd() {
+		assertEquals("[]", list.toString());
+		assertTrue(list.isEmpty());
+		assertTrue(list.add("d"));
+		assertTrue(list.add("b"));
+		assertTrue(list.add("g"));
+		try {
+			list.add("b");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Cannot add duplicate elements", e.getMessage());
+		}
+		assertEquals(3, list.size());
+		assertEquals("[b, d, g]", list.toString());
+		assertTrue(list.contains("d"));
+		assertFalse(list.contains("c"));
+
+		assertTrue(list.removeElement("d"));
+		assertFalse(list.removeElement("d"));
+		assertEquals("[b, g]", list.toString());
+		list.addAll(Arrays.asList("a", "c", "e"));
+		assertTrue(list.removeIf(s -> s.compareTo("c") < 0));
+		assertTrue(list.removeAll(Arrays.asList("e", "z")));
+		assertEquals("[c, g]", list.toString());
+		list.removeRange(0, 1);
+		assertEquals("[g]", list.toString());
+		list.add("b");
+
+		try {
+			list.add(null);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("Cannot add null elements", e.getMessage());
+		}
+		try {
+			list.addAll(Arrays.asList("a", null));
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("[b, g]", list.toString());
+		}
+	}
+
+	/**
+	 * Tests the positional operations
+	 */
+	@Test
+	public void testPositions() {
+		list.addAll(Arrays.asList("f", "b", "h", "d"));
+		assertEquals("b", list.get(0));
+		assertEquals("h", list.get(3));
+		assertEquals(2, list.indexOf("f"));
+		assertEquals(-1, list.indexOf("c"));
+		assertEquals(1, list.lowerBound("c"));
+		assertEquals(1, list.lowerBound("d"));
+		assertEquals(2, list.upperBound("d"));
+		assertEquals("d", list.floor("e"));
+		assertEquals("f", list.ceiling("e"));
+		assertNull(list.ceiling("i"));
+		assertEquals(2, list.countBetween("c", "g"));
+		assertEquals(Arrays.asList("d", "f"), list.rangeView("c", "g"));
+
+		assertEquals("d", list.remove(1));
+		assertEquals("[b, f, h]", list.toString());
+		try {
+			list.get(3);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(3, list.size());
+		}
+		try {
+			list.remove(-1);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(3, list.size());
+		}
+		try {
+			list.countBetween("g", "c");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Range start cannot be greater than range end", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests that iterators are weakly consistent
+	 */
+	@Test
+	public void testIterator() {
+		list.addAll(Arrays.asList("a", "c", "e"));
+		Iterator<String> it = list.iterator();
+		assertEquals("a", it.next());
+		list.add("d");
+		list.removeElement("e");
+		assertEquals("c", it.next());
+		assertEquals("d", it.next());
+		it.remove();
+		assertFalse(it.hasNext());
+		assertEquals("[a, c]", list.toString());
+
+		Spliterator<String> s = list.spliterator();
+		assertTrue(s.hasCharacteristics(Spliterator.CONCURRENT));
+		assertTrue(s.hasCharacteristics(Spliterator.SORTED));
+		assertNull(s.getComparator());
+	}
+
+	/**
+	 * Tests a list ordered by a Comparator
+	 */
+	@Test
+	public void testComparator() {
+		SortedConcurrentSkipList<Integer> reversed = new SortedConcurrentSkipList<Integer>(
+				Comparator.<Integer>reverseOrder());
+		reversed.addAll(Arrays.asList(1, 5, 3, 2, 4));
+		assertEquals("[5, 4, 3, 2, 1]", reversed.toString());
+		assertEquals(1, reversed.indexOf(4));
+		assertEquals(2, reversed.countBetween(4, 2));
+		assertNotNull(reversed.comparator());
+	}
+
+	/**
+	 * Tests many threads adding and removing at once. Each thread adds its own range of
+	 * keys and removes every other one, and each add and remove must succeed exactly
+	 * once.
+	 */
+	@Test
+	public void testConcurrentWriters() throws InterruptedException {
+		SortedConcurrentSkipList<Integer> ints = new SortedConcurrentSkipList<Integer>();
+		int threads = 8;
+		int perThread = 5000;
+		AtomicInteger failures = new AtomicInteger();
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			final int base = t;
+			workers[t] = new Thread(() -> {
+				//Interleave keys between threads so they write to the same parts of the list
+				for (int i = 0; i < perThread; i++) {
+					if (!ints.add(i * threads + base)) {
+						failures.incrementAndGet();
+					}
+				}
+				for (int i = 0; i < perThread; i += 2) {
+					if (!ints.removeElement(i * threads + base)) {
+						failures.incrementAndGet();
+					}
+				}
+			});
+		}
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		assertEquals(0, failures.get());
+		assertEquals(threads * perThread / 2, ints.size());
+		Integer last = null;
+		for (Integer x : ints) {
+			assertEquals(1, (x / threads) % 2);
+			assertTrue(last == null || last < x);
+			last = x;
+		}
+	}
+
+}
@@ -0,0 +1,184 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for SortedCopyOnWriteArrayList. Runs every test in SortedArrayListTest
+ * against the list, except that iterators and spliterators are tested for snapshot
+ * behavior rather than failing fast.
+ * @author Noah Benveniste
+ */
+public class SortedCopyOnWriteArrayListTest extends SortedArrayListTest {
+
+	@Override
+	protected <T extends Comparable<T>> SortedList<T> createList(Comparator<? super T> comparator) {
+		return new SortedCopyOnWriteArrayList<T>(comparator);
+	}
+
+	/**
+	 * Tests that iterators see the snapshot they were created from
+	 */
+	@Override
+	@Test
+	public void testIterator() {
+		SortedCopyOnWriteArrayList<String> list = new SortedCopyOnWriteArrayList<String>();
+		assertFalse(list.iterator().hasNext());
+		list.addAll(Arrays.asList("c", "a", "b"));
+
+		Iterator<String> it = list.iterator();
+		assertEquals("a", it.next());
+		list.add("aa");
+		list.remove(list.size() - 1);
+		assertEquals("b", it.next());
+		assertEquals("c", it.next());
+		assertFalse(it.hasNext());
+		try {
+			it.next();
+			fail();
+		} catch (NoSuchElementException e) {
+			assertEquals("[a, aa, b]", list.toString());
+		}
+		try {
+			list.iterator().remove();
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals(3, list.size());
+		}
+	}
+
+	/**
+	 * Tests spliterator(), stream() and parallelStream() over snapshots
+	 */
+	@Override
+	@Test
+	public void testSpliterator() {
+		SortedCopyOnWriteArrayList<Integer> ints = new SortedCopyOnWriteArrayList<Integer>();
+		for (int i = 0; i < 1000; i++) {
+			ints.add(i);
+		}
+		Spliterator<Integer> s = ints.spliterator();
+		assertTrue(s.hasCharacteristics(Spliterator.IMMUTABLE));
+		assertTrue(s.hasCharacteristics(Spliterator.SIZED));
+		assertTrue(s.hasCharacteristics(Spliterator.SORTED));
+		assertNull(s.getComparator());
+		assertEquals(1000, s.estimateSize());
+		assertEquals(500, s.trySplit().estimateSize());
+
+		assertEquals(499500L, ints.parallelStream().mapToLong(x -> x).sum());
+		assertEquals(ints.stream().collect(Collectors.toList()),
+				ints.parallelStream().collect(Collectors.toList()));
+
+		//Writing during traversal does not affect the traversal
+		final int[] count = new int[1];
+		ints.spliterator().forEachRemaining(x -> {
+			if (x == 10) {
+				ints.add(-1);
+			}
+			count[0]++;
+		});
+		assertEquals(1000, count[0]);
+		assertEquals(1001, ints.size());
+	}
+
+	/**
+	 * Tests update(Consumer) and snapshot()
+	 */
+	@Test
+	public void testUpdate() {
+		SortedCopyOnWriteArrayList<String> list = new SortedCopyOnWriteArrayList<String>(
+				Arrays.asList("b", "d", "f"));
+		List<String> before = list.snapshot();
+		list.update(batch -> {
+			batch.add("a");
+			batch.add("e");
+			batch.remove(batch.indexOf("d"));
+		});
+		assertEquals("[a, b, e, f]", list.toString());
+		assertEquals(Arrays.asList("b", "d", "f"), before);
+		try {
+			before.set(0, "z");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals("b", before.get(0));
+		}
+
+		//A failed batch publishes nothing
+		try {
+			list.update(batch -> {
+				batch.add("c");
+				batch.add(null);
+			});
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("[a, b, e, f]", list.toString());
+		}
+
+		//Range views are snapshots too
+		List<String> view = list.rangeView("b", "f");
+		list.update(batch -> batch.addAll(Arrays.asList("c", "d")));
+		assertEquals(Arrays.asList("b", "e"), view);
+		assertEquals(4, list.countBetween("b", "f"));
+		assertEquals("[a, b, c, d, e, f]", list.toString());
+		assertEquals("[]", new SortedCopyOnWriteArrayList<String>().toString());
+	}
+
+	/**
+	 * Tests that readers always see a consistent list while a writer publishes batches.
+	 * Each batch adds a pair of elements, so every snapshot has an even size and holds
+	 * whole pairs.
+	 */
+	@Test
+	public void testConcurrentReaders() throws InterruptedException {
+		SortedCopyOnWriteArrayList<Integer> list = new SortedCopyOnWriteArrayList<Integer>();
+		AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		Thread writer = new Thread(() -> {
+			for (int i = 0; i < 2000; i++) {
+				final int pair = i;
+				list.update(batch -> {
+					batch.add(2 * pair);
+					batch.add(2 * pair + 1);
+				});
+			}
+		});
+		Thread[] readers = new Thread[4];
+		for (int r = 0; r < readers.length; r++) {
+			readers[r] = new Thread(() -> {
+				try {
+					while (list.size() < 4000) {
+						List<Integer> snapshot = list.snapshot();
+						assertEquals(0, snapshot.size() % 2);
+						for (int i = 0; i < snapshot.size(); i++) {
+							assertEquals(Integer.valueOf(i), snapshot.get(i));
+						}
+						Integer last = list.floor(Integer.MAX_VALUE);
+						assertTrue(last == null || last % 2 == 1);
+					}
+				} catch (Throwable t) {
+					failure.compareAndSet(null, t);
+				}
+			});
+		}
+		writer.start();
+		for (Thread reader : readers) {
+			reader.start();
+		}
+		writer.join();
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		assertNull(failure.get());
+		assertEquals(4000, list.size());
+	}
+
+}
@@ -0,0 +1,127 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for SortedDoubleList
+ * @author Noah Benveniste
+ */
+public class SortedDoubleListTest {
+
+	private SortedDoubleList list;
+
+	/**
+	 * Sets up a SortedDoubleList object to be used throughout testing
+	 */
+	@Before
+	public void setUp() {
+		list = new SortedDoubleList();
+	}
+
+	/**
+	 * Tests add(), get(), remove() and removeValue(), including repeated values and
+	 * signed zeroes
+	 */
+	@Test
+	public void testAdd() {
+		assertTrue(list.isEmpty());
+		list.add(2.5);
+		list.add(0.0);
+		list.add(-0.0);
+		list.add(2.5);
+		list.add(Double.NEGATIVE_INFINITY);
+		assertEquals(5, list.size());
+		assertEquals("[-Infinity, -0.0, 0.0, 2.5, 2.5]", list.toString());
+		assertEquals(-0.0, list.get(1), 0);
+		assertEquals(1, list.indexOf(-0.0));
+		assertEquals(2, list.indexOf(0.0));
+
+		assertEquals(2.5, list.remove(4), 0);
+		assertTrue(list.removeValue(-0.0));
+		assertFalse(list.removeValue(1.0));
+		assertEquals("[-Infinity, 0.0, 2.5]", list.toString());
+		try {
+			list.add(Double.NaN);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Value cannot be NaN", e.getMessage());
+		}
+		try {
+			list.get(3);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals("Index is outside the acceptable range", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests addAll() and the array constructor
+	 */
+	@Test
+	public void testAddAll() {
+		list.add(1.5);
+		list.addAll(new double[] {3.0, 1.5, -2.0});
+		assertEquals("[-2.0, 1.5, 1.5, 3.0]", list.toString());
+		try {
+			list.addAll(new double[] {4.0, Double.NaN});
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(4, list.size());
+		}
+		try {
+			new SortedDoubleList(new double[] {Double.NaN});
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Value cannot be NaN", e.getMessage());
+		}
+		list = new SortedDoubleList(new double[] {9.0, -1.0, 4.5});
+		assertArrayEquals(new double[] {-1.0, 4.5, 9.0}, list.toArray(), 0);
+	}
+
+	/**
+	 * Tests lowerBound(), upperBound(), countBetween() and percentile()
+	 */
+	@Test
+	public void testSearch() {
+		try {
+			list.percentile(0);
+			fail();
+		} catch (NoSuchElementException e) {
+			assertEquals("List is empty", e.getMessage());
+		}
+		list.addAll(new double[] {0.5, 1.0, 1.0, 2.0, 3.5});
+		assertEquals(1, list.lowerBound(1.0));
+		assertEquals(3, list.upperBound(1.0));
+		assertEquals(3, list.countBetween(0.75, 2.5));
+		assertEquals(5, list.countBetween(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+		try {
+			list.countBetween(2.0, 1.0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Range start cannot be greater than range end", e.getMessage());
+		}
+		assertEquals(0.5, list.percentile(0), 0);
+		assertEquals(1.0, list.percentile(40), 0);
+		assertEquals(2.0, list.percentile(80), 0);
+		assertEquals(3.5, list.percentile(100), 0);
+	}
+
+	/**
+	 * Tests that every whole percentile of the values 1 to 100 is its own value
+	 */
+	@Test
+	public void testPercentileSweep() {
+		for (int i = 1; i <= 100; i++) {
+			list.add(i);
+		}
+		for (int p = 0; p <= 100; p++) {
+			assertEquals(Math.max(p, 1), list.percentile(p), 0);
+		}
+	}
+
+}
@@ -0,0 +1,189 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for SortedIntList
+ * @author Noah Benveniste
+ */
+public class SortedIntListTest {
+
+	private SortedIntList list;
+
+	/**
+	 * Sets up a SortedIntList object to be used throughout testing
+	 */
+	@Before
+	public void setUp() {
+		list = new SortedIntList();
+	}
+
+	/**
+	 * Tests add(), get(), remove() and removeValue(), including repeated values
+	 */
+	@Test
+	public void testAdd() {
+		assertTrue(list.isEmpty());
+		assertEquals("[]", list.toString());
+		list.add(5);
+		list.add(-3);
+		list.add(5);
+		list.add(Integer.MAX_VALUE);
+		list.add(0);
+		assertEquals(5, list.size());
+		assertEquals("[-3, 0, 5, 5, " + Integer.MAX_VALUE + "]", list.toString());
+		assertEquals(-3, list.get(0));
+		assertEquals(5, list.get(3));
+
+		assertEquals(0, list.remove(1));
+		assertTrue(list.removeValue(5));
+		assertFalse(list.removeValue(4));
+		assertEquals("[-3, 5, " + Integer.MAX_VALUE + "]", list.toString());
+		try {
+			list.get(3);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals("Index is outside the acceptable range", e.getMessage());
+		}
+		try {
+			list.remove(-1);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(3, list.size());
+		}
+		list.clear();
+		assertTrue(list.isEmpty());
+	}
+
+	/**
+	 * Tests addAll() and the array constructor, including growing the array
+	 */
+	@Test
+	public void testAddAll() {
+		list = new SortedIntList(2);
+		list.add(4);
+		list.add(10);
+		list.addAll(new int[] {12, 4, -1, 7});
+		assertEquals("[-1, 4, 4, 7, 10, 12]", list.toString());
+		assertTrue(list.capacity() >= 6);
+		list.trimToSize();
+		assertEquals(6, list.capacity());
+		list.addAll(new int[0]);
+		assertEquals(6, list.size());
+
+		int[] source = {3, 1, 2};
+		list = new SortedIntList(source);
+		assertEquals("[1, 2, 3]", list.toString());
+		assertArrayEquals(new int[] {3, 1, 2}, source);
+		try {
+			list.addAll(null);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals(3, list.size());
+		}
+		try {
+			new SortedIntList(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Capacity cannot be negative", e.getMessage());
+		}
+
+		Random rand = new Random(216);
+		int[] expected = new int[500];
+		list = new SortedIntList();
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = rand.nextInt(50);
+			if (i % 2 == 0) {
+				list.add(expected[i]);
+			}
+		}
+		int[] rest = new int[250];
+		for (int i = 0; i < rest.length; i++) {
+			rest[i] = expected[2 * i + 1];
+		}
+		list.addAll(rest);
+		Arrays.sort(expected);
+		assertArrayEquals(expected, list.toArray());
+	}
+
+	/**
+	 * Tests indexOf(), contains(), lowerBound(), upperBound() and countBetween()
+	 */
+	@Test
+	public void testSearch() {
+		list.addAll(new int[] {10, 20, 20, 20, 30});
+		assertEquals(1, list.indexOf(20));
+		assertEquals(-1, list.indexOf(25));
+		assertTrue(list.contains(30));
+		assertFalse(list.contains(5));
+		assertEquals(1, list.lowerBound(20));
+		assertEquals(4, list.upperBound(20));
+		assertEquals(0, list.lowerBound(Integer.MIN_VALUE));
+		assertEquals(5, list.upperBound(30));
+		assertEquals(3, list.countBetween(20, 30));
+		assertEquals(4, list.countBetween(11, 31));
+		assertEquals(0, list.countBetween(20, 20));
+		try {
+			list.countBetween(30, 20);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Range start cannot be greater than range end", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests percentile()
+	 */
+	@Test
+	public void testPercentile() {
+		try {
+			list.percentile(50);
+			fail();
+		} catch (NoSuchElementException e) {
+			assertEquals("List is empty", e.getMessage());
+		}
+		for (int i = 1; i <= 10; i++) {
+			list.add(i * 10);
+		}
+		assertEquals(10, list.percentile(0));
+		assertEquals(10, list.percentile(10));
+		assertEquals(20, list.percentile(10.5));
+		assertEquals(50, list.percentile(50));
+		assertEquals(90, list.percentile(90));
+		assertEquals(100, list.percentile(100));
+		try {
+			list.percentile(100.5);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Percentile must be between 0 and 100", e.getMessage());
+		}
+		try {
+			list.percentile(Double.NaN);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(10, list.size());
+		}
+	}
+
+	/**
+	 * Tests that every whole percentile of the values 1 to 100 is its own value, which
+	 * fails if the rank picks up rounding error from dividing by 100 first
+	 */
+	@Test
+	public void testPercentileSweep() {
+		for (int i = 1; i <= 100; i++) {
+			list.add(i);
+		}
+		for (int p = 0; p <= 100; p++) {
+			assertEquals(Math.max(p, 1), list.percentile(p));
+		}
+	}
+
+}
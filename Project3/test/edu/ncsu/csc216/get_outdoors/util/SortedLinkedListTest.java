@@ -2,18 +2,273 @@ package edu.ncsu.csc216.get_outdoors.util;
 
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import org.junit.Before;
 import org.junit.Test;
 
+/**
+ * Unit tests for SortedLinkedList
+ * @author Noah Benveniste
+ */
 public class SortedLinkedListTest {
 
+	private SortedLinkedList<String> list;
+
+	/**
+	 * Sets up a SortedLinkedList object to be used throughout testing
+	 */
 	@Before
-	public void setUp() throws Exception {
+	public void setUp() {
+		list = new SortedLinkedList<String>();
+	}
+
+	/**
+	 * Tests the default constructor
+	 */
+	@Test
+	public void testSortedLinkedList() {
+		assertEquals(0, list.size());
+		assertTrue(list.isEmpty());
+		assertEquals("[]", list.toString());
+		assertNull(list.comparator());
+	}
+
+	/**
+	 * Tests add(e)
+	 */
+	@Test
+	public void testAdd() {
+		assertTrue(list.add("d"));
+		assertEquals("[d]", list.toString());
+		assertTrue(list.add("b"));
+		assertTrue(list.add("g"));
+		assertTrue(list.add("a"));
+		assertTrue(list.add("c"));
+		assertEquals(5, list.size());
+		assertEquals("[a, b, c, d, g]", list.toString());
+
+		//Repeat elements are not added
+		try {
+			list.add("c");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(5, list.size());
+		}
+
+		try {
+			list.add(null);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("[a, b, c, d, g]", list.toString());
+		}
+	}
+
+	/**
+	 * Tests get(int)
+	 */
+	@Test
+	public void testGet() {
+		list.addAll(Arrays.asList("c", "a", "b"));
+		assertEquals("a", list.get(0));
+		assertEquals("b", list.get(1));
+		assertEquals("c", list.get(2));
+		try {
+			list.get(-1);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals("[a, b, c]", list.toString());
+		}
+		try {
+			list.get(list.size());
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals("[a, b, c]", list.toString());
+		}
+	}
+
+	/**
+	 * Tests remove(int)
+	 */
+	@Test
+	public void testRemove() {
+		list.addAll(Arrays.asList("c", "b", "g", "e", "d", "f", "a"));
+		assertEquals("a", list.remove(0));
+		assertEquals("[b, c, d, e, f, g]", list.toString());
+		assertEquals("g", list.remove(list.size() - 1));
+		assertEquals("[b, c, d, e, f]", list.toString());
+		assertEquals("d", list.remove(2));
+		assertEquals("[b, c, e, f]", list.toString());
+		assertEquals(4, list.size());
+		assertTrue(list.add("d"));
+		assertEquals("[b, c, d, e, f]", list.toString());
+
+		try {
+			list.remove(-1);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals("[b, c, d, e, f]", list.toString());
+		}
+		try {
+			list.remove(list.size());
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals("[b, c, d, e, f]", list.toString());
+		}
+
+		//Empty the list and fill it again
+		while (!list.isEmpty()) {
+			list.remove(0);
+		}
+		assertEquals("[]", list.toString());
+		assertTrue(list.add("z"));
+		assertEquals("z", list.get(0));
+	}
+
+	/**
+	 * Tests contains(e), indexOf(e) and the range operations
+	 */
+	@Test
+	public void testSearch() {
+		assertFalse(list.contains("a"));
+		assertEquals(-1, list.indexOf("a"));
+		list.addAll(Arrays.asList("b", "d", "f", "h"));
+		assertTrue(list.contains("b"));
+		assertTrue(list.contains("h"));
+		assertFalse(list.contains("c"));
+		assertEquals(2, list.indexOf("f"));
+		assertEquals(-1, list.indexOf("z"));
+
+		assertEquals(0, list.lowerBound("a"));
+		assertEquals(1, list.lowerBound("d"));
+		assertEquals(2, list.upperBound("d"));
+		assertEquals(4, list.upperBound("z"));
+		assertEquals("d", list.floor("e"));
+		assertEquals("f", list.ceiling("e"));
+		assertEquals(2, list.countBetween("c", "g"));
+		assertEquals(Arrays.asList("d", "f"), list.rangeView("c", "g"));
+
+		try {
+			list.contains(null);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("List cannot have null elements", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests iterator() and stream()
+	 */
+	@Test
+	public void testIterator() {
+		list.addAll(Arrays.asList("c", "a", "b"));
+		String out = "";
+		for (String s : list) {
+			out += s;
+		}
+		assertEquals("abc", out);
+		assertEquals("a,b,c", list.stream().collect(Collectors.joining(",")));
+
+		Iterator<String> it = list.iterator();
+		it.next();
+		it.remove();
+		assertEquals("b", it.next());
+		assertEquals("[b, c]", list.toString());
+
+		it = list.iterator();
+		it.next();
+		list.add("a");
+		try {
+			it.next();
+			fail();
+		} catch (ConcurrentModificationException e) {
+			assertEquals("[a, b, c]", list.toString());
+		}
+
+		it = list.iterator();
+		it.next();
+		it.next();
+		it.next();
+		try {
+			it.next();
+			fail();
+		} catch (NoSuchElementException e) {
+			assertFalse(it.hasNext());
+		}
+	}
+
+	/**
+	 * Tests a list ordered by a Comparator
+	 */
+	@Test
+	public void testComparator() {
+		SortedLinkedList<Integer> reversed = new SortedLinkedList<Integer>(Comparator.reverseOrder());
+		reversed.addAll(Arrays.asList(1, 5, 3, 2, 4));
+		assertEquals("[5, 4, 3, 2, 1]", reversed.toString());
+		assertEquals(1, reversed.indexOf(4));
+		assertEquals(2, reversed.lowerBound(3));
+	}
+
+	/**
+	 * Tests that the default spliterator() reports SORTED with the list's Comparator,
+	 * as SortedArrayList's does, whether or not the list has one
+	 */
+	@Test
+	public void testSpliterator() {
+		list.addAll(Arrays.asList("c", "a", "b"));
+		Spliterator<String> s = list.spliterator();
+		assertTrue(s.hasCharacteristics(Spliterator.SORTED | Spliterator.SIZED | Spliterator.DISTINCT));
+		assertNull(s.getComparator());
+		assertEquals(3, s.estimateSize());
+
+		Comparator<Integer> cmp = Comparator.reverseOrder();
+		SortedLinkedList<Integer> reversed = new SortedLinkedList<Integer>(cmp);
+		reversed.addAll(Arrays.asList(1, 5, 3, 2, 4));
+		Spliterator<Integer> r = reversed.spliterator();
+		assertTrue(r.hasCharacteristics(Spliterator.SORTED));
+		assertSame(cmp, r.getComparator());
+		assertEquals(Arrays.asList(5, 4, 3, 2, 1), reversed.stream().collect(Collectors.toList()));
+		assertEquals(Arrays.asList(5, 4, 3, 2, 1), reversed.stream().sorted(cmp).collect(Collectors.toList()));
 	}
 
+	/**
+	 * Tests a long random sequence of adds and removes against a SortedArrayList
+	 */
 	@Test
-	public void test() {
-		fail("Not yet implemented");
+	public void testAgainstSortedArrayList() {
+		Random rand = new Random(216);
+		SortedLinkedList<Integer> skip = new SortedLinkedList<Integer>();
+		SortedArrayList<Integer> array = new SortedArrayList<Integer>();
+		for (int i = 0; i < 20000; i++) {
+			if (array.isEmpty() || rand.nextInt(3) > 0) {
+				Integer x = rand.nextInt(5000);
+				if (array.contains(x)) {
+					assertTrue(skip.contains(x));
+				} else {
+					assertTrue(array.add(x));
+					assertTrue(skip.add(x));
+				}
+			} else {
+				int index = rand.nextInt(array.size());
+				assertEquals(array.remove(index), skip.remove(index));
+			}
+			assertEquals(array.size(), skip.size());
+		}
+		for (int i = 0; i < array.size(); i++) {
+			assertEquals(array.get(i), skip.get(i));
+			assertEquals(i, skip.indexOf(array.get(i)));
+		}
+		for (int x = -1; x <= 5000; x += 7) {
+			assertEquals(array.lowerBound(x), skip.lowerBound(x));
+			assertEquals(array.upperBound(x), skip.upperBound(x));
+		}
 	}
 
 }
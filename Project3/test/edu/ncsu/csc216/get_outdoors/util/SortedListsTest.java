@@ -0,0 +1,168 @@
+package edu.ncsu.csc216.get_outdoors.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for SortedLists
+ * @author Noah Benveniste
+ */
+public class SortedListsTest {
+
+	/**
+	 * Tests merging lists with and without repeats
+	 */
+	@Test
+	public void testMergedIterator() {
+		SortedList<String> a = new SortedArrayList<String>(Arrays.asList("b", "e", "h"));
+		SortedList<String> b = new SortedLinkedList<String>(Arrays.asList("a", "e", "i"));
+		SortedList<String> c = new SortedBPlusTreeList<String>(Arrays.asList("c", "e", "h"));
+		SortedList<String> empty = new SortedArrayList<String>();
+		List<SortedList<String>> lists = Arrays.asList(a, empty, b, c);
+
+		Iterator<String> it = SortedLists.mergedIterator(lists);
+		List<String> merged = new ArrayList<String>();
+		while (it.hasNext()) {
+			merged.add(it.next());
+		}
+		assertEquals(Arrays.asList("a", "b", "c", "e", "e", "e", "h", "h", "i"), merged);
+		try {
+			it.next();
+			fail();
+		} catch (NoSuchElementException e) {
+			assertFalse(it.hasNext());
+		}
+
+		SortedLists.MergedView<String> view = SortedLists.mergedView(lists, null, true);
+		assertEquals("a,b,c,e,h,i", view.stream().collect(Collectors.joining(",")));
+
+		//The view merges the lists as they are when it is iterated
+		a.add("d");
+		assertEquals("a,b,c,d,e,h,i", view.stream().collect(Collectors.joining(",")));
+
+		assertFalse(SortedLists.mergedIterator(Collections.<SortedList<String>>emptyList()).hasNext());
+		try {
+			SortedLists.mergedIterator(Arrays.asList(a, null));
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("Lists cannot be null", e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests that elements that compare equal come out in list order
+	 */
+	@Test
+	public void testComparator() {
+		Comparator<String> byLength = Comparator.comparingInt(String::length);
+		SortedList<String> a = new SortedArrayList<String>(byLength);
+		a.addAll(Arrays.asList("aa", "bbbb"));
+		SortedList<String> b = new SortedArrayList<String>(byLength);
+		b.addAll(Arrays.asList("x", "yy", "zzz"));
+		List<String> merged = new ArrayList<String>();
+		for (String s : SortedLists.mergedView(Arrays.asList(a, b), byLength, false)) {
+			merged.add(s);
+		}
+		assertEquals(Arrays.asList("x", "aa", "yy", "zzz", "bbbb"), merged);
+		merged.clear();
+		for (String s : SortedLists.mergedView(Arrays.asList(b, a), byLength, true)) {
+			merged.add(s);
+		}
+		assertEquals(Arrays.asList("x", "yy", "zzz", "bbbb"), merged);
+	}
+
+	/**
+	 * Tests merging many random lists against sorting everything
+	 */
+	@Test
+	public void testManyLists() {
+		Random rand = new Random(216);
+		List<SortedList<Integer>> lists = new ArrayList<SortedList<Integer>>();
+		List<Integer> all = new ArrayList<Integer>();
+		for (int i = 0; i < 50; i++) {
+			SortedList<Integer> list = new SortedArrayList<Integer>();
+			for (int j = rand.nextInt(200); j > 0; j--) {
+				Integer x = rand.nextInt(5000);
+				if (!list.contains(x)) {
+					list.add(x);
+					all.add(x);
+				}
+			}
+			lists.add(list);
+		}
+		Collections.sort(all);
+		List<Integer> merged = SortedLists.mergedView(lists, null, false).stream().collect(Collectors.toList());
+		assertEquals(all, merged);
+		List<Integer> distinct = SortedLists.mergedView(lists, null, true).stream().collect(Collectors.toList());
+		assertEquals(all.stream().distinct().collect(Collectors.toList()), distinct);
+	}
+
+	/**
+	 * Tests percentile by key against sorting the keys, including repeated keys
+	 */
+	@Test
+	public void testPercentile() {
+		List<String> words = Arrays.asList("pine", "oak", "birch", "fir", "maple", "elm", "ash", "sequoia");
+		//Word lengths, sorted: 3, 3, 3, 3, 4, 5, 5, 7
+		assertEquals(Integer.valueOf(3), SortedLists.percentile(words, String::length, 0));
+		assertEquals(Integer.valueOf(3), SortedLists.percentile(words, String::length, 50));
+		assertEquals(Integer.valueOf(4), SortedLists.percentile(words, String::length, 60));
+		assertEquals(Integer.valueOf(5), SortedLists.percentile(words, String::length, 75));
+		assertEquals(Integer.valueOf(7), SortedLists.percentile(words, String::length, 100));
+		//The items are not reordered
+		assertEquals("pine", words.get(0));
+
+		Random rand = new Random(216);
+		for (int trial = 0; trial < 50; trial++) {
+			List<Integer> items = new ArrayList<Integer>();
+			for (int i = rand.nextInt(300) + 1; i > 0; i--) {
+				items.add(rand.nextInt(trial + 2));
+			}
+			List<Integer> sorted = new ArrayList<Integer>(items);
+			Collections.sort(sorted);
+			for (double p : new double[] { 0, 1, 25, 50, 90, 99.9, 100 }) {
+				int rank = Math.max(1, (int) Math.ceil(p * sorted.size() / 100.0));
+				assertEquals(sorted.get(rank - 1), SortedLists.percentile(items, x -> x, p));
+			}
+		}
+
+		//Every whole percentile of the values 1 to 100 is its own value
+		List<Integer> hundred = new ArrayList<Integer>();
+		for (int i = 100; i >= 1; i--) {
+			hundred.add(i);
+		}
+		for (int p = 0; p <= 100; p++) {
+			assertEquals(Integer.valueOf(Math.max(p, 1)), SortedLists.percentile(hundred, x -> x, p));
+		}
+
+		try {
+			SortedLists.percentile(new ArrayList<String>(), String::length, 50);
+			fail();
+		} catch (NoSuchElementException e) {
+			assertEquals("List is empty", e.getMessage());
+		}
+		try {
+			SortedLists.percentile(Arrays.asList("a", null), s -> s, 50);
+			fail();
+		} catch (NullPointerException e) {
+			assertEquals("Keys cannot be null", e.getMessage());
+		}
+		try {
+			SortedLists.percentile(words, String::length, 101);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Percentile must be between 0 and 100", e.getMessage());
+		}
+	}
+}